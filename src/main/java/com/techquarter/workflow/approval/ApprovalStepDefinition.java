@@ -0,0 +1,7 @@
+package com.techquarter.workflow.approval;
+
+/**
+ * A step of a compiled approval route.
+ */
+public record ApprovalStepDefinition(int stepOrder, String name, String approverCode) {
+}
@@ -0,0 +1,153 @@
+package com.techquarter.workflow.approval;
+
+import com.techquarter.workflow.domain.event.ApprovalRoutesChangedEvent;
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import com.techquarter.workflow.domain.model.ApprovalStep;
+import com.techquarter.workflow.domain.model.ApprovalTask;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.repository.ApprovalStepFingerprint;
+import com.techquarter.workflow.domain.repository.ApprovalStepRepository;
+import com.techquarter.workflow.domain.repository.ApprovalTaskRepository;
+import com.techquarter.workflow.exception.BookingConflictException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes bookings through the approval steps of their employee's cost center.
+ * <p>
+ * Routes are held in an immutable map swapped on reload, as travel policies are: a fingerprint of
+ * {@code approval_steps} is polled every {@code workflow.approval.reload-interval}, and changes
+ * made through this instance reload right after commit. So deciding whether a booking needs
+ * approval costs no query. Tasks are opened one step at a time inside the caller's transaction;
+ * the next step is taken from the route as it is when the previous one is approved.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalWorkflowEngine implements SmartInitializingSingleton {
+
+    private final ApprovalStepRepository approvalStepRepository;
+    private final ApprovalTaskRepository approvalTaskRepository;
+
+    private volatile Map<String, List<ApprovalStepDefinition>> routes = Map.of();
+    private ApprovalStepFingerprint fingerprint;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reloadIfChanged();
+    }
+
+    @TransactionalEventListener
+    public void onRoutesChanged(ApprovalRoutesChangedEvent event) {
+        reloadIfChanged();
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.approval.reload-interval:5s}")
+    public synchronized void reloadIfChanged() {
+        ApprovalStepFingerprint current = approvalStepRepository.fingerprint();
+        if (current.equals(fingerprint)) {
+            return;
+        }
+        Map<String, List<ApprovalStepDefinition>> compiled = new HashMap<>();
+        for (ApprovalStep step : approvalStepRepository.findAllByOrderByCostCenterAscStepOrderAsc()) {
+            compiled.computeIfAbsent(step.getCostCenter(), costCenter -> new ArrayList<>())
+                    .add(new ApprovalStepDefinition(step.getStepOrder(), step.getName(), step.getApproverCode()));
+        }
+        compiled.replaceAll((costCenter, steps) -> List.copyOf(steps));
+        routes = Map.copyOf(compiled);
+        fingerprint = current;
+        log.info("Loaded approval routes for {} cost centers", compiled.size());
+    }
+
+    /**
+     * Steps a booking by an employee of {@code costCenter} goes through, falling back to the
+     * {@link ApprovalStep#DEFAULT_COST_CENTER default} route; empty when no approval is needed.
+     */
+    public List<ApprovalStepDefinition> route(String costCenter) {
+        Map<String, List<ApprovalStepDefinition>> current = routes;
+        List<ApprovalStepDefinition> route = costCenter == null ? null : current.get(costCenter);
+        return route != null ? route : current.getOrDefault(ApprovalStep.DEFAULT_COST_CENTER, List.of());
+    }
+
+    public boolean requiresApproval(Employee employee) {
+        return !route(employee.getCostCenter()).isEmpty();
+    }
+
+    /** Opens the first step of every booking that is pending approval. */
+    public List<ApprovalTask> open(List<Booking> bookings) {
+        List<ApprovalTask> tasks = new ArrayList<>();
+        for (Booking booking : bookings) {
+            if (booking.getStatus() != BookingStatus.PENDING_APPROVAL) {
+                continue;
+            }
+            List<ApprovalStepDefinition> route = route(booking.getEmployee().getCostCenter());
+            if (route.isEmpty()) {
+                throw new BookingConflictException("Approval route of cost center "
+                        + booking.getEmployee().getCostCenter() + " was removed, please retry");
+            }
+            tasks.add(task(booking, route.getFirst()));
+        }
+        return tasks.isEmpty() ? tasks : approvalTaskRepository.saveAll(tasks);
+    }
+
+    /**
+     * Opens the step after {@code approved}.
+     *
+     * @return the new task, or {@code null} when {@code approved} was the last step
+     */
+    public ApprovalTask openNext(ApprovalTask approved) {
+        for (ApprovalStepDefinition step : route(approved.getCostCenter())) {
+            if (step.stepOrder() > approved.getStepOrder()) {
+                return approvalTaskRepository.save(pending(step)
+                        .bookingId(approved.getBookingId())
+                        .costCenter(approved.getCostCenter())
+                        .requesterCode(approved.getRequesterCode())
+                        .requesterName(approved.getRequesterName())
+                        .destination(approved.getDestination())
+                        .departureDate(approved.getDepartureDate())
+                        .returnDate(approved.getReturnDate())
+                        .build());
+            }
+        }
+        return null;
+    }
+
+    /** Withdraws the pending step of a booking that is being cancelled. */
+    public int withdraw(Long bookingId) {
+        return approvalTaskRepository.withdrawPending(bookingId);
+    }
+
+    private static ApprovalTask task(Booking booking, ApprovalStepDefinition step) {
+        Employee requester = booking.getEmployee();
+        return pending(step)
+                .bookingId(booking.getId())
+                .costCenter(requester.getCostCenter())
+                .requesterCode(requester.getEmployeeCode())
+                .requesterName(requester.getName())
+                .destination(booking.getDestination())
+                .departureDate(booking.getDepartureDate())
+                .returnDate(booking.getReturnDate())
+                .build();
+    }
+
+    private static ApprovalTask.ApprovalTaskBuilder pending(ApprovalStepDefinition step) {
+        return ApprovalTask.builder()
+                .stepOrder(step.stepOrder())
+                .stepName(step.name())
+                .approverCode(step.approverCode())
+                .status(ApprovalStatus.PENDING)
+                .createdAt(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,405 @@
+package com.techquarter.workflow.archive;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.ResourceType;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Immutable file of archived bookings sorted by id.
+ * <p>
+ * Layout:
+ * <pre>
+ * header  : magic(4) version(4)
+ * blocks  : deflate-compressed runs of records, each about blockSize bytes uncompressed
+ * footer  : blockCount(4) { firstId(8) offset(8) compressedLength(4) length(4) crc32c(4) }*
+ *           indexCount(4) { employeeId(8) bookingId(8) }*    sorted by employee, then booking
+ * trailer : footerOffset(8) magic(4)
+ * </pre>
+ * Only the footer is held in memory; a lookup by id binary-searches the block table and
+ * decompresses one block, a lookup by employee resolves its booking ids through the index first.
+ * Files are written to a temporary name, forced to disk and then renamed, so a segment is either
+ * complete or absent.
+ */
+public class ArchiveSegment implements Closeable {
+
+    static final int MAGIC = 0x57464241;
+    static final int VERSION = 1;
+    private static final int TRAILER_SIZE = 8 + 4;
+    private static final int BLOCK_ENTRY_SIZE = 8 + 8 + 4 + 4 + 4;
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long[] blockFirstIds;
+    private final long[] blockOffsets;
+    private final int[] blockCompressedLengths;
+    private final int[] blockLengths;
+    private final int[] blockCrcs;
+    private final long[] indexEmployeeIds;
+    private final long[] indexBookingIds;
+    private final long maxId;
+
+    private ArchiveSegment(Path path, FileChannel channel, long[] blockFirstIds, long[] blockOffsets,
+                           int[] blockCompressedLengths, int[] blockLengths, int[] blockCrcs,
+                           long[] indexEmployeeIds, long[] indexBookingIds) {
+        this.path = path;
+        this.channel = channel;
+        this.blockFirstIds = blockFirstIds;
+        this.blockOffsets = blockOffsets;
+        this.blockCompressedLengths = blockCompressedLengths;
+        this.blockLengths = blockLengths;
+        this.blockCrcs = blockCrcs;
+        this.indexEmployeeIds = indexEmployeeIds;
+        this.indexBookingIds = indexBookingIds;
+        this.maxId = Arrays.stream(indexBookingIds).max().orElse(Long.MIN_VALUE);
+    }
+
+    /**
+     * Writes {@code bookings} to a new segment at {@code path} and opens it.
+     */
+    public static ArchiveSegment write(Path path, List<ArchivedBooking> bookings, int blockSize) throws IOException {
+        if (bookings.isEmpty()) {
+            throw new IllegalArgumentException("Segment must contain at least one booking");
+        }
+        List<ArchivedBooking> sorted = bookings.stream()
+                .sorted(Comparator.comparingLong(ArchivedBooking::id))
+                .toList();
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        List<long[]> blocks = new ArrayList<>();
+        try (OutputStream file = Files.newOutputStream(temporary);
+             CountingOutputStream counting = new CountingOutputStream(new BufferedOutputStream(file, 1 << 16));
+             DataOutputStream out = new DataOutputStream(counting)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(blockSize + 1024);
+            DataOutputStream record = new DataOutputStream(raw);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            byte[] compressed = new byte[blockSize * 2 + 1024];
+            long blockFirstId = sorted.getFirst().id();
+            try {
+                for (ArchivedBooking booking : sorted) {
+                    if (raw.size() == 0) {
+                        blockFirstId = booking.id();
+                    }
+                    writeRecord(record, booking);
+                    if (raw.size() >= blockSize) {
+                        blocks.add(writeBlock(out, counting, raw, deflater, compressed, blockFirstId));
+                    }
+                }
+                if (raw.size() > 0) {
+                    blocks.add(writeBlock(out, counting, raw, deflater, compressed, blockFirstId));
+                }
+            } finally {
+                deflater.end();
+            }
+
+            long footerOffset = counting.count();
+            out.writeInt(blocks.size());
+            for (long[] block : blocks) {
+                out.writeLong(block[0]);
+                out.writeLong(block[1]);
+                out.writeInt((int) block[2]);
+                out.writeInt((int) block[3]);
+                out.writeInt((int) block[4]);
+            }
+            List<ArchivedBooking> byEmployee = sorted.stream()
+                    .sorted(Comparator.comparingLong(ArchivedBooking::employeeId)
+                            .thenComparingLong(ArchivedBooking::id))
+                    .toList();
+            out.writeInt(byEmployee.size());
+            for (ArchivedBooking booking : byEmployee) {
+                out.writeLong(booking.employeeId());
+                out.writeLong(booking.id());
+            }
+            out.writeLong(footerOffset);
+            out.writeInt(MAGIC);
+            out.flush();
+            file.flush();
+        }
+        try (FileChannel written = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            written.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        return open(path);
+    }
+
+    /**
+     * Opens an existing segment, reading only its footer.
+     *
+     * @throws IOException if the file is not a complete segment
+     */
+    public static ArchiveSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < 8 + TRAILER_SIZE) {
+                throw new IOException("Truncated archive segment " + path);
+            }
+            ByteBuffer trailer = read(channel, size - TRAILER_SIZE, TRAILER_SIZE);
+            long footerOffset = trailer.getLong();
+            if (trailer.getInt() != MAGIC || footerOffset < 8 || footerOffset > size - TRAILER_SIZE) {
+                throw new IOException("Not an archive segment: " + path);
+            }
+            ByteBuffer header = read(channel, 0, 8);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Unsupported archive segment " + path);
+            }
+
+            ByteBuffer footer = read(channel, footerOffset, (int) (size - TRAILER_SIZE - footerOffset));
+            int blockCount = footer.getInt();
+            long[] firstIds = new long[blockCount];
+            long[] offsets = new long[blockCount];
+            int[] compressedLengths = new int[blockCount];
+            int[] lengths = new int[blockCount];
+            int[] crcs = new int[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                firstIds[i] = footer.getLong();
+                offsets[i] = footer.getLong();
+                compressedLengths[i] = footer.getInt();
+                lengths[i] = footer.getInt();
+                crcs[i] = footer.getInt();
+            }
+            int indexCount = footer.getInt();
+            long[] employeeIds = new long[indexCount];
+            long[] bookingIds = new long[indexCount];
+            for (int i = 0; i < indexCount; i++) {
+                employeeIds[i] = footer.getLong();
+                bookingIds[i] = footer.getLong();
+            }
+            return new ArchiveSegment(path, channel, firstIds, offsets, compressedLengths, lengths, crcs,
+                    employeeIds, bookingIds);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex instanceof IOException io ? io : new IOException("Corrupt archive segment " + path, ex);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public int size() {
+        return indexBookingIds.length;
+    }
+
+    public Optional<ArchivedBooking> findById(long bookingId) {
+        if (blockFirstIds.length == 0 || bookingId < blockFirstIds[0] || bookingId > maxId) {
+            return Optional.empty();
+        }
+        int block = Arrays.binarySearch(blockFirstIds, bookingId);
+        if (block < 0) {
+            block = -block - 2;
+        }
+        for (ArchivedBooking booking : readBlock(block)) {
+            if (booking.id() == bookingId) {
+                return Optional.of(booking);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<ArchivedBooking> findByEmployee(long employeeId) {
+        int from = lowerBound(indexEmployeeIds, employeeId);
+        int to = lowerBound(indexEmployeeIds, employeeId + 1);
+        List<ArchivedBooking> result = new ArrayList<>(to - from);
+        int loadedBlock = -1;
+        List<ArchivedBooking> blockRecords = List.of();
+        // Booking ids are ascending within the range, so each block is decompressed at most once
+        for (int i = from; i < to; i++) {
+            long bookingId = indexBookingIds[i];
+            int block = Arrays.binarySearch(blockFirstIds, bookingId);
+            if (block < 0) {
+                block = -block - 2;
+            }
+            if (block != loadedBlock) {
+                blockRecords = readBlock(block);
+                loadedBlock = block;
+            }
+            for (ArchivedBooking booking : blockRecords) {
+                if (booking.id() == bookingId) {
+                    result.add(booking);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private List<ArchivedBooking> readBlock(int block) {
+        try {
+            ByteBuffer compressed = read(channel, blockOffsets[block], blockCompressedLengths[block]);
+            CRC32C crc = new CRC32C();
+            crc.update(compressed.duplicate());
+            if ((int) crc.getValue() != blockCrcs[block]) {
+                throw new IllegalStateException("Checksum mismatch in block " + block + " of " + path);
+            }
+            byte[] raw = new byte[blockLengths[block]];
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(compressed);
+                int inflated = 0;
+                while (inflated < raw.length && !inflater.finished()) {
+                    inflated += inflater.inflate(raw, inflated, raw.length - inflated);
+                }
+            } finally {
+                inflater.end();
+            }
+
+            List<ArchivedBooking> records = new ArrayList<>();
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+            while (in.available() > 0) {
+                records.add(readRecord(in));
+            }
+            return records;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read archive segment " + path, ex);
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Corrupt block " + block + " in " + path, ex);
+        }
+    }
+
+    private static long[] writeBlock(DataOutputStream out, CountingOutputStream counting, ByteArrayOutputStream raw,
+                                     Deflater deflater, byte[] compressed, long firstId) throws IOException {
+        byte[] bytes = raw.toByteArray();
+        deflater.reset();
+        deflater.setInput(bytes);
+        deflater.finish();
+        ByteArrayOutputStream block = new ByteArrayOutputStream(bytes.length / 2);
+        while (!deflater.finished()) {
+            int length = deflater.deflate(compressed);
+            block.write(compressed, 0, length);
+        }
+        byte[] blockBytes = block.toByteArray();
+        CRC32C crc = new CRC32C();
+        crc.update(blockBytes);
+
+        out.flush();
+        long offset = counting.count();
+        out.write(blockBytes);
+        raw.reset();
+        return new long[]{firstId, offset, blockBytes.length, bytes.length, (int) crc.getValue()};
+    }
+
+    private static void writeRecord(DataOutputStream out, ArchivedBooking booking) throws IOException {
+        out.writeLong(booking.id());
+        out.writeLong(booking.employeeId());
+        out.writeUTF(booking.employeeCode());
+        out.writeUTF(booking.employeeName());
+        out.writeByte(booking.resourceType().ordinal());
+        out.writeUTF(booking.destination());
+        writeDateTime(out, booking.departureDate());
+        writeDateTime(out, booking.returnDate());
+        out.writeInt(booking.travelerCount());
+        out.writeUTF(booking.costCenterRef());
+        out.writeUTF(booking.tripPurpose());
+        out.writeByte(booking.status().ordinal());
+    }
+
+    private static ArchivedBooking readRecord(DataInputStream in) throws IOException {
+        return new ArchivedBooking(
+                in.readLong(),
+                in.readLong(),
+                in.readUTF(),
+                in.readUTF(),
+                RESOURCE_TYPES[in.readByte()],
+                in.readUTF(),
+                readDateTime(in),
+                readDateTime(in),
+                in.readInt(),
+                in.readUTF(),
+                in.readUTF(),
+                STATUSES[in.readByte()]);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime dateTime) throws IOException {
+        out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of archive segment");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static int lowerBound(long[] values, long key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long count() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.techquarter.workflow.archive;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.ResourceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of a booking, and of its employee's code and name, at the time it was archived.
+ */
+public record ArchivedBooking(long id, long employeeId, String employeeCode, String employeeName,
+                              ResourceType resourceType, String destination,
+                              LocalDateTime departureDate, LocalDateTime returnDate, int travelerCount,
+                              String costCenterRef, String tripPurpose, BookingStatus status) {
+}
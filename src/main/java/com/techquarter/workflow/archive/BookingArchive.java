@@ -0,0 +1,121 @@
+package com.techquarter.workflow.archive;
+
+import com.techquarter.workflow.config.ArchiveProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Read access to every archive segment on disk.
+ * <p>
+ * Segments are searched newest first: a booking archived again after a failed or partial run
+ * resolves to its latest snapshot.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingArchive {
+
+    private static final String SEGMENT_PREFIX = "bookings-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final ArchiveProperties properties;
+
+    /** Newest first. */
+    private final List<ArchiveSegment> segments = new CopyOnWriteArrayList<>();
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Path directory = Path.of(properties.getDirectory());
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.sorted(Comparator.reverseOrder()).toList();
+        }
+        List<ArchiveSegment> opened = new ArrayList<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(SEGMENT_SUFFIX + ".tmp")) {
+                // Left over from a run that crashed before the rename
+                Files.delete(file);
+            } else if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                opened.add(ArchiveSegment.open(file));
+            }
+        }
+        segments.addAll(opened);
+        log.info("Booking archive opened at {} with {} bookings in {} segments",
+                directory, opened.stream().mapToLong(ArchiveSegment::size).sum(), opened.size());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        for (ArchiveSegment segment : segments) {
+            segment.close();
+        }
+        segments.clear();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /** Writes a new segment; its bookings are readable once this returns. */
+    ArchiveSegment write(List<ArchivedBooking> bookings) {
+        long firstId = bookings.stream().mapToLong(ArchivedBooking::id).min().orElseThrow();
+        Path path = Path.of(properties.getDirectory(), "%s%020d-%019d%s".formatted(
+                SEGMENT_PREFIX, System.currentTimeMillis(), firstId, SEGMENT_SUFFIX));
+        try {
+            ArchiveSegment segment = ArchiveSegment.write(path, bookings, (int) properties.getBlockSize().toBytes());
+            segments.addFirst(segment);
+            return segment;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write archive segment " + path, ex);
+        }
+    }
+
+    public Optional<ArchivedBooking> findById(long bookingId) {
+        for (ArchiveSegment segment : segments) {
+            Optional<ArchivedBooking> booking = segment.findById(bookingId);
+            if (booking.isPresent()) {
+                return booking;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<ArchivedBooking> findByEmployee(long employeeId) {
+        List<ArchivedBooking> result = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (ArchiveSegment segment : segments) {
+            for (ArchivedBooking booking : segment.findByEmployee(employeeId)) {
+                if (seen.add(booking.id())) {
+                    result.add(booking);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(ArchivedBooking::id));
+        return result;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+}
@@ -0,0 +1,136 @@
+package com.techquarter.workflow.archive;
+
+import com.techquarter.workflow.config.ArchiveProperties;
+import com.techquarter.workflow.domain.event.BookingsArchivedEvent;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Moves bookings whose return date is older than {@code minAge} into archive segments.
+ * <p>
+ * Each page of candidates is first written to a segment, which makes it readable through
+ * {@link BookingArchive}, and only then deleted from the table in chunks of
+ * {@code deleteChunkSize}, one short transaction each. A delete only removes a row whose status
+ * still matches the archived snapshot, so a booking changed meanwhile stays live (and the live
+ * row shadows its stale archive copy). Bookings that still have appointments are not archived.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingArchiver {
+
+    private final BookingRepository bookingRepository;
+    private final BookingArchive bookingArchive;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArchiveProperties properties;
+
+    @Scheduled(cron = "${workflow.archive.cron:0 0 2 * * *}")
+    public void archiveOnSchedule() {
+        if (properties.isEnabled()) {
+            archive(LocalDateTime.now().minus(properties.getMinAge()));
+        }
+    }
+
+    /**
+     * Archives every booking that returned before {@code cutoff}.
+     *
+     * @return the number of bookings removed from the table
+     */
+    public synchronized int archive(LocalDateTime cutoff) {
+        if (!bookingArchive.isEnabled()) {
+            throw new IllegalStateException("Booking archive is disabled");
+        }
+        long start = System.nanoTime();
+        long afterId = Long.MIN_VALUE;
+        int archived = 0;
+        int segments = 0;
+        while (true) {
+            long pageAfter = afterId;
+            List<ArchivedBooking> page = transactionTemplate.execute(status -> bookingRepository
+                    .findArchivable(cutoff, pageAfter, Limit.of(properties.getMaxBookingsPerSegment()))
+                    .stream()
+                    .map(BookingArchiver::toArchived)
+                    .toList());
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            afterId = page.getLast().id();
+
+            bookingArchive.write(page);
+            segments++;
+            for (int from = 0; from < page.size(); from += properties.getDeleteChunkSize()) {
+                archived += delete(page.subList(from, Math.min(page.size(), from + properties.getDeleteChunkSize())));
+            }
+        }
+        if (segments > 0) {
+            log.info("Archived {} bookings returned before {} into {} segments in {} ms",
+                    archived, cutoff, segments, (System.nanoTime() - start) / 1_000_000);
+        }
+        return archived;
+    }
+
+    private int delete(List<ArchivedBooking> chunk) {
+        try {
+            return transactionTemplate.execute(status -> deleteUnchanged(chunk));
+        } catch (DataAccessException ex) {
+            // Typically an appointment added after the page was read; isolate the offending rows
+            log.debug("Deleting {} archived bookings failed, retrying one by one", chunk.size(), ex);
+            int deleted = 0;
+            for (ArchivedBooking booking : chunk) {
+                try {
+                    deleted += transactionTemplate.execute(status -> deleteUnchanged(List.of(booking)));
+                } catch (DataAccessException rowEx) {
+                    log.warn("Booking {} was archived but could not be deleted: {}",
+                            booking.id(), rowEx.getMostSpecificCause().getMessage());
+                }
+            }
+            return deleted;
+        }
+    }
+
+    private int deleteUnchanged(List<ArchivedBooking> chunk) {
+        Map<BookingStatus, List<Long>> idsByStatus = chunk.stream()
+                .collect(Collectors.groupingBy(ArchivedBooking::status,
+                        Collectors.mapping(ArchivedBooking::id, Collectors.toList())));
+        idsByStatus.forEach(bookingRepository::deleteByIdInAndStatus);
+
+        List<Long> ids = chunk.stream().map(ArchivedBooking::id).toList();
+        Set<Long> remaining = new HashSet<>(bookingRepository.findIdsByIdIn(ids));
+        List<Long> deleted = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (!remaining.contains(id)) {
+                deleted.add(id);
+            }
+        }
+        if (!deleted.isEmpty()) {
+            eventPublisher.publishEvent(new BookingsArchivedEvent(deleted));
+        }
+        return deleted.size();
+    }
+
+    private static ArchivedBooking toArchived(Booking booking) {
+        return new ArchivedBooking(booking.getId(), booking.getEmployee().getId(),
+                booking.getEmployee().getEmployeeCode(), booking.getEmployee().getName(),
+                booking.getResourceType(), booking.getDestination(),
+                booking.getDepartureDate(), booking.getReturnDate(), booking.getTravelerCount(),
+                booking.getCostCenterRef(), booking.getTripPurpose(), booking.getStatus());
+    }
+}
@@ -0,0 +1,6 @@
+package com.techquarter.workflow.audit;
+
+public enum AuditEventType {
+    BOOKING_CREATED,
+    STATUS_CHANGED
+}
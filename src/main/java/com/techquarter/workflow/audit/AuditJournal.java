@@ -0,0 +1,495 @@
+package com.techquarter.workflow.audit;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, tamper-evident journal stored in memory-mapped segment files.
+ * <p>
+ * Segment layout:
+ * <pre>
+ * header : magic(4) version(4) firstSequence(8) anchorHash(32)
+ * record : length(4) crc32c(4) sequence(8) recordedAt(8) bookingId(8) employeeId(8)
+ *          type(1) previousStatus(1) newStatus(1) chainHash(32)
+ * </pre>
+ * Records have a fixed size, so the offset of a sequence within its segment is computed rather
+ * than stored. Each chain hash is SHA-256 over the previous record's chain hash and the record's
+ * fields; a segment's anchor hash is the last chain hash of the segment before it, so the chain
+ * can still be verified after old segments have been deleted by retention.
+ * <p>
+ * A torn record at the tail (CRC mismatch) is treated as the end of the journal on recovery and
+ * is overwritten by the next append. The class is thread-safe; all operations synchronize on
+ * the journal, which is fine for a single background writer and occasional readers.
+ * <p>
+ * A journal holds an exclusive lock on {@code journal.lock} in its directory until it is closed,
+ * so a second writer, in this or another process, fails to open instead of forking the chain.
+ */
+public class AuditJournal implements Closeable {
+
+    static final int MAGIC = 0x41554454;
+    static final int VERSION = 1;
+    static final int HASH_SIZE = 32;
+    static final int HEADER_SIZE = 4 + 4 + 8 + HASH_SIZE;
+    static final int FIELDS_SIZE = 8 + 8 + 8 + 8 + 1 + 1 + 1;
+    static final int PAYLOAD_SIZE = FIELDS_SIZE + HASH_SIZE;
+    static final int RECORD_SIZE = 4 + 4 + PAYLOAD_SIZE;
+
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String LOCK_FILE = "journal.lock";
+    private static final AuditEventType[] TYPES = AuditEventType.values();
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final MessageDigest digest;
+    private final CRC32C crc = new CRC32C();
+    private final byte[] fields = new byte[FIELDS_SIZE];
+    private final ByteBuffer fieldsBuffer = ByteBuffer.wrap(fields);
+    private final FileChannel lockChannel;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<Long, long[]> sequencesByBooking = new HashMap<>();
+    private Segment active;
+    private long nextSequence;
+    private long lastRecordedAt;
+    private byte[] lastHash = new byte[HASH_SIZE];
+
+    public AuditJournal(Path directory, int segmentSize) {
+        if (segmentSize < HEADER_SIZE + RECORD_SIZE) {
+            throw new IllegalArgumentException("Segment size too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+            Files.createDirectories(directory);
+            this.lockChannel = lockDirectory(directory);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        try {
+            recover();
+        } catch (IOException ex) {
+            closeQuietly(lockChannel, ex);
+            throw new UncheckedIOException(ex);
+        } catch (RuntimeException ex) {
+            closeQuietly(lockChannel, ex);
+            throw ex;
+        }
+    }
+
+    public synchronized AuditRecord append(long bookingId, long employeeId, AuditEventType type,
+                                           BookingStatus previousStatus, BookingStatus newStatus) {
+        if (active.capacity() - active.writePosition < RECORD_SIZE) {
+            rotate();
+        }
+        long recordedAt = Math.max(System.currentTimeMillis(), lastRecordedAt);
+        long sequence = nextSequence;
+
+        fieldsBuffer.clear();
+        fieldsBuffer.putLong(sequence)
+                .putLong(recordedAt)
+                .putLong(bookingId)
+                .putLong(employeeId)
+                .put((byte) type.ordinal())
+                .put(previousStatus == null ? -1 : (byte) previousStatus.ordinal())
+                .put((byte) newStatus.ordinal());
+        digest.update(lastHash);
+        digest.update(fields);
+        byte[] chainHash = digest.digest();
+
+        crc.reset();
+        crc.update(fields);
+        crc.update(chainHash);
+
+        MappedByteBuffer buffer = active.buffer;
+        int position = active.writePosition;
+        buffer.putInt(position, PAYLOAD_SIZE);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.put(position + 8, fields);
+        buffer.put(position + 8 + FIELDS_SIZE, chainHash);
+
+        active.writePosition += RECORD_SIZE;
+        active.track(recordedAt);
+        nextSequence++;
+        lastRecordedAt = recordedAt;
+        lastHash = chainHash;
+        index(bookingId, sequence);
+
+        return new AuditRecord(sequence, recordedAt, bookingId, employeeId, type,
+                previousStatus, newStatus, chainHash);
+    }
+
+    /** Flushes appended records of the active segment to disk. */
+    public synchronized void force() {
+        active.buffer.force();
+    }
+
+    public synchronized List<AuditRecord> findByBooking(long bookingId) {
+        long[] sequences = sequencesByBooking.get(bookingId);
+        if (sequences == null) {
+            return List.of();
+        }
+        List<AuditRecord> records = new ArrayList<>(sequences.length);
+        for (long sequence : sequences) {
+            Segment segment = segmentOf(sequence);
+            if (segment != null) {
+                records.add(segment.read(segment.offsetOf(sequence)));
+            }
+        }
+        return records;
+    }
+
+    /** Records with {@code from <= recordedAt < to}, oldest first, at most {@code limit}. */
+    public synchronized List<AuditRecord> findByTimeRange(long from, long to, int limit) {
+        List<AuditRecord> records = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (segment.recordCount() == 0 || segment.lastRecordedAt < from || segment.firstRecordedAt >= to) {
+                continue;
+            }
+            // recordedAt never decreases, so binary search for the first record in range
+            int low = 0;
+            int high = segment.recordCount();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (segment.recordedAtOf(HEADER_SIZE + mid * RECORD_SIZE) < from) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int offset = HEADER_SIZE + low * RECORD_SIZE; offset < segment.writePosition; offset += RECORD_SIZE) {
+                AuditRecord record = segment.read(offset);
+                if (record.recordedAt() >= to) {
+                    return records;
+                }
+                records.add(record);
+                if (records.size() >= limit) {
+                    return records;
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Recomputes the hash chain over all retained segments and checks CRCs and sequence continuity.
+     */
+    public synchronized VerificationResult verify() {
+        long checked = 0;
+        byte[] expectedPrevious = segments.get(0).anchorHash;
+        long expectedSequence = segments.get(0).firstSequence;
+        for (Segment segment : segments) {
+            if (!Arrays.equals(segment.anchorHash, expectedPrevious) || segment.firstSequence != expectedSequence) {
+                return new VerificationResult(false, checked, segment.firstSequence);
+            }
+            for (int offset = HEADER_SIZE; offset < segment.writePosition; offset += RECORD_SIZE) {
+                segment.buffer.get(offset + 8, fields);
+                long sequence = ByteBuffer.wrap(fields).getLong(0);
+                byte[] storedHash = new byte[HASH_SIZE];
+                segment.buffer.get(offset + 8 + FIELDS_SIZE, storedHash);
+
+                crc.reset();
+                crc.update(fields);
+                crc.update(storedHash);
+                digest.update(expectedPrevious);
+                digest.update(fields);
+                byte[] computed = digest.digest();
+                if (sequence != expectedSequence
+                        || segment.buffer.getInt(offset + 4) != (int) crc.getValue()
+                        || !Arrays.equals(computed, storedHash)) {
+                    return new VerificationResult(false, checked, expectedSequence);
+                }
+                expectedPrevious = storedHash;
+                expectedSequence++;
+                checked++;
+            }
+        }
+        return new VerificationResult(true, checked, -1);
+    }
+
+    /**
+     * Deletes sealed segments whose newest record is older than {@code cutoff} (epoch millis).
+     * The active segment is never deleted.
+     *
+     * @return number of deleted segments
+     */
+    public synchronized int deleteSegmentsOlderThan(long cutoff) {
+        int deleted = 0;
+        while (segments.size() > 1) {
+            Segment oldest = segments.get(0);
+            if (oldest.recordCount() > 0 && oldest.lastRecordedAt >= cutoff) {
+                break;
+            }
+            long firstRetained = segments.get(1).firstSequence;
+            for (int offset = HEADER_SIZE; offset < oldest.writePosition; offset += RECORD_SIZE) {
+                unindex(oldest.buffer.getLong(offset + 8 + 16), firstRetained);
+            }
+            segments.remove(0);
+            try {
+                Files.deleteIfExists(oldest.path);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            deleted++;
+        }
+        return deleted;
+    }
+
+    public synchronized long size() {
+        return nextSequence - segments.get(0).firstSequence;
+    }
+
+    public synchronized int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() {
+        active.buffer.force();
+        try {
+            // Closing the channel releases the directory lock
+            lockChannel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static FileChannel lockDirectory(Path directory) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            // Held by another journal in this JVM
+            lock = null;
+        } catch (IOException | RuntimeException ex) {
+            closeQuietly(channel, ex);
+            throw ex;
+        }
+        if (lock == null) {
+            channel.close();
+            throw new IllegalStateException("Audit journal directory " + directory + " is already in use");
+        }
+        return channel;
+    }
+
+    private static void closeQuietly(FileChannel channel, Exception cause) {
+        try {
+            channel.close();
+        } catch (IOException suppressed) {
+            cause.addSuppressed(suppressed);
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            Segment segment = Segment.open(file);
+            segments.add(segment);
+            for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= segment.capacity(); offset += RECORD_SIZE) {
+                if (!segment.isValidRecord(offset, crc)) {
+                    break;
+                }
+                long recordedAt = segment.recordedAtOf(offset);
+                segment.track(recordedAt);
+                segment.writePosition = offset + RECORD_SIZE;
+                index(segment.buffer.getLong(offset + 8 + 16), segment.buffer.getLong(offset + 8));
+                lastRecordedAt = recordedAt;
+            }
+        }
+
+        if (segments.isEmpty()) {
+            active = Segment.create(segmentPath(0), segmentSize, 0, lastHash);
+            segments.add(active);
+            nextSequence = 0;
+            return;
+        }
+        active = segments.get(segments.size() - 1);
+        nextSequence = active.firstSequence + active.recordCount();
+        lastHash = active.recordCount() == 0
+                ? active.anchorHash
+                : active.hashAt(active.writePosition - RECORD_SIZE);
+    }
+
+    private void rotate() {
+        active.buffer.force();
+        active = Segment.create(segmentPath(nextSequence), segmentSize, nextSequence, lastHash);
+        segments.add(active);
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private Segment segmentOf(long sequence) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Segment segment = segments.get(mid);
+            if (sequence < segment.firstSequence) {
+                high = mid - 1;
+            } else if (sequence >= segment.firstSequence + segment.recordCount()) {
+                low = mid + 1;
+            } else {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    private void index(long bookingId, long sequence) {
+        long[] existing = sequencesByBooking.get(bookingId);
+        if (existing == null) {
+            sequencesByBooking.put(bookingId, new long[]{sequence});
+        } else {
+            long[] grown = Arrays.copyOf(existing, existing.length + 1);
+            grown[existing.length] = sequence;
+            sequencesByBooking.put(bookingId, grown);
+        }
+    }
+
+    private void unindex(long bookingId, long firstRetained) {
+        long[] existing = sequencesByBooking.get(bookingId);
+        if (existing == null) {
+            return;
+        }
+        long[] retained = Arrays.stream(existing).filter(sequence -> sequence >= firstRetained).toArray();
+        if (retained.length == 0) {
+            sequencesByBooking.remove(bookingId);
+        } else {
+            sequencesByBooking.put(bookingId, retained);
+        }
+    }
+
+    public record VerificationResult(boolean valid, long recordsChecked, long firstInvalidSequence) {
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private final long firstSequence;
+        private final byte[] anchorHash;
+        private int writePosition = HEADER_SIZE;
+        private long firstRecordedAt = Long.MAX_VALUE;
+        private long lastRecordedAt = Long.MIN_VALUE;
+
+        private Segment(Path path, MappedByteBuffer buffer, long firstSequence, byte[] anchorHash) {
+            this.path = path;
+            this.buffer = buffer;
+            this.firstSequence = firstSequence;
+            this.anchorHash = anchorHash;
+        }
+
+        static Segment create(Path path, int size, long firstSequence, byte[] anchorHash) {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putLong(8, firstSequence);
+                buffer.put(16, anchorHash);
+                buffer.force();
+                return new Segment(path, buffer, firstSequence, anchorHash.clone());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        static Segment open(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IOException("Not an audit segment: " + path);
+                }
+                byte[] anchor = new byte[HASH_SIZE];
+                buffer.get(16, anchor);
+                return new Segment(path, buffer, buffer.getLong(8), anchor);
+            }
+        }
+
+        int capacity() {
+            return buffer.capacity();
+        }
+
+        int recordCount() {
+            return (writePosition - HEADER_SIZE) / RECORD_SIZE;
+        }
+
+        long offsetOf(long sequence) {
+            return HEADER_SIZE + (sequence - firstSequence) * RECORD_SIZE;
+        }
+
+        void track(long recordedAt) {
+            firstRecordedAt = Math.min(firstRecordedAt, recordedAt);
+            lastRecordedAt = Math.max(lastRecordedAt, recordedAt);
+        }
+
+        long recordedAtOf(int offset) {
+            return buffer.getLong(offset + 8 + 8);
+        }
+
+        byte[] hashAt(int offset) {
+            byte[] hash = new byte[HASH_SIZE];
+            buffer.get(offset + 8 + FIELDS_SIZE, hash);
+            return hash;
+        }
+
+        boolean isValidRecord(int offset, CRC32C crc) {
+            if (buffer.getInt(offset) != PAYLOAD_SIZE) {
+                return false;
+            }
+            byte[] payload = new byte[PAYLOAD_SIZE];
+            buffer.get(offset + 8, payload);
+            crc.reset();
+            crc.update(payload);
+            return buffer.getInt(offset + 4) == (int) crc.getValue();
+        }
+
+        AuditRecord read(long offset) {
+            int base = (int) offset + 8;
+            byte previous = buffer.get(base + 33);
+            return new AuditRecord(
+                    buffer.getLong(base),
+                    buffer.getLong(base + 8),
+                    buffer.getLong(base + 16),
+                    buffer.getLong(base + 24),
+                    TYPES[buffer.get(base + 32)],
+                    previous < 0 ? null : STATUSES[previous],
+                    STATUSES[buffer.get(base + 34)],
+                    hashAt((int) offset));
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.techquarter.workflow.audit;
+
+import com.techquarter.workflow.config.AuditProperties;
+import com.techquarter.workflow.domain.event.BookingCreatedEvent;
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.dto.AuditEntryResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records every committed booking create and status change in the {@link AuditJournal}.
+ * <p>
+ * Booking events only enqueue an entry; a single background thread appends them, so the
+ * request path never waits for the journal unless the queue is full. An append that fails is
+ * retried a few times before that one entry is logged as lost; the rest of its batch is still
+ * written. On shutdown the writer drains whatever is queued before the journal is closed.
+ * <p>
+ * Whoever appends holds {@code drainLock} from taking entries off the queue until they are
+ * written, so entries stay in order when a caller has to write them itself: once the writer
+ * has stopped, or when the queue stays full for {@code enqueueTimeout}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditJournalService {
+
+    private static final int DRAIN_BATCH = 1024;
+    private static final int APPEND_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final AuditProperties properties;
+
+    private final Object drainLock = new Object();
+
+    private AuditJournal journal;
+    private BlockingQueue<PendingEntry> queue;
+    Thread writer;
+    private volatile boolean running;
+    private boolean closed;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        journal = new AuditJournal(Path.of(properties.getDirectory()), (int) properties.getSegmentSize().toBytes());
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        writer = Thread.ofPlatform()
+                .name("audit-journal-writer")
+                .daemon()
+                .start(this::writeLoop);
+        log.info("Audit journal opened at {} with {} entries in {} segments",
+                properties.getDirectory(), journal.size(), journal.segmentCount());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            log.error("Audit journal writer did not stop within 10s, leaving the journal open");
+            return;
+        }
+        synchronized (drainLock) {
+            // Entries queued by callers that raced the writer's exit
+            drainQueue();
+            closed = true;
+            journal.close();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookingCreated(BookingCreatedEvent event) {
+        Booking booking = event.booking();
+        record(new PendingEntry(booking.getId(), booking.getEmployee().getId(),
+                AuditEventType.BOOKING_CREATED, null, booking.getStatus()));
+    }
+
+    @TransactionalEventListener
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        record(new PendingEntry(event.bookingId(), event.employeeId(),
+                AuditEventType.STATUS_CHANGED, event.previousStatus(), event.newStatus()));
+    }
+
+    public List<AuditEntryResponse> getBookingHistory(long bookingId) {
+        return toResponses(journal().findByBooking(bookingId));
+    }
+
+    public List<AuditEntryResponse> getEntries(Instant from, Instant to, int limit) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end must not be before range start");
+        }
+        return toResponses(journal().findByTimeRange(from.toEpochMilli(), to.toEpochMilli(), limit));
+    }
+
+    public AuditJournal.VerificationResult verify() {
+        return journal().verify();
+    }
+
+    @Scheduled(cron = "${workflow.audit.retention-cron:0 30 3 * * *}")
+    public void applyRetention() {
+        if (journal == null) {
+            return;
+        }
+        int deleted = journal.deleteSegmentsOlderThan(
+                System.currentTimeMillis() - properties.getRetention().toMillis());
+        if (deleted > 0) {
+            log.info("Audit retention deleted {} segments", deleted);
+        }
+    }
+
+    void record(PendingEntry entry) {
+        if (queue == null) {
+            return;
+        }
+        boolean queued = running && enqueue(entry);
+        if (queued && running) {
+            return;
+        }
+        // The writer has stopped, perhaps right after this entry was queued, or cannot keep up
+        synchronized (drainLock) {
+            if (closed) {
+                queue.remove(entry);
+                log.error("Audit journal is already closed, entry {} was not written", entry);
+                return;
+            }
+            drainQueue();
+            if (!queued) {
+                appendWithRetry(entry);
+            }
+        }
+    }
+
+    private boolean enqueue(PendingEntry entry) {
+        try {
+            if (queue.offer(entry, properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            log.warn("Audit queue stayed full for {}, writing entries on the calling thread",
+                    properties.getEnqueueTimeout());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void drainQueue() {
+        for (PendingEntry entry; (entry = queue.poll()) != null; ) {
+            appendWithRetry(entry);
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingEntry> batch = new ArrayList<>(DRAIN_BATCH);
+        boolean interrupted = false;
+        while (running || !queue.isEmpty()) {
+            synchronized (drainLock) {
+                PendingEntry first;
+                if (interrupted) {
+                    first = queue.poll();
+                } else {
+                    try {
+                        first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    } catch (InterruptedException ex) {
+                        // Stop waiting for new entries but still write the queued ones
+                        interrupted = true;
+                        running = false;
+                        continue;
+                    }
+                }
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, DRAIN_BATCH - 1);
+                batch.forEach(this::appendWithRetry);
+                batch.clear();
+                if (properties.isForceOnWrite()) {
+                    try {
+                        journal.force();
+                    } catch (RuntimeException ex) {
+                        log.error("Failed to force audit journal to disk", ex);
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void appendWithRetry(PendingEntry entry) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                append(entry);
+                return;
+            } catch (RuntimeException ex) {
+                if (attempt == APPEND_ATTEMPTS) {
+                    log.error("Failed to append audit entry {} after {} attempts", entry, attempt, ex);
+                    return;
+                }
+                LockSupport.parkNanos(RETRY_BACKOFF_NANOS * attempt);
+            }
+        }
+    }
+
+    private void append(PendingEntry entry) {
+        journal.append(entry.bookingId(), entry.employeeId(), entry.type(),
+                entry.previousStatus(), entry.newStatus());
+    }
+
+    private AuditJournal journal() {
+        if (journal == null) {
+            throw new IllegalStateException("Audit journal is disabled");
+        }
+        return journal;
+    }
+
+    private static List<AuditEntryResponse> toResponses(List<AuditRecord> records) {
+        HexFormat hex = HexFormat.of();
+        return records.stream()
+                .map(record -> AuditEntryResponse.builder()
+                        .sequence(record.sequence())
+                        .recordedAt(Instant.ofEpochMilli(record.recordedAt()))
+                        .bookingId(record.bookingId())
+                        .employeeId(record.employeeId())
+                        .type(record.type())
+                        .previousStatus(record.previousStatus())
+                        .newStatus(record.newStatus())
+                        .chainHash(hex.formatHex(record.chainHash()))
+                        .build())
+                .toList();
+    }
+
+    record PendingEntry(long bookingId, long employeeId, AuditEventType type,
+                        BookingStatus previousStatus, BookingStatus newStatus) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.techquarter.workflow.audit;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+
+/**
+ * One entry of the audit journal.
+ *
+ * @param sequence       position in the journal, gap-free from the first retained entry
+ * @param recordedAt     epoch millis at which the entry was appended; never decreases
+ * @param previousStatus {@code null} for {@link AuditEventType#BOOKING_CREATED}
+ * @param chainHash      SHA-256 over the previous entry's hash and this entry's fields
+ */
+public record AuditRecord(long sequence, long recordedAt, long bookingId, long employeeId,
+                          AuditEventType type, BookingStatus previousStatus, BookingStatus newStatus,
+                          byte[] chainHash) {
+}
@@ -0,0 +1,222 @@
+package com.techquarter.workflow.cache;
+
+import com.techquarter.workflow.config.CacheInvalidationProperties;
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the application caches coherent across instances.
+ * <p>
+ * A committed change evicts the affected entries locally right away and queues an invalidation.
+ * Every {@code flushInterval} the queue is coalesced (duplicates merged, large key sets collapsed
+ * into one cache clear), evicted locally once more to drop values re-cached by reads that raced
+ * the commit, and published through the {@link InvalidationTransport}. Every {@code pollInterval}
+ * invalidations from other instances are received and applied.
+ * <p>
+ * {@code workflow.cache.invalidation.stale-window} measures, per applied remote invalidation, the
+ * time from the change on the originating instance until this instance stopped serving the old
+ * value; it includes clock skew between instances.
+ */
+@Slf4j
+@Component
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final InvalidationTransport transport;
+    private final CacheInvalidationProperties properties;
+    private final long instanceId = ThreadLocalRandom.current().nextLong();
+
+    // Guarded by itself; values are the earliest change time per key
+    private final Map<PendingKey, Long> pending = new LinkedHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    private final Counter requested;
+    private final Counter published;
+    private final Counter received;
+    private final Timer staleWindow;
+
+    public CacheInvalidator(CacheManager cacheManager, InvalidationTransport transport,
+                            CacheInvalidationProperties properties, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.transport = transport;
+        this.properties = properties;
+        this.requested = Counter.builder("workflow.cache.invalidations.requested")
+                .description("Cache entries invalidated by changes on this instance")
+                .register(meterRegistry);
+        this.published = Counter.builder("workflow.cache.invalidations.published")
+                .description("Invalidations published to other instances after coalescing")
+                .register(meterRegistry);
+        this.received = Counter.builder("workflow.cache.invalidations.received")
+                .description("Invalidations received from other instances")
+                .register(meterRegistry);
+        this.staleWindow = Timer.builder("workflow.cache.invalidation.stale-window")
+                .description("Time from a change on another instance until its invalidation was applied here")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("workflow.cache.invalidations.pending", pending, map -> {
+                    synchronized (map) {
+                        return map.size();
+                    }
+                })
+                .description("Local invalidations waiting to be published")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        transport.join(instanceId);
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("cache-invalidation").daemon().factory());
+        long flushNanos = properties.getFlushInterval().toNanos();
+        long pollNanos = properties.getPollInterval().toNanos();
+        scheduler.scheduleWithFixedDelay(() -> runSafely("publish", this::flush),
+                flushNanos, flushNanos, TimeUnit.NANOSECONDS);
+        scheduler.scheduleWithFixedDelay(() -> runSafely("receive", this::poll),
+                pollNanos, pollNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        runSafely("publish", this::flush);
+    }
+
+    @TransactionalEventListener
+    public void onEmployeesChanged(EmployeesChangedEvent event) {
+        long now = System.currentTimeMillis();
+        event.employeeCodes().forEach(code -> invalidate(CacheNames.EMPLOYEES, code, now));
+        if (!event.newOnly()) {
+            // Booking responses embed the employee name
+            invalidate(CacheNames.BOOKINGS, null, now);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        invalidate(CacheNames.BOOKINGS, event.bookingId().toString(), System.currentTimeMillis());
+    }
+
+    /**
+     * Evicts an entry here and queues its invalidation for the other instances.
+     *
+     * @param key the entry key, or {@code null} to clear the whole cache
+     */
+    public void invalidate(String cacheName, String key, long changedAt) {
+        evict(cacheName, key);
+        requested.increment();
+        if (scheduler == null) {
+            return;
+        }
+        synchronized (pending) {
+            pending.putIfAbsent(new PendingKey(cacheName, key), changedAt);
+        }
+    }
+
+    void flush() {
+        List<Invalidation> batch;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = coalesce(pending, properties.getMaxKeysPerCache());
+            pending.clear();
+        }
+        // A read that started before the commit may have cached the old value again
+        batch.forEach(invalidation -> evict(invalidation.cacheName(), invalidation.key()));
+        try {
+            transport.publish(instanceId, batch);
+            published.increment(batch.size());
+        } catch (RuntimeException ex) {
+            synchronized (pending) {
+                batch.forEach(invalidation -> pending.putIfAbsent(
+                        new PendingKey(invalidation.cacheName(), invalidation.key()), invalidation.changedAt()));
+            }
+            throw ex;
+        }
+    }
+
+    void poll() {
+        List<Invalidation> batch = transport.receive(instanceId);
+        if (batch.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Invalidation invalidation : batch) {
+            evict(invalidation.cacheName(), invalidation.key());
+            staleWindow.record(Math.max(0, now - invalidation.changedAt()), TimeUnit.MILLISECONDS);
+        }
+        received.increment(batch.size());
+    }
+
+    static List<Invalidation> coalesce(Map<PendingKey, Long> entries, int maxKeysPerCache) {
+        Map<String, Integer> keysPerCache = new HashMap<>();
+        entries.keySet().forEach(key -> keysPerCache.merge(key.cacheName(), 1, Integer::sum));
+
+        Map<String, Long> clears = new LinkedHashMap<>();
+        entries.forEach((key, changedAt) -> {
+            if (key.key() == null || keysPerCache.get(key.cacheName()) > maxKeysPerCache) {
+                clears.merge(key.cacheName(), changedAt, Math::min);
+            }
+        });
+
+        List<Invalidation> batch = new ArrayList<>();
+        clears.forEach((cacheName, changedAt) -> batch.add(new Invalidation(cacheName, null, changedAt)));
+        entries.forEach((key, changedAt) -> {
+            if (!clears.containsKey(key.cacheName())) {
+                batch.add(new Invalidation(key.cacheName(), key.key(), changedAt));
+            }
+        });
+        return batch;
+    }
+
+    private void evict(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.invalidate();
+        } else {
+            cache.evictIfPresent(CacheNames.parseKey(cacheName, key));
+        }
+    }
+
+    private static void runSafely(String action, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to {} cache invalidations", action, ex);
+        }
+    }
+
+    record PendingKey(String cacheName, String key) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.techquarter.workflow.cache;
+
+/**
+ * Names of the application caches, shared by {@code @Cacheable} declarations and the
+ * {@link CacheInvalidator}.
+ */
+public final class CacheNames {
+
+    /** {@code EmployeeResponse} by employee code. */
+    public static final String EMPLOYEES = "employees";
+
+    /** {@code BookingResponse} by booking id. */
+    public static final String BOOKINGS = "bookings";
+
+    private CacheNames() {
+    }
+
+    /** Converts a key received from another instance back to the type the cache is keyed by. */
+    static Object parseKey(String cacheName, String key) {
+        return BOOKINGS.equals(cacheName) ? Long.valueOf(key) : key;
+    }
+}
@@ -0,0 +1,42 @@
+package com.techquarter.workflow.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Broadcasts between instances living in the same JVM. Suitable for a single instance and for
+ * tests that simulate several instances sharing one transport.
+ */
+public class InMemoryInvalidationTransport implements InvalidationTransport {
+
+    private final Map<Long, Queue<Invalidation>> inboxes = new ConcurrentHashMap<>();
+
+    @Override
+    public void join(long instanceId) {
+        inboxes.putIfAbsent(instanceId, new ConcurrentLinkedQueue<>());
+    }
+
+    @Override
+    public void publish(long instanceId, List<Invalidation> batch) {
+        inboxes.forEach((recipient, inbox) -> {
+            if (recipient != instanceId) {
+                inbox.addAll(batch);
+            }
+        });
+    }
+
+    @Override
+    public List<Invalidation> receive(long instanceId) {
+        Queue<Invalidation> inbox = inboxes.get(instanceId);
+        List<Invalidation> received = new ArrayList<>();
+        Invalidation invalidation;
+        while (inbox != null && (invalidation = inbox.poll()) != null) {
+            received.add(invalidation);
+        }
+        return received;
+    }
+}
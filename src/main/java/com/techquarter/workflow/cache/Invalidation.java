@@ -0,0 +1,14 @@
+package com.techquarter.workflow.cache;
+
+/**
+ * One cache entry that must no longer be served.
+ *
+ * @param key       the entry key as a string, or {@code null} to clear the whole cache
+ * @param changedAt epoch millis at which the underlying data changed on the originating instance
+ */
+public record Invalidation(String cacheName, String key, long changedAt) {
+
+    public boolean clearsCache() {
+        return key == null;
+    }
+}
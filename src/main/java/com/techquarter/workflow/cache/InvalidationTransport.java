@@ -0,0 +1,21 @@
+package com.techquarter.workflow.cache;
+
+import java.util.List;
+
+/**
+ * Carries cache invalidations between the instances of the service.
+ * <p>
+ * Instances are identified by a random id chosen at startup. A transport must deliver every
+ * published batch to every other joined instance at least once; applying an invalidation twice
+ * is harmless.
+ */
+public interface InvalidationTransport {
+
+    /** Called once before the instance publishes or receives. */
+    void join(long instanceId);
+
+    void publish(long instanceId, List<Invalidation> batch);
+
+    /** Invalidations published by other instances since the previous call, oldest first. */
+    List<Invalidation> receive(long instanceId);
+}
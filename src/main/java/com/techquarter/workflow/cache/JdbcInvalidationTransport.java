@@ -0,0 +1,137 @@
+package com.techquarter.workflow.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Invalidation log in the shared database, polled by every instance with a version cursor.
+ * <p>
+ * Versions come from an identity column, so a row that commits after a higher version was
+ * already read shows up as a gap behind the cursor. Gaps are re-queried until the missing row
+ * appears or {@code lateCommitGrace} passes (rolled back inserts leave permanent gaps). Rows older
+ * than {@code retention} are purged by whichever instance gets there first.
+ * <p>
+ * Not thread-safe; {@link CacheInvalidator} calls it from a single thread.
+ */
+@Slf4j
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final int MAX_TRACKED_GAPS = 1_000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO cache_invalidations (origin_id, cache_name, cache_key, changed_at, published_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String POLL_SQL = """
+            SELECT version, origin_id, cache_name, cache_key, changed_at
+            FROM cache_invalidations
+            WHERE version > ?
+            ORDER BY version
+            FETCH FIRST %d ROWS ONLY
+            """;
+
+    private static final RowMapper<LogRow> ROW_MAPPER = (rs, rowNum) -> new LogRow(
+            rs.getLong("version"), rs.getLong("origin_id"),
+            new Invalidation(rs.getString("cache_name"), rs.getString("cache_key"), rs.getLong("changed_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxRowsPerPoll;
+    private final long lateCommitGraceMillis;
+    private final long retentionMillis;
+
+    private long cursor;
+    /** Missing versions behind the cursor and when they were first noticed. */
+    private final TreeMap<Long, Long> gaps = new TreeMap<>();
+    private long lastPurge;
+
+    public JdbcInvalidationTransport(JdbcTemplate jdbcTemplate, int maxRowsPerPoll,
+                                     Duration lateCommitGrace, Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxRowsPerPoll = maxRowsPerPoll;
+        this.lateCommitGraceMillis = lateCommitGrace.toMillis();
+        this.retentionMillis = retention.toMillis();
+    }
+
+    @Override
+    public void join(long instanceId) {
+        // A fresh instance has empty caches, so history before now is irrelevant
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(version) FROM cache_invalidations", Long.class);
+        cursor = max == null ? 0 : max;
+        lastPurge = System.currentTimeMillis();
+    }
+
+    @Override
+    public void publish(long instanceId, List<Invalidation> batch) {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, invalidation) -> {
+            ps.setLong(1, instanceId);
+            ps.setString(2, invalidation.cacheName());
+            ps.setString(3, invalidation.key());
+            ps.setLong(4, invalidation.changedAt());
+            ps.setLong(5, now);
+        });
+    }
+
+    @Override
+    public List<Invalidation> receive(long instanceId) {
+        long now = System.currentTimeMillis();
+        List<Invalidation> received = new ArrayList<>();
+
+        for (LogRow row : fillGaps(now)) {
+            collect(row, instanceId, received);
+        }
+        List<LogRow> rows = jdbcTemplate.query(POLL_SQL.formatted(maxRowsPerPoll), ROW_MAPPER, cursor);
+        for (LogRow row : rows) {
+            for (long missing = cursor + 1; missing < row.version() && gaps.size() < MAX_TRACKED_GAPS; missing++) {
+                gaps.put(missing, now);
+            }
+            cursor = row.version();
+            collect(row, instanceId, received);
+        }
+
+        if (now - lastPurge >= retentionMillis / 4) {
+            int purged = jdbcTemplate.update("DELETE FROM cache_invalidations WHERE published_at < ?",
+                    now - retentionMillis);
+            lastPurge = now;
+            log.debug("Purged {} cache invalidation log rows", purged);
+        }
+        return received;
+    }
+
+    private List<LogRow> fillGaps(long now) {
+        gaps.values().removeIf(noticedAt -> now - noticedAt > lateCommitGraceMillis);
+        if (gaps.isEmpty()) {
+            return List.of();
+        }
+        List<Long> missing = new ArrayList<>(gaps.keySet());
+        String placeholders = String.join(",", Collections.nCopies(missing.size(), "?"));
+        List<LogRow> late = jdbcTemplate.query("""
+                SELECT version, origin_id, cache_name, cache_key, changed_at
+                FROM cache_invalidations
+                WHERE version IN (%s)
+                """.formatted(placeholders), ROW_MAPPER, missing.toArray());
+        late.forEach(row -> gaps.remove(row.version()));
+        return late;
+    }
+
+    private static void collect(LogRow row, long instanceId, List<Invalidation> received) {
+        if (row.originId() != instanceId) {
+            received.add(row.invalidation());
+        }
+    }
+
+    int trackedGaps() {
+        return gaps.size();
+    }
+
+    private record LogRow(long version, long originId, Invalidation invalidation) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.techquarter.workflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for moving old bookings out of the {@code bookings} table into archive segments.
+ */
+@Data
+@ConfigurationProperties(prefix = "workflow.archive")
+public class ArchiveProperties {
+
+    private boolean enabled = false;
+
+    private String directory = "data/archive";
+
+    /** Bookings whose return date is older than this are archived. */
+    private Duration minAge = Duration.ofDays(2 * 365);
+
+    private int maxBookingsPerSegment = 100_000;
+
+    /** Uncompressed size of a block, the unit decompressed by a lookup. */
+    private DataSize blockSize = DataSize.ofKilobytes(64);
+
+    /** Bookings deleted per transaction after a segment is written. */
+    private int deleteChunkSize = 500;
+}
@@ -0,0 +1,33 @@
+package com.techquarter.workflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Settings for the booking audit journal.
+ */
+@Data
+@ConfigurationProperties(prefix = "workflow.audit")
+public class AuditProperties {
+
+    private boolean enabled = false;
+
+    private String directory = "data/audit";
+
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /** Entries waiting for the background writer. */
+    private int queueCapacity = 65_536;
+
+    /** Longest a caller waits for room in a full queue before writing the queued entries itself. */
+    private Duration enqueueTimeout = Duration.ofSeconds(5);
+
+    /** Force each written batch to disk instead of relying on the page cache until rotation. */
+    private boolean forceOnWrite = false;
+
+    /** Sealed segments whose newest entry is older than this are deleted. */
+    private Duration retention = Duration.ofDays(7 * 365);
+}
@@ -0,0 +1,28 @@
+package com.techquarter.workflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for server-side group commit of {@code POST /bookings}.
+ * When enabled, concurrent create requests are queued for at most {@code maxWait}
+ * and written together in a single transaction of up to {@code maxBatchSize} rows.
+ */
+@Data
+@ConfigurationProperties(prefix = "workflow.booking.create-batching")
+public class BookingBatchingProperties {
+
+    private boolean enabled = false;
+
+    private int maxBatchSize = 64;
+
+    private Duration maxWait = Duration.ofMillis(5);
+
+    /** Requests beyond this many queued creates fall back to a direct, unbatched write. */
+    private int queueCapacity = 10_000;
+
+    /** Longest a caller waits for its batch before giving up on the create. */
+    private Duration callerTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,31 @@
+package com.techquarter.workflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for provisional holds: bookings that are cancelled automatically unless confirmed
+ * within {@code duration}.
+ */
+@Data
+@ConfigurationProperties(prefix = "workflow.booking.hold")
+public class BookingHoldProperties {
+
+    private boolean enabled = false;
+
+    private Duration duration = Duration.ofMinutes(15);
+
+    /** Resolution of the timing wheel; a hold expires at most one tick late. */
+    private Duration tick = Duration.ofSeconds(1);
+
+    /** Buckets in the timing wheel, a power of two; ideally covers {@code duration} in one rotation. */
+    private int wheelSize = 1024;
+
+    /** Holds cancelled per transaction. */
+    private int expireBatchSize = 500;
+
+    /** Rows read per query while reloading pending holds at startup. */
+    private int loadBatchSize = 10_000;
+}
@@ -0,0 +1,18 @@
+package com.techquarter.workflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the in-memory columnar read model that serves booking list, search and count
+ * queries instead of JPA.
+ */
+@Data
+@ConfigurationProperties(prefix = "workflow.booking.read-model")
+public class BookingReadModelProperties {
+
+    private boolean enabled = false;
+
+    /** Rows read per query while loading the model at startup. */
+    private int loadBatchSize = 10_000;
+}
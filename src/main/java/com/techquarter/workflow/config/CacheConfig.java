@@ -0,0 +1,27 @@
+package com.techquarter.workflow.config;
+
+import com.techquarter.workflow.cache.InMemoryInvalidationTransport;
+import com.techquarter.workflow.cache.InvalidationTransport;
+import com.techquarter.workflow.cache.JdbcInvalidationTransport;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Transport selected by {@code workflow.cache.invalidation.transport}; declare another bean to replace it. */
+    @Bean
+    @ConditionalOnMissingBean
+    public InvalidationTransport invalidationTransport(CacheInvalidationProperties properties,
+                                                       JdbcTemplate jdbcTemplate) {
+        return switch (properties.getTransport()) {
+            case JDBC -> new JdbcInvalidationTransport(jdbcTemplate, properties.getMaxRowsPerPoll(),
+                    properties.getLateCommitGrace(), properties.getRetention());
+            case IN_MEMORY -> new InMemoryInvalidationTransport();
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.techquarter.workflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for propagating cache invalidations between instances.
+ */
+@Data
+@ConfigurationProperties(prefix = "workflow.cache.invalidation")
+public class CacheInvalidationProperties {
+
+    /** When false, caches are only evicted on the instance that made the change. */
+    private boolean enabled = true;
+
+    private Transport transport = Transport.JDBC;
+
+    /** How long local invalidations are collected and coalesced before being published. */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    private Duration pollInterval = Duration.ofMillis(200);
+
+    /** More keys than this for one cache in one flush are published as a single clear of that cache. */
+    private int maxKeysPerCache = 1_000;
+
+    private int maxRowsPerPoll = 10_000;
+
+    /** How long a missing log version is waited for before it is assumed rolled back. */
+    private Duration lateCommitGrace = Duration.ofSeconds(5);
+
+    /** Invalidation log rows older than this are deleted. */
+    private Duration retention = Duration.ofMinutes(10);
+
+    public enum Transport {
+        /** Shared {@code cache_invalidations} table polled by every instance. */
+        JDBC,
+        /** Instances in the same JVM only; for a single instance and tests. */
+        IN_MEMORY
+    }
+}
@@ -0,0 +1,18 @@
+package com.techquarter.workflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for {@code POST /employees/import}.
+ */
+@Data
+@ConfigurationProperties(prefix = "workflow.employee-import")
+public class EmployeeImportProperties {
+
+    /** Rows upserted per JDBC batch and transaction. */
+    private int batchSize = 1_000;
+
+    /** Row errors reported in the response; further errors are only counted. */
+    private int maxReportedErrors = 1_000;
+}
@@ -0,0 +1,25 @@
+package com.techquarter.workflow.config;
+
+import com.techquarter.workflow.domain.id.IdGenerator;
+import com.techquarter.workflow.domain.id.IdGenerators;
+import com.techquarter.workflow.domain.id.TimeOrderedIdGenerator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    /** Default generator; declare another {@link IdGenerator} bean to replace it. */
+    @Bean
+    @ConditionalOnMissingBean
+    public IdGenerator idGenerator(IdGeneratorProperties properties) {
+        return new TimeOrderedIdGenerator(properties.getNodeId());
+    }
+
+    @Bean
+    public SmartInitializingSingleton idGeneratorRegistration(IdGenerator idGenerator) {
+        return () -> IdGenerators.use(idGenerator);
+    }
+}
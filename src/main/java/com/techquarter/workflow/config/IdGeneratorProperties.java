@@ -0,0 +1,15 @@
+package com.techquarter.workflow.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for application-assigned entity ids. Every running instance must use a
+ * distinct {@code nodeId} (0-1023) so that ids never collide across the cluster.
+ */
+@Data
+@ConfigurationProperties(prefix = "workflow.id")
+public class IdGeneratorProperties {
+
+    private int nodeId = 0;
+}
@@ -0,0 +1,56 @@
+package com.techquarter.workflow.config;
+
+import com.techquarter.workflow.domain.model.ResourceType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Settings for {@code POST /quotes} fan-out to provider adapters.
+ */
+@Data
+@ConfigurationProperties(prefix = "workflow.quotes")
+public class QuoteProperties {
+
+    /** Per-provider budget; slower providers are reported as missing and the response is partial. */
+    private Duration timeout = Duration.ofMillis(800);
+
+    /** Send a second, identical request to a provider that has not answered after this delay. */
+    private Duration hedgeDelay = Duration.ofMillis(150);
+
+    private Duration cacheTtl = Duration.ofMinutes(5);
+
+    private int cacheMaxEntries = 10_000;
+
+    /** Local stub providers with injected latency, for development and tests. */
+    private List<Stub> stubs = new ArrayList<>();
+
+    @Data
+    public static class Stub {
+
+        private String name;
+
+        private Set<ResourceType> resourceTypes = EnumSet.allOf(ResourceType.class);
+
+        private Duration latency = Duration.ofMillis(50);
+
+        /** Extra latency added to a fraction of the calls, to simulate tail latency. */
+        private Duration spikeLatency = Duration.ZERO;
+
+        private double spikeProbability = 0.0;
+
+        private double failureProbability = 0.0;
+
+        private BigDecimal basePrice = BigDecimal.valueOf(100);
+
+        private String currency = "EUR";
+
+        private int capacity = 50;
+    }
+}
@@ -0,0 +1,50 @@
+package com.techquarter.workflow.controller;
+
+import com.techquarter.workflow.dto.ApprovalDecisionRequest;
+import com.techquarter.workflow.dto.ApprovalTaskResponse;
+import com.techquarter.workflow.service.ApprovalService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/approvals")
+@RequiredArgsConstructor
+public class ApprovalController {
+
+    private final ApprovalService approvalService;
+
+    /**
+     * Pending tasks of an approver, oldest first; pass the last id of the previous page as
+     * {@code afterId}.
+     */
+    @GetMapping("/inbox/{approverCode}")
+    public ResponseEntity<List<ApprovalTaskResponse>> getInbox(
+            @PathVariable String approverCode,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(approvalService.getInbox(approverCode, afterId, limit));
+    }
+
+    @GetMapping("/booking/{bookingId}")
+    public ResponseEntity<List<ApprovalTaskResponse>> getBookingApprovals(@PathVariable Long bookingId) {
+        return ResponseEntity.ok(approvalService.getBookingApprovals(bookingId));
+    }
+
+    @PostMapping("/{taskId}/approve")
+    public ResponseEntity<ApprovalTaskResponse> approve(
+            @PathVariable Long taskId,
+            @Valid @RequestBody ApprovalDecisionRequest request) {
+        return ResponseEntity.ok(approvalService.approve(taskId, request));
+    }
+
+    @PostMapping("/{taskId}/reject")
+    public ResponseEntity<ApprovalTaskResponse> reject(
+            @PathVariable Long taskId,
+            @Valid @RequestBody ApprovalDecisionRequest request) {
+        return ResponseEntity.ok(approvalService.reject(taskId, request));
+    }
+}
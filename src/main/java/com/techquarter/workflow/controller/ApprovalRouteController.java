@@ -0,0 +1,46 @@
+package com.techquarter.workflow.controller;
+
+import com.techquarter.workflow.dto.ApprovalRouteRequest;
+import com.techquarter.workflow.dto.ApprovalRouteResponse;
+import com.techquarter.workflow.service.ApprovalRouteService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/approval-routes")
+@RequiredArgsConstructor
+public class ApprovalRouteController {
+
+    private final ApprovalRouteService approvalRouteService;
+
+    @GetMapping
+    public ResponseEntity<List<ApprovalRouteResponse>> getRoutes() {
+        return ResponseEntity.ok(approvalRouteService.getRoutes());
+    }
+
+    @GetMapping("/{costCenter}")
+    public ResponseEntity<ApprovalRouteResponse> getRoute(@PathVariable String costCenter) {
+        return ResponseEntity.ok(approvalRouteService.getRoute(costCenter));
+    }
+
+    /**
+     * Creates or replaces the approval steps of a cost center's employees; use {@code *} for the
+     * default route.
+     */
+    @PutMapping("/{costCenter}")
+    public ResponseEntity<ApprovalRouteResponse> putRoute(
+            @PathVariable String costCenter,
+            @Valid @RequestBody ApprovalRouteRequest request) {
+        return ResponseEntity.ok(approvalRouteService.putRoute(costCenter, request));
+    }
+
+    @DeleteMapping("/{costCenter}")
+    public ResponseEntity<Void> deleteRoute(@PathVariable String costCenter) {
+        approvalRouteService.deleteRoute(costCenter);
+        return ResponseEntity.noContent().build();
+    }
+}
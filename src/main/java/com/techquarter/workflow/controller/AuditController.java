@@ -0,0 +1,40 @@
+package com.techquarter.workflow.controller;
+
+import com.techquarter.workflow.audit.AuditJournal;
+import com.techquarter.workflow.audit.AuditJournalService;
+import com.techquarter.workflow.dto.AuditEntryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/audit")
+@RequiredArgsConstructor
+public class AuditController {
+
+    private static final int MAX_LIMIT = 10_000;
+
+    private final AuditJournalService auditJournalService;
+
+    @GetMapping("/bookings/{bookingId}")
+    public ResponseEntity<List<AuditEntryResponse>> getBookingHistory(@PathVariable long bookingId) {
+        return ResponseEntity.ok(auditJournalService.getBookingHistory(bookingId));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<AuditEntryResponse>> getEntries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(auditJournalService.getEntries(from, to, Math.clamp(limit, 1, MAX_LIMIT)));
+    }
+
+    @GetMapping("/verify")
+    public ResponseEntity<AuditJournal.VerificationResult> verify() {
+        return ResponseEntity.ok(auditJournalService.verify());
+    }
+}
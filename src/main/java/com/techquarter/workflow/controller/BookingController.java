@@ -1,7 +1,10 @@
 package com.techquarter.workflow.controller;
 
+import com.techquarter.workflow.dto.BookingCountResponse;
 import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.dto.BookingSearchCriteria;
 import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.service.BookingCreateBatcher;
 import com.techquarter.workflow.service.BookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,11 +20,14 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final BookingCreateBatcher bookingCreateBatcher;
 
     @PostMapping
     public ResponseEntity<BookingResponse> createBooking(
             @Valid @RequestBody CreateBookingRequest request) {
-        BookingResponse response = bookingService.createBooking(request);
+        BookingResponse response = bookingCreateBatcher.isEnabled()
+                ? bookingCreateBatcher.createBooking(request)
+                : bookingService.createBooking(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -31,6 +37,18 @@ public class BookingController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<BookingResponse> cancelBooking(@PathVariable Long id) {
+        BookingResponse response = bookingService.cancelBooking(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<BookingResponse> confirmBooking(@PathVariable Long id) {
+        BookingResponse response = bookingService.confirmBooking(id);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/employee/{employeeCode}")
     public ResponseEntity<List<BookingResponse>> getBookingsByEmployee(
             @PathVariable String employeeCode) {
@@ -43,4 +61,34 @@ public class BookingController {
         List<BookingResponse> bookings = bookingService.getAllBookings();
         return ResponseEntity.ok(bookings);
     }
+
+    /**
+     * Keyset pagination in creation order: pass the last id of the previous page as {@code afterId}.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<List<BookingResponse>> getBookingsPage(
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<BookingResponse> bookings = bookingService.getBookingsPage(afterId, limit);
+        return ResponseEntity.ok(bookings);
+    }
+
+    /**
+     * Bookings matching every given filter ({@code status}, {@code resourceType},
+     * {@code destination}, {@code costCenter}, {@code departureFrom}, {@code departureTo}),
+     * paged like {@code /page}.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<BookingResponse>> searchBookings(
+            BookingSearchCriteria criteria,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<BookingResponse> bookings = bookingService.searchBookings(criteria, afterId, limit);
+        return ResponseEntity.ok(bookings);
+    }
+
+    @GetMapping("/count")
+    public ResponseEntity<BookingCountResponse> countBookings(BookingSearchCriteria criteria) {
+        return ResponseEntity.ok(new BookingCountResponse(bookingService.countBookings(criteria)));
+    }
 }
@@ -1,20 +1,32 @@
 package com.techquarter.workflow.controller;
 
 import com.techquarter.workflow.dto.CreateEmployeeRequest;
+import com.techquarter.workflow.dto.EmployeeImportResponse;
 import com.techquarter.workflow.dto.EmployeeResponse;
+import com.techquarter.workflow.dto.EmployeeSuggestionResponse;
+import com.techquarter.workflow.importer.EmployeeImportFormat;
+import com.techquarter.workflow.importer.EmployeeImportService;
+import com.techquarter.workflow.index.EmployeeDirectoryIndex;
 import com.techquarter.workflow.service.EmployeeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 @RestController
 @RequestMapping("/employees")
 @RequiredArgsConstructor
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeDirectoryIndex employeeDirectoryIndex;
 
     @PostMapping
     public ResponseEntity<EmployeeResponse> createEmployee(
@@ -23,10 +35,34 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Autocomplete: employees whose name, any word of the name, code or email starts with
+     * {@code q}, ignoring case, best match first.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<EmployeeSuggestionResponse>> searchEmployees(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(employeeDirectoryIndex.search(query, limit));
+    }
+
     @GetMapping("/{employeeCode}")
     public ResponseEntity<EmployeeResponse> getEmployee(
             @PathVariable String employeeCode) {
         EmployeeResponse response = employeeService.getEmployee(employeeCode);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Bulk upsert from an HR feed streamed as {@code text/csv} (with header row) or
+     * {@code application/x-ndjson}. Invalid rows are reported and skipped.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<EmployeeImportResponse> importEmployees(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        EmployeeImportResponse response = employeeImportService.importEmployees(
+                body, EmployeeImportFormat.fromContentType(contentType));
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,23 @@
+package com.techquarter.workflow.controller;
+
+import com.techquarter.workflow.dto.QuoteRequest;
+import com.techquarter.workflow.dto.QuoteResponse;
+import com.techquarter.workflow.quote.QuoteService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/quotes")
+@RequiredArgsConstructor
+public class QuoteController {
+
+    private final QuoteService quoteService;
+
+    @PostMapping
+    public ResponseEntity<QuoteResponse> quote(@Valid @RequestBody QuoteRequest request) {
+        QuoteResponse response = quoteService.quote(request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,45 @@
+package com.techquarter.workflow.controller;
+
+import com.techquarter.workflow.dto.TravelPolicyRequest;
+import com.techquarter.workflow.dto.TravelPolicyResponse;
+import com.techquarter.workflow.service.TravelPolicyService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/policies")
+@RequiredArgsConstructor
+public class TravelPolicyController {
+
+    private final TravelPolicyService travelPolicyService;
+
+    @GetMapping
+    public ResponseEntity<List<TravelPolicyResponse>> getPolicies() {
+        return ResponseEntity.ok(travelPolicyService.getPolicies());
+    }
+
+    @GetMapping("/{costCenter}")
+    public ResponseEntity<TravelPolicyResponse> getPolicy(@PathVariable String costCenter) {
+        return ResponseEntity.ok(travelPolicyService.getPolicy(costCenter));
+    }
+
+    /**
+     * Creates or replaces a cost center's policy; use {@code *} for the default policy.
+     */
+    @PutMapping("/{costCenter}")
+    public ResponseEntity<TravelPolicyResponse> putPolicy(
+            @PathVariable String costCenter,
+            @Valid @RequestBody TravelPolicyRequest request) {
+        return ResponseEntity.ok(travelPolicyService.putPolicy(costCenter, request));
+    }
+
+    @DeleteMapping("/{costCenter}")
+    public ResponseEntity<Void> deletePolicy(@PathVariable String costCenter) {
+        travelPolicyService.deletePolicy(costCenter);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.techquarter.workflow.controller;
+
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.dto.TravellersResponse;
+import com.techquarter.workflow.index.TravelCalendarIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/travellers")
+@RequiredArgsConstructor
+public class TravellerController {
+
+    private final TravelCalendarIndex travelCalendarIndex;
+
+    /**
+     * Employees away on {@code date}, or on any day of {@code [from, to]}.
+     */
+    @GetMapping
+    public ResponseEntity<TravellersResponse> getTravellers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String costCenter,
+            @RequestParam(required = false) ResourceType resourceType) {
+        LocalDate start = date != null ? date : from;
+        LocalDate end = date != null ? date : (to != null ? to : from);
+        if (start == null) {
+            throw new IllegalArgumentException("Either date or from must be provided");
+        }
+
+        List<String> employeeCodes = travelCalendarIndex.findTravellers(start, end, costCenter, resourceType);
+        return ResponseEntity.ok(TravellersResponse.builder()
+                .from(start)
+                .to(end)
+                .costCenter(costCenter)
+                .resourceType(resourceType)
+                .count(employeeCodes.size())
+                .employeeCodes(employeeCodes)
+                .build());
+    }
+}
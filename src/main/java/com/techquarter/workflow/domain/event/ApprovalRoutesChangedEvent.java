@@ -0,0 +1,8 @@
+package com.techquarter.workflow.domain.event;
+
+/**
+ * Published by {@link com.techquarter.workflow.service.ApprovalRouteService} when a cost
+ * center's approval route is created, replaced or deleted.
+ */
+public record ApprovalRoutesChangedEvent(String costCenter) {
+}
@@ -0,0 +1,10 @@
+package com.techquarter.workflow.domain.event;
+
+import com.techquarter.workflow.domain.model.Booking;
+
+/**
+ * Published by {@link com.techquarter.workflow.service.BookingService} for every persisted booking.
+ * The booking and its employee are fully loaded; listeners must not modify them.
+ */
+public record BookingCreatedEvent(Booking booking) {
+}
@@ -0,0 +1,11 @@
+package com.techquarter.workflow.domain.event;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+
+/**
+ * Published by {@link com.techquarter.workflow.service.BookingService} whenever a booking moves
+ * to a new {@link BookingStatus}.
+ */
+public record BookingStatusChangedEvent(Long bookingId, Long employeeId,
+                                        BookingStatus previousStatus, BookingStatus newStatus) {
+}
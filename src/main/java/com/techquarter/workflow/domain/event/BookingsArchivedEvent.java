@@ -0,0 +1,10 @@
+package com.techquarter.workflow.domain.event;
+
+import java.util.List;
+
+/**
+ * Published by {@link com.techquarter.workflow.archive.BookingArchiver} when bookings have been
+ * removed from the {@code bookings} table after being written to an archive segment.
+ */
+public record BookingsArchivedEvent(List<Long> bookingIds) {
+}
@@ -0,0 +1,19 @@
+package com.techquarter.workflow.domain.event;
+
+import com.techquarter.workflow.domain.model.Employee;
+
+import java.util.List;
+
+/**
+ * Published when employees are created or updated, by
+ * {@link com.techquarter.workflow.service.EmployeeService} and the bulk importer.
+ *
+ * @param employees the employees as written; imported employees carry no id
+ * @param newOnly   true when every employee was just created, so nothing derived from them can be cached yet
+ */
+public record EmployeesChangedEvent(List<Employee> employees, boolean newOnly) {
+
+    public List<String> employeeCodes() {
+        return employees.stream().map(Employee::getEmployeeCode).toList();
+    }
+}
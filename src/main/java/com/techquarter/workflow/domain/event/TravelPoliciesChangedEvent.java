@@ -0,0 +1,8 @@
+package com.techquarter.workflow.domain.event;
+
+/**
+ * Published by {@link com.techquarter.workflow.service.TravelPolicyService} when a cost center's
+ * travel policy is created, updated or deleted.
+ */
+public record TravelPoliciesChangedEvent(String costCenter) {
+}
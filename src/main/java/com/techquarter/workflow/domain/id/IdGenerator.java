@@ -0,0 +1,11 @@
+package com.techquarter.workflow.domain.id;
+
+/**
+ * Source of application-assigned 64-bit entity ids.
+ * Implementations must be thread-safe and return strictly increasing values per node.
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+    long nextId();
+}
@@ -0,0 +1,24 @@
+package com.techquarter.workflow.domain.id;
+
+/**
+ * Holder for the process-wide {@link IdGenerator}.
+ * <p>
+ * Hibernate instantiates id generators itself, outside of the Spring context, so the
+ * configured generator is published here at startup (see
+ * {@link com.techquarter.workflow.config.IdGeneratorConfig}).
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator current = new TimeOrderedIdGenerator(0);
+
+    private IdGenerators() {
+    }
+
+    public static IdGenerator current() {
+        return current;
+    }
+
+    public static void use(IdGenerator generator) {
+        current = generator;
+    }
+}
@@ -0,0 +1,18 @@
+package com.techquarter.workflow.domain.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an entity id that is assigned in the application from {@link IdGenerators#current()}
+ * before the insert, so no database round-trip is needed to learn it and inserts can be batched.
+ */
+@IdGeneratorType(TimeOrderedIdHibernateGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -1,5 +1,6 @@
 package com.techquarter.workflow.domain.model;
 
+import com.techquarter.workflow.domain.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,14 +9,14 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "appointments")
+@Table(name = "appointments", indexes = @Index(name = "idx_appointments_booking_id", columnList = "booking_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Appointment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
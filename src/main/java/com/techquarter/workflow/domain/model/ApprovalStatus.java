@@ -0,0 +1,9 @@
+package com.techquarter.workflow.domain.model;
+
+public enum ApprovalStatus {
+    PENDING,
+    APPROVED,
+    REJECTED,
+    /** The booking was cancelled before this step was decided. */
+    WITHDRAWN
+}
@@ -0,0 +1,42 @@
+package com.techquarter.workflow.domain.model;
+
+import com.techquarter.workflow.domain.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One step of a cost center's approval route, decided by a single approver. Steps run in
+ * {@code stepOrder}.
+ */
+@Entity
+@Table(name = "approval_steps",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"cost_center", "step_order"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalStep {
+    /** Cost center whose route applies to employees of a cost center without its own. */
+    public static final String DEFAULT_COST_CENTER = "*";
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(nullable = false)
+    private String costCenter;
+
+    @Column(nullable = false)
+    private Integer stepOrder;
+
+    /** Shown to approvers, e.g. "Manager" or "Finance". */
+    @Column(nullable = false)
+    private String name;
+
+    /** Employee code of the approver. */
+    @Column(nullable = false)
+    private String approverCode;
+}
@@ -0,0 +1,80 @@
+package com.techquarter.workflow.domain.model;
+
+import com.techquarter.workflow.domain.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One approval step of one booking, in the inbox of its approver while pending.
+ * <p>
+ * The booking fields an inbox shows are copied in when the task is opened, so an approver's
+ * pending tasks are read with one range scan of {@code idx_approval_tasks_inbox} and no join.
+ * Decisions are guarded by {@link #version}.
+ */
+@Entity
+@Table(name = "approval_tasks", indexes = {
+        @Index(name = "idx_approval_tasks_inbox", columnList = "approver_code, status, id"),
+        @Index(name = "idx_approval_tasks_booking_id", columnList = "booking_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalTask {
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    // No foreign key: decided tasks are kept as history after the booking is archived
+    @Column(nullable = false)
+    private Long bookingId;
+
+    @Column(nullable = false)
+    private Integer stepOrder;
+
+    @Column(nullable = false)
+    private String stepName;
+
+    @Column(nullable = false)
+    private String approverCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApprovalStatus status;
+
+    /** The requester's cost center, which selects the route. */
+    @Column(nullable = false)
+    private String costCenter;
+
+    @Column(nullable = false)
+    private String requesterCode;
+
+    @Column(nullable = false)
+    private String requesterName;
+
+    @Column(nullable = false)
+    private String destination;
+
+    @Column(nullable = false)
+    private LocalDateTime departureDate;
+
+    @Column(nullable = false)
+    private LocalDateTime returnDate;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime decidedAt;
+
+    @Column(length = 1000)
+    private String comment;
+
+    @Version
+    private Long version;
+}
@@ -1,5 +1,6 @@
 package com.techquarter.workflow.domain.model;
 
+import com.techquarter.workflow.domain.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,14 +9,17 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_employee_id", columnList = "employee_id"),
+        @Index(name = "idx_bookings_return_date", columnList = "return_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Booking {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -47,4 +51,7 @@ public class Booking {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private BookingStatus status;
+
+    /** When an unconfirmed booking is cancelled automatically; {@code null} once it leaves CREATED. */
+    private LocalDateTime holdExpiresAt;
 }
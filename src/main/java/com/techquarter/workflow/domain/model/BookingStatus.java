@@ -3,5 +3,7 @@ package com.techquarter.workflow.domain.model;
 public enum BookingStatus {
     CREATED,
     CONFIRMED,
-    CANCELLED
+    CANCELLED,
+    /** Waiting for the approval route of the employee's cost center; confirmed by its last step. */
+    PENDING_APPROVAL
 }
@@ -0,0 +1,40 @@
+package com.techquarter.workflow.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of the shared cache invalidation log read by
+ * {@link com.techquarter.workflow.cache.JdbcInvalidationTransport}. Times are epoch millis.
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = @Index(name = "idx_cache_invalidations_published_at",
+        columnList = "published_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheInvalidationEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version;
+
+    @Column(name = "origin_id", nullable = false)
+    private Long originId;
+
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+
+    /** Null clears the whole cache. */
+    @Column(name = "cache_key")
+    private String cacheKey;
+
+    @Column(name = "changed_at", nullable = false)
+    private Long changedAt;
+
+    @Column(name = "published_at", nullable = false)
+    private Long publishedAt;
+}
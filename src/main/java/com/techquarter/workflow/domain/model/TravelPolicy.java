@@ -0,0 +1,46 @@
+package com.techquarter.workflow.domain.model;
+
+import com.techquarter.workflow.domain.id.TimeOrderedId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Booking rules for one cost center. A null limit means the rule does not apply.
+ */
+@Entity
+@Table(name = "travel_policies")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TravelPolicy {
+    /** Cost center whose policy applies to bookings charged to a cost center without its own. */
+    public static final String DEFAULT_COST_CENTER = "*";
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String costCenter;
+
+    /** Calendar days between departure and return date. */
+    private Integer maxTripDays;
+
+    /** Calendar days between booking and departure. */
+    private Integer minAdvanceDays;
+
+    private Integer maxAdvanceDays;
+
+    private Integer maxTravelers;
+
+    /** Comma-separated, matched case-insensitively; null allows any destination. */
+    @Column(length = 4000)
+    private String allowedDestinations;
+
+    @Version
+    private Long version;
+}
@@ -0,0 +1,8 @@
+package com.techquarter.workflow.domain.repository;
+
+/**
+ * Cheap summary of the {@code approval_steps} table. Routes are replaced by deleting and
+ * inserting steps, so every change moves the count or the highest time-ordered id.
+ */
+public record ApprovalStepFingerprint(Long count, Long maxId) {
+}
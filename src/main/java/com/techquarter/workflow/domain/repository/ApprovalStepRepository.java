@@ -0,0 +1,27 @@
+package com.techquarter.workflow.domain.repository;
+
+import com.techquarter.workflow.domain.model.ApprovalStep;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApprovalStepRepository extends JpaRepository<ApprovalStep, Long> {
+    List<ApprovalStep> findByCostCenterOrderByStepOrderAsc(String costCenter);
+
+    List<ApprovalStep> findAllByOrderByCostCenterAscStepOrderAsc();
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ApprovalStep s where s.costCenter = :costCenter")
+    int deleteByCostCenter(String costCenter);
+
+    @Query("""
+            select new com.techquarter.workflow.domain.repository.ApprovalStepFingerprint(
+                count(s), coalesce(max(s.id), 0))
+            from ApprovalStep s
+            """)
+    ApprovalStepFingerprint fingerprint();
+}
@@ -0,0 +1,37 @@
+package com.techquarter.workflow.domain.repository;
+
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import com.techquarter.workflow.domain.model.ApprovalTask;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApprovalTaskRepository extends JpaRepository<ApprovalTask, Long> {
+    /**
+     * Keyset page of an approver's inbox; a range scan of {@code idx_approval_tasks_inbox}. The
+     * order spells out the whole index key so H2 reads the page in index order instead of sorting
+     * every pending task of the approver.
+     */
+    @Query("""
+            select t from ApprovalTask t
+            where t.approverCode = :approverCode and t.status = :status and t.id > :afterId
+            order by t.approverCode, t.status, t.id
+            """)
+    List<ApprovalTask> findInbox(String approverCode, ApprovalStatus status, long afterId, Limit limit);
+
+    List<ApprovalTask> findByBookingIdOrderByIdAsc(Long bookingId);
+
+    /** Bumps the version so a decision racing the withdrawal fails its optimistic check. */
+    @Modifying
+    @Query("""
+            update ApprovalTask t
+            set t.status = com.techquarter.workflow.domain.model.ApprovalStatus.WITHDRAWN, t.version = t.version + 1
+            where t.bookingId = :bookingId and t.status = com.techquarter.workflow.domain.model.ApprovalStatus.PENDING
+            """)
+    int withdrawPending(Long bookingId);
+}
@@ -0,0 +1,9 @@
+package com.techquarter.workflow.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * A booking that is still on hold and when the hold runs out, used to reload the hold scheduler.
+ */
+public record BookingHoldView(Long bookingId, LocalDateTime holdExpiresAt) {
+}
@@ -1,12 +1,139 @@
 package com.techquarter.workflow.domain.repository;
 
 import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.ResourceType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    // Every booking read is mapped to a response that includes the employee code, so the
+    // employee is fetched in the same statement instead of one lazy select per booking
+    @Override
+    @EntityGraph(attributePaths = "employee")
+    Optional<Booking> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "employee")
+    List<Booking> findAll();
+
+    @EntityGraph(attributePaths = "employee")
     List<Booking> findByEmployeeId(Long employeeId);
+
+    /** Keyset page; ids are time-ordered, so this walks bookings in creation order. */
+    @EntityGraph(attributePaths = "employee")
+    List<Booking> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /** Keyset page of full rows, used to load the booking read model. */
+    @Query("""
+            select new com.techquarter.workflow.domain.repository.BookingRowView(
+                b.id, e.id, e.employeeCode, e.name, b.resourceType, b.destination, b.departureDate,
+                b.returnDate, b.travelerCount, b.costCenterRef, b.tripPurpose, b.status, b.holdExpiresAt)
+            from Booking b join b.employee e
+            where b.id > :afterId
+            order by b.id
+            """)
+    List<BookingRowView> findRowsAfter(Long afterId, Limit limit);
+
+    /**
+     * Keyset page of bookings matching every non-null filter; departures in
+     * {@code [departureFrom, departureBefore)}.
+     */
+    @EntityGraph(attributePaths = "employee")
+    @Query("""
+            select b from Booking b
+            where b.id > :afterId
+              and (:status is null or b.status = :status)
+              and (:resourceType is null or b.resourceType = :resourceType)
+              and (:destination is null or b.destination = :destination)
+              and (:costCenter is null or b.costCenterRef = :costCenter)
+              and (:departureFrom is null or b.departureDate >= :departureFrom)
+              and (:departureBefore is null or b.departureDate < :departureBefore)
+            order by b.id
+            """)
+    List<Booking> search(BookingStatus status, ResourceType resourceType, String destination, String costCenter,
+                         LocalDateTime departureFrom, LocalDateTime departureBefore, Long afterId, Limit limit);
+
+    @Query("""
+            select count(b) from Booking b
+            where (:status is null or b.status = :status)
+              and (:resourceType is null or b.resourceType = :resourceType)
+              and (:destination is null or b.destination = :destination)
+              and (:costCenter is null or b.costCenterRef = :costCenter)
+              and (:departureFrom is null or b.departureDate >= :departureFrom)
+              and (:departureBefore is null or b.departureDate < :departureBefore)
+            """)
+    long countMatching(BookingStatus status, ResourceType resourceType, String destination, String costCenter,
+                       LocalDateTime departureFrom, LocalDateTime departureBefore);
+
+    @Query("""
+            select new com.techquarter.workflow.domain.repository.BookingStayView(
+                b.id, e.id, e.employeeCode, e.costCenter, b.resourceType, b.departureDate, b.returnDate)
+            from Booking b join b.employee e
+            where b.status <> :excluded
+            """)
+    List<BookingStayView> findStaysByStatusNot(BookingStatus excluded);
+
+    /**
+     * Bookings that returned before {@code cutoff} and have no appointments, in id order. Bookings
+     * still awaiting approval stay in the table so their open approval task can be decided.
+     */
+    @Query("""
+            select b from Booking b join fetch b.employee
+            where b.returnDate < :cutoff and b.id > :afterId
+              and b.status <> com.techquarter.workflow.domain.model.BookingStatus.PENDING_APPROVAL
+              and not exists (select a.id from Appointment a where a.booking = b)
+            order by b.id
+            """)
+    List<Booking> findArchivable(LocalDateTime cutoff, Long afterId, Limit limit);
+
+    @Modifying
+    @Query("delete from Booking b where b.id in :ids and b.status = :status")
+    int deleteByIdInAndStatus(BookingStatus status, Collection<Long> ids);
+
+    @Query("select b.id from Booking b where b.id in :ids")
+    List<Long> findIdsByIdIn(Collection<Long> ids);
+
+    /** Keyset page of bookings still on hold, used to reload the hold scheduler. */
+    @Query("""
+            select new com.techquarter.workflow.domain.repository.BookingHoldView(b.id, b.holdExpiresAt)
+            from Booking b
+            where b.id > :afterId and b.holdExpiresAt is not null
+            order by b.id
+            """)
+    List<BookingHoldView> findHoldsAfter(Long afterId, Limit limit);
+
+    /** Locks the bookings among {@code ids} whose hold ran out by {@code now}. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select b from Booking b
+            where b.id in :ids and b.status = com.techquarter.workflow.domain.model.BookingStatus.CREATED
+              and b.holdExpiresAt <= :now
+            """)
+    List<Booking> lockExpiredHolds(Collection<Long> ids, LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update Booking b
+            set b.status = com.techquarter.workflow.domain.model.BookingStatus.CANCELLED, b.holdExpiresAt = null
+            where b.id in :ids and b.status = com.techquarter.workflow.domain.model.BookingStatus.CREATED
+              and b.holdExpiresAt <= :now
+            """)
+    int cancelExpiredHolds(Collection<Long> ids, LocalDateTime now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from Booking b join fetch b.employee where b.id = :id")
+    Optional<Booking> findByIdForUpdate(Long id);
 }
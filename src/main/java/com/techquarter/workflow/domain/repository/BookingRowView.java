@@ -0,0 +1,16 @@
+package com.techquarter.workflow.domain.repository;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.ResourceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Every column of a booking plus its employee's id, code and name, used to load the booking
+ * read model without hydrating entities.
+ */
+public record BookingRowView(Long id, Long employeeId, String employeeCode, String employeeName,
+                             ResourceType resourceType, String destination, LocalDateTime departureDate,
+                             LocalDateTime returnDate, Integer travelerCount, String costCenterRef,
+                             String tripPurpose, BookingStatus status, LocalDateTime holdExpiresAt) {
+}
@@ -0,0 +1,14 @@
+package com.techquarter.workflow.domain.repository;
+
+import com.techquarter.workflow.domain.model.ResourceType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Minimal projection of an active booking, used to rebuild in-memory indexes without
+ * hydrating full entities.
+ */
+public record BookingStayView(Long bookingId, Long employeeId, String employeeCode, String costCenter,
+                              ResourceType resourceType, LocalDateTime departureDate,
+                              LocalDateTime returnDate) {
+}
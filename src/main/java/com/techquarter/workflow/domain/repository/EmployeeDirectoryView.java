@@ -0,0 +1,8 @@
+package com.techquarter.workflow.domain.repository;
+
+/**
+ * Searchable fields of an employee, used to build the directory index without hydrating
+ * full entities.
+ */
+public record EmployeeDirectoryView(String employeeCode, String name, String email, String costCenter) {
+}
@@ -2,11 +2,23 @@ package com.techquarter.workflow.domain.repository;
 
 import com.techquarter.workflow.domain.model.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     Optional<Employee> findByEmployeeCode(String employeeCode);
+
+    List<Employee> findByEmployeeCodeIn(Collection<String> employeeCodes);
+
+    @Query("""
+            select new com.techquarter.workflow.domain.repository.EmployeeDirectoryView(
+                e.employeeCode, e.name, e.email, e.costCenter)
+            from Employee e
+            """)
+    List<EmployeeDirectoryView> findDirectoryEntries();
 }
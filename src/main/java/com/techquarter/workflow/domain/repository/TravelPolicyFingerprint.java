@@ -0,0 +1,8 @@
+package com.techquarter.workflow.domain.repository;
+
+/**
+ * Cheap summary of the {@code travel_policies} table that changes on every insert, update and
+ * delete: updates bump a version, inserts get a higher time-ordered id.
+ */
+public record TravelPolicyFingerprint(Long count, Long versionSum, Long maxId) {
+}
@@ -0,0 +1,20 @@
+package com.techquarter.workflow.domain.repository;
+
+import com.techquarter.workflow.domain.model.TravelPolicy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TravelPolicyRepository extends JpaRepository<TravelPolicy, Long> {
+    Optional<TravelPolicy> findByCostCenter(String costCenter);
+
+    @Query("""
+            select new com.techquarter.workflow.domain.repository.TravelPolicyFingerprint(
+                count(p), coalesce(sum(p.version), 0), coalesce(max(p.id), 0))
+            from TravelPolicy p
+            """)
+    TravelPolicyFingerprint fingerprint();
+}
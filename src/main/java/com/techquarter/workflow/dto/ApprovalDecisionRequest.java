@@ -0,0 +1,25 @@
+package com.techquarter.workflow.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalDecisionRequest {
+
+    /** Must be the approver the task is assigned to. */
+    @NotBlank(message = "Approver code is required")
+    private String approverCode;
+
+    /** Version of the task as last read; optional. */
+    private Long version;
+
+    @Size(max = 1000)
+    private String comment;
+}
@@ -0,0 +1,21 @@
+package com.techquarter.workflow.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalRouteRequest {
+
+    /** Decided in list order. */
+    @NotEmpty(message = "At least one step is required")
+    private List<@Valid ApprovalStepRequest> steps;
+}
@@ -0,0 +1,17 @@
+package com.techquarter.workflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalRouteResponse {
+    private String costCenter;
+    private List<ApprovalStepResponse> steps;
+}
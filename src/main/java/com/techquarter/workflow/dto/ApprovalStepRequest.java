@@ -0,0 +1,20 @@
+package com.techquarter.workflow.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalStepRequest {
+
+    @NotBlank(message = "Step name is required")
+    private String name;
+
+    @NotBlank(message = "Approver code is required")
+    private String approverCode;
+}
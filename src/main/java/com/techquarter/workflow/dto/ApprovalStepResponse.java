@@ -0,0 +1,16 @@
+package com.techquarter.workflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalStepResponse {
+    private Integer stepOrder;
+    private String name;
+    private String approverCode;
+}
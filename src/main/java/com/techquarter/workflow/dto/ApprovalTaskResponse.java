@@ -0,0 +1,30 @@
+package com.techquarter.workflow.dto;
+
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class ApprovalTaskResponse {
+
+    private Long id;
+    private Long bookingId;
+    private Integer stepOrder;
+    private String stepName;
+    private String approverCode;
+    private ApprovalStatus status;
+    private String costCenter;
+    private String requesterCode;
+    private String requesterName;
+    private String destination;
+    private LocalDateTime departureDate;
+    private LocalDateTime returnDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime decidedAt;
+    private String comment;
+    /** Send back with the decision to fail fast if the task changed since it was read. */
+    private Long version;
+}
@@ -0,0 +1,22 @@
+package com.techquarter.workflow.dto;
+
+import com.techquarter.workflow.audit.AuditEventType;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class AuditEntryResponse {
+
+    private long sequence;
+    private Instant recordedAt;
+    private long bookingId;
+    private long employeeId;
+    private AuditEventType type;
+    private BookingStatus previousStatus;
+    private BookingStatus newStatus;
+    private String chainHash;
+}
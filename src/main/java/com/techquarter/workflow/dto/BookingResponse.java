@@ -22,4 +22,5 @@ public class BookingResponse {
     private String costCenterRef;
     private String tripPurpose;
     private BookingStatus status;
+    private LocalDateTime holdExpiresAt;
 }
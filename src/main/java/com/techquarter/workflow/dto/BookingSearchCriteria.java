@@ -0,0 +1,35 @@
+package com.techquarter.workflow.dto;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.ResourceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Filters for {@code GET /bookings/search} and {@code GET /bookings/count}; every field is
+ * optional and set fields are combined with AND.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingSearchCriteria {
+
+    private BookingStatus status;
+    private ResourceType resourceType;
+    private String destination;
+    private String costCenter;
+
+    /** First departure day, inclusive. */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate departureFrom;
+
+    /** Last departure day, inclusive. */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate departureTo;
+}
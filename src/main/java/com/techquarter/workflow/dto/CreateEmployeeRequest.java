@@ -22,5 +22,6 @@ public class CreateEmployeeRequest {
     @NotBlank
     private String email;
 
+    @NotBlank
     private String costCenter;
 }
@@ -0,0 +1,18 @@
+package com.techquarter.workflow.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class EmployeeImportResponse {
+
+    private long totalRows;
+    private long upserted;
+    private long failed;
+    private List<ImportRowError> errors;
+    private boolean errorsTruncated;
+    private long durationMillis;
+}
@@ -0,0 +1,20 @@
+package com.techquarter.workflow.dto;
+
+import com.techquarter.workflow.index.DirectoryField;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeSuggestionResponse {
+
+    private String employeeCode;
+    private String name;
+    private String email;
+    private String costCenter;
+    private DirectoryField matchedOn;
+}
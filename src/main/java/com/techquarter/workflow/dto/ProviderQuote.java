@@ -0,0 +1,18 @@
+package com.techquarter.workflow.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+public class ProviderQuote {
+
+    private String provider;
+    private boolean available;
+    private BigDecimal unitPrice;
+    private BigDecimal totalPrice;
+    private String currency;
+    private boolean cached;
+}
@@ -0,0 +1,34 @@
+package com.techquarter.workflow.dto;
+
+import com.techquarter.workflow.domain.model.ResourceType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuoteRequest {
+
+    @NotNull
+    private ResourceType resourceType;
+
+    @NotBlank
+    private String destination;
+
+    @NotNull
+    private LocalDate departureDate;
+
+    @NotNull
+    private LocalDate returnDate;
+
+    @Positive
+    private int travelerCount;
+}
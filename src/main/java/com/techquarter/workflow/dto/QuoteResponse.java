@@ -0,0 +1,18 @@
+package com.techquarter.workflow.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class QuoteResponse {
+
+    private List<ProviderQuote> quotes;
+
+    /** Providers that did not answer within the timeout or failed; {@code quotes} is then partial. */
+    private List<String> missingProviders;
+
+    private boolean partial;
+}
@@ -0,0 +1,33 @@
+package com.techquarter.workflow.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelPolicyRequest {
+
+    @PositiveOrZero
+    private Integer maxTripDays;
+
+    @PositiveOrZero
+    private Integer minAdvanceDays;
+
+    @PositiveOrZero
+    private Integer maxAdvanceDays;
+
+    @Positive
+    private Integer maxTravelers;
+
+    /** Null allows any destination. */
+    private List<@NotBlank String> allowedDestinations;
+}
@@ -0,0 +1,22 @@
+package com.techquarter.workflow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelPolicyResponse {
+    private String costCenter;
+    private Integer maxTripDays;
+    private Integer minAdvanceDays;
+    private Integer maxAdvanceDays;
+    private Integer maxTravelers;
+    private List<String> allowedDestinations;
+    private Long version;
+}
@@ -0,0 +1,20 @@
+package com.techquarter.workflow.dto;
+
+import com.techquarter.workflow.domain.model.ResourceType;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+public class TravellersResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private String costCenter;
+    private ResourceType resourceType;
+    private int count;
+    private List<String> employeeCodes;
+}
@@ -0,0 +1,11 @@
+package com.techquarter.workflow.exception;
+
+/**
+ * A decision on an approval task by someone other than the approver it is assigned to.
+ */
+public class ApprovalForbiddenException extends RuntimeException {
+
+    public ApprovalForbiddenException(String message) {
+        super(message);
+    }
+}
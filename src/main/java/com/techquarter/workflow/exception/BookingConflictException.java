@@ -0,0 +1,12 @@
+package com.techquarter.workflow.exception;
+
+/**
+ * A booking or approval request that is valid but clashes with the current state of the booking,
+ * such as confirming a cancelled booking or deciding a task that was already decided.
+ */
+public class BookingConflictException extends RuntimeException {
+
+    public BookingConflictException(String message) {
+        super(message);
+    }
+}
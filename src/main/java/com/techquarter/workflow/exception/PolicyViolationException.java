@@ -0,0 +1,17 @@
+package com.techquarter.workflow.exception;
+
+import com.techquarter.workflow.policy.PolicyRule;
+import lombok.Getter;
+
+@Getter
+public class PolicyViolationException extends RuntimeException {
+
+    private final String costCenter;
+    private final PolicyRule rule;
+
+    public PolicyViolationException(String costCenter, PolicyRule rule, String message) {
+        super(message);
+        this.costCenter = costCenter;
+        this.rule = rule;
+    }
+}
@@ -0,0 +1,132 @@
+package com.techquarter.workflow.hold;
+
+import com.techquarter.workflow.config.BookingHoldProperties;
+import com.techquarter.workflow.domain.event.BookingCreatedEvent;
+import com.techquarter.workflow.domain.repository.BookingHoldView;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.service.BookingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cancels bookings whose hold runs out before they are confirmed, without polling the
+ * {@code bookings} table.
+ * <p>
+ * Pending deadlines live in a {@link HoldTimingWheel}: reloaded from the table before the web
+ * server starts, then fed by committed booking creates. Every tick the due ids are handed to
+ * {@link BookingService#expireHolds} in batches of {@code expireBatchSize}; a batch that fails is
+ * retried on the next tick. The wheel only learns about bookings created through this instance,
+ * but the expiry is a conditional update, so several instances expiring the same hold is safe.
+ */
+@Slf4j
+@Component
+public class BookingHoldScheduler implements SmartInitializingSingleton {
+
+    private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
+    private final BookingHoldProperties properties;
+    private final HoldTimingWheel wheel;
+
+    public BookingHoldScheduler(BookingRepository bookingRepository, BookingService bookingService,
+                                BookingHoldProperties properties) {
+        this.bookingRepository = bookingRepository;
+        this.bookingService = bookingService;
+        this.properties = properties;
+        this.wheel = new HoldTimingWheel(properties.getTick().toMillis(), properties.getWheelSize(),
+                System.currentTimeMillis());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (properties.isEnabled()) {
+            reload();
+        }
+    }
+
+    /** Schedules every booking still on hold; ones that ran out while the service was down expire on the next tick. */
+    public void reload() {
+        long start = System.nanoTime();
+        long afterId = 0;
+        int loaded = 0;
+        while (true) {
+            List<BookingHoldView> page = bookingRepository.findHoldsAfter(afterId, Limit.of(properties.getLoadBatchSize()));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (BookingHoldView hold : page) {
+                wheel.schedule(hold.bookingId(), toMillis(hold.holdExpiresAt()));
+            }
+            loaded += page.size();
+            afterId = page.getLast().bookingId();
+        }
+        log.info("Scheduled {} booking holds in {} ms", loaded, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onBookingCreated(BookingCreatedEvent event) {
+        LocalDateTime holdExpiresAt = event.booking().getHoldExpiresAt();
+        if (properties.isEnabled() && holdExpiresAt != null) {
+            wheel.schedule(event.booking().getId(), toMillis(holdExpiresAt));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.booking.hold.tick:1s}")
+    public void expireOnSchedule() {
+        if (properties.isEnabled()) {
+            expireDue(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Cancels the holds that ran out by {@code nowMillis}.
+     *
+     * @return the number of bookings cancelled
+     */
+    public synchronized int expireDue(long nowMillis) {
+        long[] due = wheel.advance(nowMillis);
+        int expired = 0;
+        int from = 0;
+        try {
+            for (; from < due.length; from += properties.getExpireBatchSize()) {
+                int to = Math.min(due.length, from + properties.getExpireBatchSize());
+                List<Long> batch = new ArrayList<>(to - from);
+                for (int i = from; i < to; i++) {
+                    batch.add(due[i]);
+                }
+                try {
+                    expired += bookingService.expireHolds(batch);
+                } catch (RuntimeException ex) {
+                    // Includes transaction failures such as CannotCreateTransactionException
+                    log.warn("Expiring {} booking holds failed, retrying next tick: {}", batch.size(), ex.toString());
+                    batch.forEach(id -> wheel.schedule(id, nowMillis));
+                }
+            }
+        } finally {
+            // The wheel no longer holds these ids; put back whatever did not get its turn
+            for (int i = from; i < due.length; i++) {
+                wheel.schedule(due[i], nowMillis);
+            }
+        }
+        if (expired > 0) {
+            log.debug("Expired {} of {} due booking holds", expired, due.length);
+        }
+        return expired;
+    }
+
+    public int pendingHolds() {
+        return wheel.size();
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,101 @@
+package com.techquarter.workflow.hold;
+
+import java.util.Arrays;
+
+/**
+ * Hashed timing wheel of booking hold deadlines.
+ * <p>
+ * Time is cut into ticks and a deadline goes into bucket {@code tick & mask}, so scheduling is
+ * O(1) however many holds are pending. Advancing visits only the buckets of the ticks that
+ * passed and takes out their due entries; entries a rotation or more away stay for a later
+ * pass. A bucket is one {@code long[]} of (booking id, deadline tick) pairs, 16 bytes per hold
+ * and no per-hold objects.
+ * <p>
+ * There is no cancel: a booking confirmed or cancelled meanwhile stays until its deadline and is
+ * then skipped by the conditional update that applies the expiry.
+ */
+public final class HoldTimingWheel {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int SHRINK_CAPACITY = 1024;
+
+    private final long tickMillis;
+    private final int mask;
+    private final long[][] buckets;
+    private final int[] counts;
+    private long currentTick;
+    private int size;
+
+    public HoldTimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new long[wheelSize][];
+        Arrays.fill(buckets, EMPTY);
+        this.counts = new int[wheelSize];
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    /** Deadlines already passed fire on the next {@link #advance}. */
+    public synchronized void schedule(long bookingId, long deadlineMillis) {
+        // The first tick that starts after the deadline, so the deadline has passed when it is processed
+        long tick = Math.max(deadlineMillis / tickMillis + 1, currentTick + 1);
+        int bucket = (int) (tick & mask);
+        int count = counts[bucket];
+        long[] entries = buckets[bucket];
+        if (2 * count == entries.length) {
+            entries = Arrays.copyOf(entries, Math.max(8, entries.length * 2));
+            buckets[bucket] = entries;
+        }
+        entries[2 * count] = bookingId;
+        entries[2 * count + 1] = tick;
+        counts[bucket] = count + 1;
+        size++;
+    }
+
+    /** Moves the wheel to {@code nowMillis} and returns the ids whose deadline has passed. */
+    public synchronized long[] advance(long nowMillis) {
+        long target = nowMillis / tickMillis;
+        if (target <= currentTick) {
+            return EMPTY;
+        }
+        long[] expired = EMPTY;
+        int expiredCount = 0;
+        // After falling a rotation or more behind, every bucket is visited once
+        for (long tick = Math.max(currentTick + 1, target - mask); tick <= target; tick++) {
+            int bucket = (int) (tick & mask);
+            long[] entries = buckets[bucket];
+            int kept = 0;
+            for (int i = 0; i < counts[bucket]; i++) {
+                long id = entries[2 * i];
+                long deadline = entries[2 * i + 1];
+                if (deadline <= target) {
+                    if (expiredCount == expired.length) {
+                        expired = Arrays.copyOf(expired, Math.max(16, expired.length * 2));
+                    }
+                    expired[expiredCount++] = id;
+                } else {
+                    entries[2 * kept] = id;
+                    entries[2 * kept + 1] = deadline;
+                    kept++;
+                }
+            }
+            counts[bucket] = kept;
+            if (kept == 0 && entries.length > SHRINK_CAPACITY) {
+                buckets[bucket] = EMPTY;
+            }
+        }
+        currentTick = target;
+        size -= expiredCount;
+        return expiredCount == expired.length ? expired : Arrays.copyOf(expired, expiredCount);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
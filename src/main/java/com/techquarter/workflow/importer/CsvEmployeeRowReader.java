@@ -0,0 +1,128 @@
+package com.techquarter.workflow.importer;
+
+import com.techquarter.workflow.dto.CreateEmployeeRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 style CSV with a header row naming the columns {@code employeeCode}, {@code name},
+ * {@code email} and {@code costCenter} in any order. Fields may be quoted; quoted fields
+ * spanning several lines are not supported.
+ */
+public class CsvEmployeeRowReader implements EmployeeRowReader {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private int codeColumn = -1;
+    private int nameColumn = -1;
+    private int emailColumn = -1;
+    private int costCenterColumn = -1;
+
+    public CsvEmployeeRowReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        List<String> fields = split(line);
+        if (fields == null) {
+            return ImportRow.failed(lineNumber, "Unterminated quoted field");
+        }
+        return ImportRow.parsed(lineNumber, CreateEmployeeRequest.builder()
+                .employeeCode(field(fields, codeColumn))
+                .name(field(fields, nameColumn))
+                .email(field(fields, emailColumn))
+                .costCenter(field(fields, costCenterColumn))
+                .build());
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if (header == null) {
+            throw new IllegalArgumentException("CSV input is empty");
+        }
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        List<String> columns = split(header);
+        if (columns == null) {
+            throw new IllegalArgumentException("Malformed CSV header");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT).replace("_", "")) {
+                case "employeecode" -> codeColumn = i;
+                case "name" -> nameColumn = i;
+                case "email" -> emailColumn = i;
+                case "costcenter" -> costCenterColumn = i;
+                default -> {
+                    // Extra columns in the HR feed are ignored
+                }
+            }
+        }
+        if (codeColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain an employeeCode column");
+        }
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /** Splits one CSV line; returns {@code null} if a quoted field is not terminated. */
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,24 @@
+package com.techquarter.workflow.importer;
+
+import org.springframework.http.MediaType;
+
+public enum EmployeeImportFormat {
+    CSV(MediaType.parseMediaType("text/csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    EmployeeImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static EmployeeImportFormat fromContentType(String contentType) {
+        MediaType requested = MediaType.parseMediaType(contentType);
+        for (EmployeeImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(requested)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+    }
+}
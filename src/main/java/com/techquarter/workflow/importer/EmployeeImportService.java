@@ -0,0 +1,186 @@
+package com.techquarter.workflow.importer;
+
+import com.techquarter.workflow.config.EmployeeImportProperties;
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import com.techquarter.workflow.domain.id.IdGenerators;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.dto.CreateEmployeeRequest;
+import com.techquarter.workflow.dto.EmployeeImportResponse;
+import com.techquarter.workflow.dto.ImportRowError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams an HR feed and upserts employees by {@code employeeCode} in batches.
+ * <p>
+ * Rows are parsed and validated one at a time and written with a JDBC-batched SQL
+ * {@code MERGE}, one transaction per batch. A batch that fails as a whole is replayed row by
+ * row so that only the offending rows are reported; invalid rows never abort the import.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeImportService {
+
+    static final String UPSERT_SQL = """
+            MERGE INTO employees e
+            USING (VALUES (?, ?, ?, ?, ?)) AS s (id, employee_code, name, email, cost_center)
+            ON e.employee_code = s.employee_code
+            WHEN MATCHED THEN
+                UPDATE SET name = s.name, email = s.email, cost_center = s.cost_center
+            WHEN NOT MATCHED THEN
+                INSERT (id, employee_code, name, email, cost_center)
+                VALUES (s.id, s.employee_code, s.name, s.email, s.cost_center)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EmployeeImportProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EmployeeImportResponse importEmployees(InputStream input, EmployeeImportFormat format) throws IOException {
+        long start = System.nanoTime();
+        Progress progress = new Progress(properties.getMaxReportedErrors());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16);
+
+        try (EmployeeRowReader rows = format == EmployeeImportFormat.CSV
+                ? new CsvEmployeeRowReader(reader)
+                : new NdjsonEmployeeRowReader(reader, objectMapper)) {
+            List<ImportRow> batch = new ArrayList<>(properties.getBatchSize());
+            ImportRow row;
+            while ((row = rows.next()) != null) {
+                progress.totalRows++;
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if (error != null) {
+                    progress.fail(row, error);
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() >= properties.getBatchSize()) {
+                    upsert(batch, progress);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                upsert(batch, progress);
+            }
+        }
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Employee import ({}): {} rows, {} upserted, {} failed in {} ms",
+                format, progress.totalRows, progress.upserted, progress.failed, durationMillis);
+        return EmployeeImportResponse.builder()
+                .totalRows(progress.totalRows)
+                .upserted(progress.upserted)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .durationMillis(durationMillis)
+                .build();
+    }
+
+    private void upsert(List<ImportRow> batch, Progress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), EmployeeImportService::bind);
+                publishChanged(batch);
+            });
+            progress.upserted += batch.size();
+        } catch (DataAccessException ex) {
+            log.debug("Batch of {} rows failed, isolating failing rows", batch.size(), ex);
+            for (ImportRow row : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        jdbcTemplate.update(UPSERT_SQL, ps -> bind(ps, row));
+                        publishChanged(List.of(row));
+                    });
+                    progress.upserted++;
+                } catch (DataAccessException rowEx) {
+                    progress.fail(row, firstLine(rowEx.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+    }
+
+    private void publishChanged(List<ImportRow> rows) {
+        List<Employee> employees = rows.stream()
+                .map(row -> Employee.builder()
+                        .employeeCode(row.request().getEmployeeCode())
+                        .name(row.request().getName())
+                        .email(row.request().getEmail())
+                        .costCenter(row.request().getCostCenter())
+                        .build())
+                .toList();
+        eventPublisher.publishEvent(new EmployeesChangedEvent(employees, false));
+    }
+
+    private String validate(CreateEmployeeRequest request) {
+        Set<ConstraintViolation<CreateEmployeeRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static void bind(PreparedStatement ps, ImportRow row) throws SQLException {
+        CreateEmployeeRequest request = row.request();
+        ps.setLong(1, IdGenerators.current().nextId());
+        ps.setString(2, request.getEmployeeCode());
+        ps.setString(3, request.getName());
+        ps.setString(4, request.getEmail());
+        ps.setString(5, request.getCostCenter());
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "Database error";
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    private static final class Progress {
+        private final int maxReportedErrors;
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long upserted;
+        private long failed;
+
+        private Progress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(ImportRow row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                String employeeCode = row.request() == null ? null : row.request().getEmployeeCode();
+                errors.add(new ImportRowError(row.line(), employeeCode, message));
+            }
+        }
+    }
+}
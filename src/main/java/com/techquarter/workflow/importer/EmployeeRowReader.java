@@ -0,0 +1,13 @@
+package com.techquarter.workflow.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Incremental reader over an HR feed; holds at most one line in memory.
+ */
+public interface EmployeeRowReader extends Closeable {
+
+    /** The next non-blank row, or {@code null} at end of input. */
+    ImportRow next() throws IOException;
+}
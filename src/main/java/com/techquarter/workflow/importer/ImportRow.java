@@ -0,0 +1,17 @@
+package com.techquarter.workflow.importer;
+
+import com.techquarter.workflow.dto.CreateEmployeeRequest;
+
+/**
+ * One parsed line of an HR feed: either a request or the reason it could not be parsed.
+ */
+public record ImportRow(long line, CreateEmployeeRequest request, String error) {
+
+    static ImportRow parsed(long line, CreateEmployeeRequest request) {
+        return new ImportRow(line, request, null);
+    }
+
+    static ImportRow failed(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
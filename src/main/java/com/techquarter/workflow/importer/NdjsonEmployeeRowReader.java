@@ -0,0 +1,46 @@
+package com.techquarter.workflow.importer;
+
+import com.techquarter.workflow.dto.CreateEmployeeRequest;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * One JSON object per line with the fields of {@link CreateEmployeeRequest}.
+ */
+public class NdjsonEmployeeRowReader implements EmployeeRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+
+    public NdjsonEmployeeRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return ImportRow.parsed(lineNumber, objectMapper.readValue(line, CreateEmployeeRequest.class));
+        } catch (JacksonException ex) {
+            return ImportRow.failed(lineNumber, "Invalid JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
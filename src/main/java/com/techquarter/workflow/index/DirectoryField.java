@@ -0,0 +1,8 @@
+package com.techquarter.workflow.index;
+
+/** Employee field an autocomplete suggestion matched on. */
+public enum DirectoryField {
+    EMPLOYEE_CODE,
+    NAME,
+    EMAIL
+}
@@ -0,0 +1,549 @@
+package com.techquarter.workflow.index;
+
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.repository.EmployeeDirectoryView;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.dto.EmployeeSuggestionResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix index over the employee directory for autocomplete.
+ * <p>
+ * Every employee contributes terms to four tiers: full name, each later word of the name,
+ * employee code and email. A tier is an array of packed (ordinal, offset) references sorted
+ * case-insensitively by the text they point into, so no term text is copied; a prefix query is
+ * one binary search per tier followed by reading matches in order until the limit is reached.
+ * Suggestions are ranked exact code match first, then by tier in that order, then alphabetically.
+ * <p>
+ * Employees created or changed since the arrays were built live in a sorted delta per tier that
+ * is merged into each query. Once the delta grows to a quarter of the index, a background thread
+ * rebuilds the arrays off the lock, dropping the slots of superseded employees, and swaps them in.
+ * The index is loaded before the web server starts and kept current from
+ * {@link EmployeesChangedEvent}s after each commit on this instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeDirectoryIndex implements SmartInitializingSingleton {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final int MIN_DELTA_BEFORE_REBUILD = 4096;
+    /** Separator plus two ordinal chars appended to each delta key. */
+    private static final int DELTA_SUFFIX_LENGTH = 3;
+
+    // Tiers in rank order; exact code matches are taken from the CODE tier before all of them
+    private static final int NAME = 0;
+    private static final int NAME_WORD = 1;
+    private static final int CODE = 2;
+    private static final int EMAIL = 3;
+    private static final int TIER_COUNT = 4;
+    private static final DirectoryField[] TIER_FIELDS =
+            {DirectoryField.NAME, DirectoryField.NAME, DirectoryField.EMPLOYEE_CODE, DirectoryField.EMAIL};
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("employee-index-compaction").daemon().factory());
+
+    // All state below is guarded by lock
+    private Columns columns = new Columns(0);
+    private final Map<String, Integer> ordinalsByCode = new HashMap<>();
+    /** Ordinals replaced by a newer version of the same employee; skipped by queries. */
+    private final BitSet superseded = new BitSet();
+    /** Sorted term references per tier for ordinals below {@link #indexedSize}. */
+    private long[][] tiers = new long[TIER_COUNT][0];
+    private int indexedSize;
+    /** Terms of ordinals from {@link #indexedSize} on, keyed by folded term text then ordinal. */
+    private final List<TreeMap<String, Long>> deltas = List.of(new TreeMap<>(), new TreeMap<>(),
+            new TreeMap<>(), new TreeMap<>());
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @PreDestroy
+    public void stop() {
+        compactor.shutdownNow();
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        List<EmployeeDirectoryView> views = employeeRepository.findDirectoryEntries();
+        lock.writeLock().lock();
+        try {
+            columns = new Columns(views.size());
+            ordinalsByCode.clear();
+            superseded.clear();
+            deltas.forEach(TreeMap::clear);
+            for (EmployeeDirectoryView view : views) {
+                append(view.employeeCode(), view.name(), view.email(), view.costCenter());
+            }
+            tiers = buildTiers(columns, superseded);
+            indexedSize = columns.size;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Employee directory index built from {} employees in {} ms",
+                views.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onEmployeesChanged(EmployeesChangedEvent event) {
+        boolean compactionDue;
+        lock.writeLock().lock();
+        try {
+            for (Employee employee : event.employees()) {
+                upsert(employee.getEmployeeCode(), employee.getName(), employee.getEmail(),
+                        employee.getCostCenter());
+            }
+            compactionDue = columns.size - indexedSize >= Math.max(MIN_DELTA_BEFORE_REBUILD, indexedSize / 4);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compactionDue && !compacting.get()) {
+            compactor.execute(() -> {
+                try {
+                    compact();
+                } catch (RuntimeException ex) {
+                    log.error("Employee directory index compaction failed", ex);
+                }
+            });
+        }
+    }
+
+    /**
+     * Up to {@code limit} employees whose name, any word of the name, employee code or email
+     * starts with {@code query}, ignoring case, best match first.
+     */
+    public List<EmployeeSuggestionResponse> search(String query, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        String prefix = fold(query.strip().replaceAll("\\s+", " "));
+        if (prefix.isEmpty()) {
+            throw new IllegalArgumentException("Query must not be blank");
+        }
+
+        lock.readLock().lock();
+        try {
+            Suggestions suggestions = new Suggestions(limit);
+            // Exact matches sort first among the terms with this prefix
+            walk(CODE, prefix, (ordinal, length) ->
+                    length == prefix.length() && suggestions.offer(ordinal, DirectoryField.EMPLOYEE_CODE));
+            for (int tier = 0; tier < TIER_COUNT && !suggestions.isFull(); tier++) {
+                DirectoryField field = TIER_FIELDS[tier];
+                walk(tier, prefix, (ordinal, length) -> suggestions.offer(ordinal, field));
+            }
+
+            List<EmployeeSuggestionResponse> responses = new ArrayList<>(suggestions.count);
+            for (int i = 0; i < suggestions.count; i++) {
+                int ordinal = suggestions.ordinals[i];
+                responses.add(EmployeeSuggestionResponse.builder()
+                        .employeeCode(columns.codes[ordinal])
+                        .name(columns.names[ordinal])
+                        .email(columns.emails[ordinal])
+                        .costCenter(columns.costCenters[ordinal])
+                        .matchedOn(suggestions.fields[i])
+                        .build());
+            }
+            return responses;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsByCode.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int indexedSize() {
+        lock.readLock().lock();
+        try {
+            return indexedSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the sorted arrays from everything appended so far, renumbering the live employees
+     * so superseded slots are reclaimed, and empties the delta.
+     */
+    void compact() {
+        if (!compacting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Columns snapshot;
+            BitSet snapshotSuperseded;
+            lock.readLock().lock();
+            try {
+                snapshot = columns.copy();
+                snapshotSuperseded = (BitSet) superseded.clone();
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            // Searchable text below snapshot.size never changes, so the expensive part needs no lock
+            int[] renumbered = new int[snapshot.size];
+            Columns compacted = new Columns(snapshot.size - snapshotSuperseded.cardinality());
+            for (int ordinal = 0; ordinal < snapshot.size; ordinal++) {
+                renumbered[ordinal] = snapshotSuperseded.get(ordinal) ? -1 : compacted.append(
+                        snapshot.codes[ordinal], snapshot.names[ordinal], snapshot.emails[ordinal], null);
+            }
+            long[][] built = buildTiers(compacted, new BitSet());
+
+            lock.writeLock().lock();
+            try {
+                swapIn(compacted, renumbered, built);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            compacting.set(false);
+        }
+    }
+
+    /** Carries over what changed since the snapshot was taken, then installs the compacted index. */
+    private void swapIn(Columns compacted, int[] renumbered, long[][] built) {
+        int[] moved = Arrays.copyOf(renumbered, columns.size);
+        BitSet stillSuperseded = new BitSet();
+        for (int ordinal = 0; ordinal < renumbered.length; ordinal++) {
+            int target = renumbered[ordinal];
+            if (target < 0) {
+                continue;
+            }
+            // Cost centers are changed in place, so take the current one rather than the snapshot's
+            compacted.costCenters[target] = columns.costCenters[ordinal];
+            if (superseded.get(ordinal)) {
+                stillSuperseded.set(target);
+            }
+        }
+        int compactedSize = compacted.size;
+        for (int ordinal = renumbered.length; ordinal < columns.size; ordinal++) {
+            moved[ordinal] = superseded.get(ordinal) ? -1 : compacted.append(columns.codes[ordinal],
+                    columns.names[ordinal], columns.emails[ordinal], columns.costCenters[ordinal]);
+        }
+        // Codes always map to a live slot, and live slots are never dropped
+        ordinalsByCode.replaceAll((code, ordinal) -> moved[ordinal]);
+
+        columns = compacted;
+        superseded.clear();
+        superseded.or(stillSuperseded);
+        tiers = built;
+        indexedSize = compactedSize;
+        deltas.forEach(TreeMap::clear);
+        for (int ordinal = indexedSize; ordinal < columns.size; ordinal++) {
+            addToDelta(ordinal);
+        }
+    }
+
+    private void upsert(String code, String name, String email, String costCenter) {
+        Integer existing = ordinalsByCode.get(code);
+        if (existing != null) {
+            int ordinal = existing;
+            if (name.equals(columns.names[ordinal]) && email.equals(columns.emails[ordinal])) {
+                // Not searchable, so it can be changed in place
+                columns.costCenters[ordinal] = costCenter;
+                return;
+            }
+            superseded.set(ordinal);
+        }
+        addToDelta(append(code, name, email, costCenter));
+    }
+
+    private int append(String code, String name, String email, String costCenter) {
+        int ordinal = columns.append(code, name, email, costCenter);
+        Integer previous = ordinalsByCode.put(code, ordinal);
+        if (previous != null) {
+            superseded.set(previous);
+        }
+        return ordinal;
+    }
+
+    private void addToDelta(int ordinal) {
+        forEachTerm(columns, ordinal, (tier, ref) -> {
+            String text = columns.text(tier, ordinal);
+            deltas.get(tier).put(deltaKey(text, offset(ref), ordinal), ref);
+        });
+    }
+
+    /** Visits matching terms of {@code tier} in sorted order, merging the arrays and the delta. */
+    private void walk(int tier, String prefix, TermVisitor visitor) {
+        long[] sorted = tiers[tier];
+        int index = lowerBound(tier, sorted, prefix);
+        NavigableMap<String, Long> delta = deltas.get(tier).subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        Iterator<Map.Entry<String, Long>> deltaIterator = delta.entrySet().iterator();
+        Map.Entry<String, Long> pending = deltaIterator.hasNext() ? deltaIterator.next() : null;
+
+        while (true) {
+            boolean arrayHasNext = index < sorted.length && startsWith(tier, sorted[index], prefix);
+            if (!arrayHasNext && pending == null) {
+                return;
+            }
+            long ref;
+            int termLength;
+            if (arrayHasNext && (pending == null || compareToDelta(tier, sorted[index], pending.getKey()) <= 0)) {
+                ref = sorted[index++];
+                termLength = columns.text(tier, ordinal(ref)).length() - offset(ref);
+            } else {
+                ref = pending.getValue();
+                termLength = pending.getKey().length() - DELTA_SUFFIX_LENGTH;
+                pending = deltaIterator.hasNext() ? deltaIterator.next() : null;
+            }
+            int ordinal = ordinal(ref);
+            if (!superseded.get(ordinal) && !visitor.visit(ordinal, termLength)) {
+                return;
+            }
+        }
+    }
+
+    private int lowerBound(int tier, long[] sorted, String prefix) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long ref = sorted[mid];
+            String text = columns.text(tier, ordinal(ref));
+            if (compareFolded(text, offset(ref), text.length(), prefix, 0, prefix.length()) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean startsWith(int tier, long ref, String prefix) {
+        String text = columns.text(tier, ordinal(ref));
+        int offset = offset(ref);
+        if (text.length() - offset < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (fold(text.charAt(offset + i)) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int compareToDelta(int tier, long ref, String deltaKey) {
+        String text = columns.text(tier, ordinal(ref));
+        // Array ordinals are all below delta ordinals, so the array wins ties
+        return compareFolded(text, offset(ref), text.length(),
+                deltaKey, 0, deltaKey.length() - DELTA_SUFFIX_LENGTH);
+    }
+
+    private static long[][] buildTiers(Columns columns, BitSet superseded) {
+        long[][] refs = new long[TIER_COUNT][columns.size];
+        int[] counts = new int[TIER_COUNT];
+        for (int ordinal = 0; ordinal < columns.size; ordinal++) {
+            if (superseded.get(ordinal)) {
+                continue;
+            }
+            forEachTerm(columns, ordinal, (tier, ref) -> {
+                if (counts[tier] == refs[tier].length) {
+                    refs[tier] = Arrays.copyOf(refs[tier], refs[tier].length * 2 + 16);
+                }
+                refs[tier][counts[tier]++] = ref;
+            });
+        }
+
+        long[][] sorted = new long[TIER_COUNT][];
+        for (int tier = 0; tier < TIER_COUNT; tier++) {
+            int sortTier = tier;
+            sorted[tier] = Arrays.stream(refs[tier], 0, counts[tier])
+                    .boxed()
+                    .sorted((a, b) -> compareTerms(columns, sortTier, a, b))
+                    .mapToLong(Long::longValue)
+                    .toArray();
+        }
+        return sorted;
+    }
+
+    private static void forEachTerm(Columns columns, int ordinal, TermConsumer consumer) {
+        consumer.accept(NAME, ref(ordinal, 0));
+        String name = columns.names[ordinal];
+        for (int i = 1; i < name.length(); i++) {
+            if (isWordSeparator(name.charAt(i - 1)) && !isWordSeparator(name.charAt(i))) {
+                consumer.accept(NAME_WORD, ref(ordinal, i));
+            }
+        }
+        consumer.accept(CODE, ref(ordinal, 0));
+        consumer.accept(EMAIL, ref(ordinal, 0));
+    }
+
+    private static boolean isWordSeparator(char c) {
+        return Character.isWhitespace(c) || c == '-' || c == '\'' || c == '.';
+    }
+
+    private static int compareTerms(Columns columns, int tier, long a, long b) {
+        String textA = columns.text(tier, ordinal(a));
+        String textB = columns.text(tier, ordinal(b));
+        int result = compareFolded(textA, offset(a), textA.length(), textB, offset(b), textB.length());
+        return result != 0 ? result : Integer.compare(ordinal(a), ordinal(b));
+    }
+
+    private static int compareFolded(String a, int aFrom, int aTo, String b, int bFrom, int bTo) {
+        int length = Math.min(aTo - aFrom, bTo - bFrom);
+        for (int i = 0; i < length; i++) {
+            char ca = fold(a.charAt(aFrom + i));
+            char cb = fold(b.charAt(bFrom + i));
+            if (ca != cb) {
+                return ca - cb;
+            }
+        }
+        return Integer.compare(aTo - aFrom, bTo - bFrom);
+    }
+
+    /**
+     * Folded term text, then a separator that sorts before any text, then the ordinal as two
+     * chars so that equal terms keep ordinal order like the arrays do.
+     */
+    private static String deltaKey(String text, int offset, int ordinal) {
+        return fold(text.substring(offset)) + '\0' + (char) (ordinal >>> 16) + (char) ordinal;
+    }
+
+    private static String fold(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    private static long ref(int ordinal, int offset) {
+        return (long) ordinal << 32 | offset;
+    }
+
+    private static int ordinal(long ref) {
+        return (int) (ref >>> 32);
+    }
+
+    private static int offset(long ref) {
+        return (int) ref;
+    }
+
+    /** Employee fields by ordinal; slots are appended and their searchable text never rewritten. */
+    private static final class Columns {
+        String[] codes;
+        String[] names;
+        String[] emails;
+        String[] costCenters;
+        int size;
+
+        Columns(int capacity) {
+            codes = new String[capacity];
+            names = new String[capacity];
+            emails = new String[capacity];
+            costCenters = new String[capacity];
+        }
+
+        int append(String code, String name, String email, String costCenter) {
+            if (size == codes.length) {
+                int capacity = Math.max(16, size + (size >> 1));
+                codes = Arrays.copyOf(codes, capacity);
+                names = Arrays.copyOf(names, capacity);
+                emails = Arrays.copyOf(emails, capacity);
+                costCenters = Arrays.copyOf(costCenters, capacity);
+            }
+            codes[size] = Objects.requireNonNull(code);
+            names[size] = Objects.requireNonNull(name);
+            emails[size] = Objects.requireNonNull(email);
+            costCenters[size] = costCenter;
+            return size++;
+        }
+
+        String text(int tier, int ordinal) {
+            return switch (tier) {
+                case NAME, NAME_WORD -> names[ordinal];
+                case CODE -> codes[ordinal];
+                default -> emails[ordinal];
+            };
+        }
+
+        Columns copy() {
+            Columns copy = new Columns(0);
+            copy.codes = Arrays.copyOf(codes, size);
+            copy.names = Arrays.copyOf(names, size);
+            copy.emails = Arrays.copyOf(emails, size);
+            copy.costCenters = Arrays.copyOf(costCenters, size);
+            copy.size = size;
+            return copy;
+        }
+    }
+
+    /** Collects distinct ordinals in rank order. */
+    private static final class Suggestions {
+        final int[] ordinals;
+        final DirectoryField[] fields;
+        int count;
+
+        Suggestions(int limit) {
+            ordinals = new int[limit];
+            fields = new DirectoryField[limit];
+        }
+
+        /** Returns {@code false} once the limit is reached. */
+        boolean offer(int ordinal, DirectoryField field) {
+            for (int i = 0; i < count; i++) {
+                if (ordinals[i] == ordinal) {
+                    return true;
+                }
+            }
+            ordinals[count] = ordinal;
+            fields[count++] = field;
+            return !isFull();
+        }
+
+        boolean isFull() {
+            return count == ordinals.length;
+        }
+    }
+
+    @FunctionalInterface
+    private interface TermVisitor {
+        /** Returns {@code false} to stop the walk. */
+        boolean visit(int ordinal, int termLength);
+    }
+
+    @FunctionalInterface
+    private interface TermConsumer {
+        void accept(int tier, long ref);
+    }
+}
@@ -0,0 +1,292 @@
+package com.techquarter.workflow.index;
+
+import com.techquarter.workflow.domain.event.BookingCreatedEvent;
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
+import com.techquarter.workflow.domain.event.BookingsArchivedEvent;
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.BookingStayView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Day-bucketed index of who is travelling when.
+ * <p>
+ * Every employee gets a dense ordinal, and each calendar day holds one compressed bitmap of
+ * ordinals per {@link ResourceType}. A date-range query is the union of the day bitmaps in the
+ * range, optionally intersected with the members of a cost center, so it never touches the
+ * {@code bookings} table. The index is rebuilt from active bookings before the web server
+ * starts and kept current from booking and employee events after each commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TravelCalendarIndex implements SmartInitializingSingleton {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private static final int TYPE_COUNT = ResourceType.values().length;
+
+    private final BookingRepository bookingRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // All state below is guarded by lock
+    private final Map<Long, Integer> ordinalsByEmployeeId = new HashMap<>();
+    /** Imported employees carry no id, so cost center moves are matched by code. */
+    private final Map<String, Integer> ordinalsByEmployeeCode = new HashMap<>();
+    private final List<String> employeeCodes = new ArrayList<>();
+    private final List<String> costCenters = new ArrayList<>();
+    private final Map<String, RoaringBitmap> employeesByCostCenter = new HashMap<>();
+    private final Map<Long, Stay> staysByBooking = new HashMap<>();
+    private final Map<Integer, List<Stay>> staysByEmployee = new HashMap<>();
+    private final Map<Integer, RoaringBitmap[]> travellersByDay = new HashMap<>();
+    /** True while ordinals follow employee code order, so bitmap iteration yields sorted codes. */
+    private boolean ordinalsInCodeOrder = true;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        List<BookingStayView> stays = bookingRepository.findStaysByStatusNot(BookingStatus.CANCELLED);
+        lock.writeLock().lock();
+        try {
+            ordinalsByEmployeeId.clear();
+            ordinalsByEmployeeCode.clear();
+            employeeCodes.clear();
+            costCenters.clear();
+            employeesByCostCenter.clear();
+            staysByBooking.clear();
+            staysByEmployee.clear();
+            travellersByDay.clear();
+            ordinalsInCodeOrder = true;
+            stays.stream()
+                    .sorted(Comparator.comparing(BookingStayView::employeeCode))
+                    .forEach(this::addStay);
+            travellersByDay.values().forEach(bitmaps -> {
+                for (RoaringBitmap bitmap : bitmaps) {
+                    bitmap.runOptimize();
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Travel calendar index rebuilt from {} bookings over {} days in {} ms",
+                stays.size(), travellersByDay.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onBookingCreated(BookingCreatedEvent event) {
+        Booking booking = event.booking();
+        if (booking.getStatus() == BookingStatus.CANCELLED) {
+            return;
+        }
+        BookingStayView stay = new BookingStayView(booking.getId(),
+                booking.getEmployee().getId(), booking.getEmployee().getEmployeeCode(),
+                booking.getEmployee().getCostCenter(), booking.getResourceType(),
+                booking.getDepartureDate(), booking.getReturnDate());
+        lock.writeLock().lock();
+        try {
+            addStay(stay);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        if (event.newStatus() != BookingStatus.CANCELLED) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeStay(event.bookingId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookingsArchived(BookingsArchivedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.bookingIds().forEach(this::removeStay);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Moves indexed employees whose cost center changed, e.g. through an import upsert. */
+    @TransactionalEventListener
+    public void onEmployeesChanged(EmployeesChangedEvent event) {
+        if (event.newOnly()) {
+            // New employees have no bookings yet
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Employee employee : event.employees()) {
+                Integer ordinal = ordinalsByEmployeeCode.get(employee.getEmployeeCode());
+                if (ordinal != null) {
+                    moveToCostCenter(ordinal, employee.getCostCenter());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Employee codes with an active booking on any day in {@code [from, to]}, sorted.
+     *
+     * @param costCenter   optional employee cost center filter
+     * @param resourceType optional resource type filter
+     */
+    public List<String> findTravellers(LocalDate from, LocalDate to, String costCenter, ResourceType resourceType) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Range end must not be before range start");
+        }
+        int firstDay = (int) from.toEpochDay();
+        int lastDay = (int) to.toEpochDay();
+        if (lastDay - firstDay >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> matching = new ArrayList<>();
+            for (int day = firstDay; day <= lastDay; day++) {
+                RoaringBitmap[] bitmaps = travellersByDay.get(day);
+                if (bitmaps == null) {
+                    continue;
+                }
+                if (resourceType != null) {
+                    matching.add(bitmaps[resourceType.ordinal()]);
+                } else {
+                    matching.addAll(List.of(bitmaps));
+                }
+            }
+            RoaringBitmap travellers = FastAggregation.or(matching.iterator());
+            if (costCenter != null) {
+                RoaringBitmap members = employeesByCostCenter.get(costCenter);
+                travellers = members == null ? new RoaringBitmap() : RoaringBitmap.and(travellers, members);
+            }
+
+            List<String> codes = new ArrayList<>(travellers.getCardinality());
+            travellers.forEach((int ordinal) -> codes.add(employeeCodes.get(ordinal)));
+            if (!ordinalsInCodeOrder) {
+                codes.sort(null);
+            }
+            return codes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addStay(BookingStayView view) {
+        int ordinal = ordinalFor(view.employeeId(), view.employeeCode(), view.costCenter());
+        Stay stay = new Stay(view.bookingId(), ordinal, view.resourceType().ordinal(),
+                epochDay(view.departureDate()), epochDay(view.returnDate()));
+        if (staysByBooking.putIfAbsent(stay.bookingId(), stay) != null) {
+            return;
+        }
+        staysByEmployee.computeIfAbsent(ordinal, key -> new ArrayList<>(2)).add(stay);
+        markDays(stay, stay.firstDay(), stay.lastDay());
+    }
+
+    private void removeStay(Long bookingId) {
+        Stay removed = staysByBooking.remove(bookingId);
+        if (removed == null) {
+            return;
+        }
+        List<Stay> remaining = staysByEmployee.get(removed.ordinal());
+        remaining.remove(removed);
+
+        for (int day = removed.firstDay(); day <= removed.lastDay(); day++) {
+            RoaringBitmap[] bitmaps = travellersByDay.get(day);
+            if (bitmaps != null) {
+                bitmaps[removed.typeOrdinal()].remove(removed.ordinal());
+            }
+        }
+        // The same employee may still travel on some of those days through another booking
+        for (Stay other : remaining) {
+            if (other.typeOrdinal() == removed.typeOrdinal()) {
+                int overlapStart = Math.max(other.firstDay(), removed.firstDay());
+                int overlapEnd = Math.min(other.lastDay(), removed.lastDay());
+                markDays(other, overlapStart, overlapEnd);
+            }
+        }
+    }
+
+    private void markDays(Stay stay, int fromDay, int toDay) {
+        for (int day = fromDay; day <= toDay; day++) {
+            travellersByDay.computeIfAbsent(day, key -> newDayBitmaps())[stay.typeOrdinal()].add(stay.ordinal());
+        }
+    }
+
+    private int ordinalFor(Long employeeId, String employeeCode, String costCenter) {
+        Integer existing = ordinalsByEmployeeId.get(employeeId);
+        int ordinal;
+        if (existing == null) {
+            ordinal = employeeCodes.size();
+            if (ordinal > 0 && employeeCode.compareTo(employeeCodes.get(ordinal - 1)) < 0) {
+                ordinalsInCodeOrder = false;
+            }
+            ordinalsByEmployeeId.put(employeeId, ordinal);
+            ordinalsByEmployeeCode.put(employeeCode, ordinal);
+            employeeCodes.add(employeeCode);
+            costCenters.add(null);
+        } else {
+            ordinal = existing;
+        }
+        moveToCostCenter(ordinal, costCenter);
+        return ordinal;
+    }
+
+    private void moveToCostCenter(int ordinal, String costCenter) {
+        String previousCostCenter = costCenters.get(ordinal);
+        if (costCenter != null && !costCenter.equals(previousCostCenter)) {
+            if (previousCostCenter != null) {
+                employeesByCostCenter.get(previousCostCenter).remove(ordinal);
+            }
+            employeesByCostCenter.computeIfAbsent(costCenter, key -> new RoaringBitmap()).add(ordinal);
+            costCenters.set(ordinal, costCenter);
+        }
+    }
+
+    private static RoaringBitmap[] newDayBitmaps() {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[TYPE_COUNT];
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            bitmaps[i] = new RoaringBitmap();
+        }
+        return bitmaps;
+    }
+
+    private static int epochDay(LocalDateTime dateTime) {
+        return (int) dateTime.toLocalDate().toEpochDay();
+    }
+
+    private record Stay(Long bookingId, int ordinal, int typeOrdinal, int firstDay, int lastDay) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.techquarter.workflow.mapper;
+
+import com.techquarter.workflow.domain.model.ApprovalStep;
+import com.techquarter.workflow.domain.model.ApprovalTask;
+import com.techquarter.workflow.dto.ApprovalRouteResponse;
+import com.techquarter.workflow.dto.ApprovalStepResponse;
+import com.techquarter.workflow.dto.ApprovalTaskResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class ApprovalMapper {
+
+    public ApprovalTaskResponse toResponse(ApprovalTask task) {
+        return ApprovalTaskResponse.builder()
+                .id(task.getId())
+                .bookingId(task.getBookingId())
+                .stepOrder(task.getStepOrder())
+                .stepName(task.getStepName())
+                .approverCode(task.getApproverCode())
+                .status(task.getStatus())
+                .costCenter(task.getCostCenter())
+                .requesterCode(task.getRequesterCode())
+                .requesterName(task.getRequesterName())
+                .destination(task.getDestination())
+                .departureDate(task.getDepartureDate())
+                .returnDate(task.getReturnDate())
+                .createdAt(task.getCreatedAt())
+                .decidedAt(task.getDecidedAt())
+                .comment(task.getComment())
+                .version(task.getVersion())
+                .build();
+    }
+
+    /** {@code steps} of one cost center, in step order. */
+    public ApprovalRouteResponse toResponse(String costCenter, List<ApprovalStep> steps) {
+        return ApprovalRouteResponse.builder()
+                .costCenter(costCenter)
+                .steps(steps.stream()
+                        .map(step -> ApprovalStepResponse.builder()
+                                .stepOrder(step.getStepOrder())
+                                .name(step.getName())
+                                .approverCode(step.getApproverCode())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
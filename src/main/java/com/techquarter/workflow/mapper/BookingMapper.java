@@ -1,5 +1,6 @@
 package com.techquarter.workflow.mapper;
 
+import com.techquarter.workflow.archive.ArchivedBooking;
 import com.techquarter.workflow.domain.model.Booking;
 import com.techquarter.workflow.dto.BookingResponse;
 import org.springframework.stereotype.Component;
@@ -20,6 +21,23 @@ public class BookingMapper {
                 .costCenterRef(booking.getCostCenterRef())
                 .tripPurpose(booking.getTripPurpose())
                 .status(booking.getStatus())
+                .holdExpiresAt(booking.getHoldExpiresAt())
+                .build();
+    }
+
+    public BookingResponse toResponse(ArchivedBooking booking) {
+        return BookingResponse.builder()
+                .id(booking.id())
+                .employeeCode(booking.employeeCode())
+                .employeeName(booking.employeeName())
+                .resourceType(booking.resourceType())
+                .destination(booking.destination())
+                .departureDate(booking.departureDate())
+                .returnDate(booking.returnDate())
+                .travelerCount(booking.travelerCount())
+                .costCenterRef(booking.costCenterRef())
+                .tripPurpose(booking.tripPurpose())
+                .status(booking.status())
                 .build();
     }
 }
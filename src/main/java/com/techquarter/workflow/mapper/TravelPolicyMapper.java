@@ -0,0 +1,25 @@
+package com.techquarter.workflow.mapper;
+
+import com.techquarter.workflow.domain.model.TravelPolicy;
+import com.techquarter.workflow.dto.TravelPolicyResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class TravelPolicyMapper {
+
+    public TravelPolicyResponse toResponse(TravelPolicy policy) {
+        return TravelPolicyResponse.builder()
+                .costCenter(policy.getCostCenter())
+                .maxTripDays(policy.getMaxTripDays())
+                .minAdvanceDays(policy.getMinAdvanceDays())
+                .maxAdvanceDays(policy.getMaxAdvanceDays())
+                .maxTravelers(policy.getMaxTravelers())
+                .allowedDestinations(policy.getAllowedDestinations() == null
+                        ? null
+                        : List.of(policy.getAllowedDestinations().split(",")))
+                .version(policy.getVersion())
+                .build();
+    }
+}
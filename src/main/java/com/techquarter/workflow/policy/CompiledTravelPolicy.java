@@ -0,0 +1,94 @@
+package com.techquarter.workflow.policy;
+
+import com.techquarter.workflow.domain.model.TravelPolicy;
+
+import java.util.Arrays;
+
+/**
+ * A {@link TravelPolicy} reduced to primitive limits and a sorted destination array, so that
+ * evaluating it allocates nothing. Absent limits become bounds that can never be exceeded.
+ */
+final class CompiledTravelPolicy {
+
+    private final String costCenter;
+    private final long maxTripDays;
+    private final long minAdvanceDays;
+    private final long maxAdvanceDays;
+    private final long maxTravelers;
+    /** Sorted case-insensitively; null allows any destination. */
+    private final String[] destinations;
+
+    private CompiledTravelPolicy(String costCenter, long maxTripDays, long minAdvanceDays,
+                                 long maxAdvanceDays, long maxTravelers, String[] destinations) {
+        this.costCenter = costCenter;
+        this.maxTripDays = maxTripDays;
+        this.minAdvanceDays = minAdvanceDays;
+        this.maxAdvanceDays = maxAdvanceDays;
+        this.maxTravelers = maxTravelers;
+        this.destinations = destinations;
+    }
+
+    static CompiledTravelPolicy compile(TravelPolicy policy) {
+        String[] destinations = null;
+        if (policy.getAllowedDestinations() != null) {
+            destinations = Arrays.stream(policy.getAllowedDestinations().split(","))
+                    .map(String::trim)
+                    .filter(destination -> !destination.isEmpty())
+                    .sorted(String.CASE_INSENSITIVE_ORDER)
+                    .toArray(String[]::new);
+        }
+        return new CompiledTravelPolicy(policy.getCostCenter(),
+                limit(policy.getMaxTripDays(), Long.MAX_VALUE),
+                limit(policy.getMinAdvanceDays(), Long.MIN_VALUE),
+                limit(policy.getMaxAdvanceDays(), Long.MAX_VALUE),
+                limit(policy.getMaxTravelers(), Long.MAX_VALUE),
+                destinations);
+    }
+
+    String costCenter() {
+        return costCenter;
+    }
+
+    /** The first rule the booking breaks, or {@code null}. All days are epoch days. */
+    PolicyRule evaluate(long departureDay, long returnDay, int travelerCount, String destination, long today) {
+        if (returnDay - departureDay > maxTripDays) {
+            return PolicyRule.MAX_TRIP_DAYS;
+        }
+        long advanceDays = departureDay - today;
+        if (advanceDays < minAdvanceDays) {
+            return PolicyRule.MIN_ADVANCE_DAYS;
+        }
+        if (advanceDays > maxAdvanceDays) {
+            return PolicyRule.MAX_ADVANCE_DAYS;
+        }
+        if (travelerCount > maxTravelers) {
+            return PolicyRule.MAX_TRAVELERS;
+        }
+        if (destinations != null && (destination == null
+                || Arrays.binarySearch(destinations, destination, String.CASE_INSENSITIVE_ORDER) < 0)) {
+            return PolicyRule.DESTINATION_NOT_ALLOWED;
+        }
+        return null;
+    }
+
+    /** Explains a violation; only called on the failure path. */
+    String describe(PolicyRule rule, long departureDay, long returnDay, int travelerCount,
+                    String destination, long today) {
+        String reason = switch (rule) {
+            case MAX_TRIP_DAYS -> "trip of %d days exceeds the maximum of %d days"
+                    .formatted(returnDay - departureDay, maxTripDays);
+            case MIN_ADVANCE_DAYS -> "trips must be booked at least %d days before departure"
+                    .formatted(minAdvanceDays);
+            case MAX_ADVANCE_DAYS -> "trips must not be booked more than %d days before departure"
+                    .formatted(maxAdvanceDays);
+            case MAX_TRAVELERS -> "%d travelers exceed the maximum of %d"
+                    .formatted(travelerCount, maxTravelers);
+            case DESTINATION_NOT_ALLOWED -> "destination %s is not allowed".formatted(destination);
+        };
+        return "Travel policy of cost center " + costCenter + ": " + reason;
+    }
+
+    private static long limit(Integer value, long absent) {
+        return value == null ? absent : value;
+    }
+}
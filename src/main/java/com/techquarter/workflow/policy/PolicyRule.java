@@ -0,0 +1,9 @@
+package com.techquarter.workflow.policy;
+
+public enum PolicyRule {
+    MAX_TRIP_DAYS,
+    MIN_ADVANCE_DAYS,
+    MAX_ADVANCE_DAYS,
+    MAX_TRAVELERS,
+    DESTINATION_NOT_ALLOWED
+}
@@ -0,0 +1,128 @@
+package com.techquarter.workflow.policy;
+
+import com.techquarter.workflow.domain.event.TravelPoliciesChangedEvent;
+import com.techquarter.workflow.domain.model.TravelPolicy;
+import com.techquarter.workflow.domain.repository.TravelPolicyFingerprint;
+import com.techquarter.workflow.domain.repository.TravelPolicyRepository;
+import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.exception.PolicyViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates per cost center {@link TravelPolicy} rules on the booking create path.
+ * <p>
+ * Policies are compiled into {@link CompiledTravelPolicy} instances held in an immutable map that
+ * is swapped atomically on reload, so checks take no locks and allocate nothing unless a rule is
+ * broken. A fingerprint of the policy table is polled every {@code workflow.policy.reload-interval}
+ * and the map is recompiled only when it changed; changes made through this instance reload
+ * right after commit.
+ */
+@Slf4j
+@Component
+public class TravelPolicyEngine implements SmartInitializingSingleton {
+
+    private final TravelPolicyRepository travelPolicyRepository;
+    private final Clock clock;
+
+    private volatile Map<String, CompiledTravelPolicy> policies = Map.of();
+    private TravelPolicyFingerprint fingerprint;
+    private volatile Today today = new Today(0, Long.MAX_VALUE, Long.MIN_VALUE);
+
+    @Autowired
+    public TravelPolicyEngine(TravelPolicyRepository travelPolicyRepository) {
+        this(travelPolicyRepository, Clock.systemDefaultZone());
+    }
+
+    TravelPolicyEngine(TravelPolicyRepository travelPolicyRepository, Clock clock) {
+        this.travelPolicyRepository = travelPolicyRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reloadIfChanged();
+    }
+
+    @TransactionalEventListener
+    public void onPoliciesChanged(TravelPoliciesChangedEvent event) {
+        reloadIfChanged();
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.policy.reload-interval:5s}")
+    public synchronized void reloadIfChanged() {
+        TravelPolicyFingerprint current = travelPolicyRepository.fingerprint();
+        if (current.equals(fingerprint)) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<TravelPolicy> loaded = travelPolicyRepository.findAll();
+        Map<String, CompiledTravelPolicy> compiled = new HashMap<>(loaded.size() * 2);
+        for (TravelPolicy policy : loaded) {
+            compiled.put(policy.getCostCenter(), CompiledTravelPolicy.compile(policy));
+        }
+        policies = Map.copyOf(compiled);
+        fingerprint = current;
+        log.info("Compiled {} travel policies in {} ms", compiled.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Checks a booking against the policy of {@code costCenter}, or the
+     * {@link TravelPolicy#DEFAULT_COST_CENTER default} policy when that cost center has none.
+     *
+     * @throws PolicyViolationException naming the first broken rule
+     */
+    public void check(CreateBookingRequest request, String costCenter) {
+        Map<String, CompiledTravelPolicy> current = policies;
+        CompiledTravelPolicy policy = costCenter == null ? null : current.get(costCenter);
+        if (policy == null) {
+            policy = current.get(TravelPolicy.DEFAULT_COST_CENTER);
+            if (policy == null) {
+                return;
+            }
+        }
+
+        long departureDay = request.getDepartureDate().toLocalDate().toEpochDay();
+        long returnDay = request.getReturnDate().toLocalDate().toEpochDay();
+        long todayEpochDay = todayEpochDay();
+        PolicyRule broken = policy.evaluate(departureDay, returnDay, request.getTravelerCount(),
+                request.getDestination(), todayEpochDay);
+        if (broken != null) {
+            throw new PolicyViolationException(policy.costCenter(), broken, policy.describe(broken,
+                    departureDay, returnDay, request.getTravelerCount(), request.getDestination(), todayEpochDay));
+        }
+    }
+
+    public int policyCount() {
+        return policies.size();
+    }
+
+    /** Current date in the clock's zone, recomputed only when the cached day has passed. */
+    private long todayEpochDay() {
+        Today current = today;
+        long now = clock.millis();
+        if (now < current.startsAt() || now >= current.endsAt()) {
+            ZoneId zone = clock.getZone();
+            LocalDate date = LocalDate.now(clock);
+            current = new Today(date.toEpochDay(),
+                    date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+            today = current;
+        }
+        return current.epochDay();
+    }
+
+    private record Today(long epochDay, long startsAt, long endsAt) {
+    }
+}
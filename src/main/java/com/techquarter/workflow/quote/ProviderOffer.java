@@ -0,0 +1,12 @@
+package com.techquarter.workflow.quote;
+
+import java.math.BigDecimal;
+
+/**
+ * Raw answer of a provider for one (resource type, destination, dates) combination.
+ *
+ * @param unitPrice price per traveler
+ * @param capacity  seats or rooms still available
+ */
+public record ProviderOffer(BigDecimal unitPrice, String currency, int capacity) {
+}
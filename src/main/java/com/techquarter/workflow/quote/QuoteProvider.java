@@ -0,0 +1,23 @@
+package com.techquarter.workflow.quote;
+
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.dto.QuoteRequest;
+
+/**
+ * Adapter to an external flight or hotel provider.
+ * <p>
+ * Implementations may block; {@link QuoteService} calls them on virtual threads and enforces
+ * timeouts, so adapters should simply respond to interruption.
+ */
+public interface QuoteProvider {
+
+    String name();
+
+    boolean supports(ResourceType resourceType);
+
+    /**
+     * Never {@code null} and always priced; a provider without an offer should throw, and is then
+     * reported as missing.
+     */
+    ProviderOffer quote(QuoteRequest request) throws Exception;
+}
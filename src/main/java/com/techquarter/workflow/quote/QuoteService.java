@@ -0,0 +1,208 @@
+package com.techquarter.workflow.quote;
+
+import com.techquarter.workflow.config.QuoteProperties;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.dto.ProviderQuote;
+import com.techquarter.workflow.dto.QuoteRequest;
+import com.techquarter.workflow.dto.QuoteResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Fans a quote request out to every provider that supports the resource type.
+ * <p>
+ * Each provider call runs on its own virtual thread and is bounded by {@code timeout}. If a
+ * provider has not answered after {@code hedgeDelay}, an identical hedge request is sent and
+ * whichever attempt answers first wins; the loser is interrupted. Successful offers are cached
+ * per (provider, resource type, destination, dates) for {@code cacheTtl}. Providers that time out
+ * or fail are listed in the response instead of failing the whole request.
+ */
+@Slf4j
+@Service
+public class QuoteService {
+
+    private final List<QuoteProvider> providers;
+    private final QuoteProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Executor hedgeScheduler;
+    private final Map<QuoteKey, CachedOffer> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QuoteService(ObjectProvider<QuoteProvider> adapters, QuoteProperties properties) {
+        this(Stream.concat(adapters.orderedStream(),
+                        properties.getStubs().stream().map(StubQuoteProvider::new))
+                .toList(), properties);
+    }
+
+    QuoteService(List<QuoteProvider> providers, QuoteProperties properties) {
+        this.providers = List.copyOf(providers);
+        this.properties = properties;
+        this.hedgeScheduler = CompletableFuture.delayedExecutor(
+                properties.getHedgeDelay().toNanos(), TimeUnit.NANOSECONDS, executor);
+        log.info("Quote providers: {}", this.providers.stream().map(QuoteProvider::name).toList());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public QuoteResponse quote(QuoteRequest request) {
+        if (request.getReturnDate().isBefore(request.getDepartureDate())) {
+            throw new IllegalArgumentException("Return date must be after departure date");
+        }
+
+        List<QuoteProvider> eligible = providers.stream()
+                .filter(provider -> provider.supports(request.getResourceType()))
+                .toList();
+        List<CompletableFuture<ProviderQuote>> calls = new ArrayList<>(eligible.size());
+        for (QuoteProvider provider : eligible) {
+            calls.add(quoteFrom(provider, request));
+        }
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+
+        List<ProviderQuote> quotes = new ArrayList<>(eligible.size());
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < eligible.size(); i++) {
+            ProviderQuote quote = calls.get(i).join();
+            if (quote != null) {
+                quotes.add(quote);
+            } else {
+                missing.add(eligible.get(i).name());
+            }
+        }
+        quotes.sort(Comparator.comparing(ProviderQuote::isAvailable).reversed()
+                .thenComparing(ProviderQuote::getTotalPrice));
+
+        return QuoteResponse.builder()
+                .quotes(quotes)
+                .missingProviders(missing)
+                .partial(!missing.isEmpty())
+                .build();
+    }
+
+    /** Completes with {@code null} when the provider times out or fails. */
+    private CompletableFuture<ProviderQuote> quoteFrom(QuoteProvider provider, QuoteRequest request) {
+        QuoteKey key = new QuoteKey(provider.name(), request.getResourceType(),
+                request.getDestination().trim().toLowerCase(Locale.ROOT),
+                request.getDepartureDate(), request.getReturnDate());
+        ProviderOffer cached = cachedOffer(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(toQuote(provider, cached, request, true));
+        }
+
+        return hedgedCall(provider, request)
+                .orTimeout(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS)
+                .handle((offer, ex) -> {
+                    if (ex != null) {
+                        log.debug("Provider {} did not quote: {}", provider.name(), ex.toString());
+                        return null;
+                    }
+                    cacheOffer(key, offer);
+                    return toQuote(provider, offer, request, false);
+                });
+    }
+
+    private CompletableFuture<ProviderOffer> hedgedCall(QuoteProvider provider, QuoteRequest request) {
+        CompletableFuture<ProviderOffer> result = new CompletableFuture<>();
+        AtomicInteger inFlight = new AtomicInteger(1);
+        List<Future<?>> attempts = new CopyOnWriteArrayList<>();
+        attempts.add(attempt(provider, request, result, inFlight));
+
+        if (properties.getHedgeDelay().isPositive()) {
+            hedgeScheduler.execute(() -> {
+                if (!result.isDone()) {
+                    inFlight.incrementAndGet();
+                    attempts.add(attempt(provider, request, result, inFlight));
+                }
+            });
+        }
+        // First answer (or the timeout) wins; interrupt whatever is still running
+        result.whenComplete((offer, ex) -> attempts.forEach(attempt -> attempt.cancel(true)));
+        return result;
+    }
+
+    private Future<?> attempt(QuoteProvider provider, QuoteRequest request,
+                              CompletableFuture<ProviderOffer> result, AtomicInteger inFlight) {
+        return executor.submit(() -> {
+            try {
+                ProviderOffer offer = provider.quote(request);
+                if (offer == null) {
+                    throw new IllegalStateException("Provider " + provider.name() + " returned no offer");
+                }
+                if (offer.unitPrice() == null) {
+                    throw new IllegalStateException(
+                            "Provider " + provider.name() + " returned an offer without a price");
+                }
+                result.complete(offer);
+            } catch (Exception ex) {
+                if (inFlight.decrementAndGet() == 0) {
+                    result.completeExceptionally(ex);
+                }
+            }
+        });
+    }
+
+    private ProviderOffer cachedOffer(QuoteKey key) {
+        CachedOffer entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return entry.offer();
+    }
+
+    private void cacheOffer(QuoteKey key, ProviderOffer offer) {
+        if (cache.size() >= properties.getCacheMaxEntries()) {
+            long now = System.nanoTime();
+            cache.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+            if (cache.size() >= properties.getCacheMaxEntries()) {
+                return;
+            }
+        }
+        cache.put(key, new CachedOffer(offer, System.nanoTime() + properties.getCacheTtl().toNanos()));
+    }
+
+    private static ProviderQuote toQuote(QuoteProvider provider, ProviderOffer offer,
+                                         QuoteRequest request, boolean cached) {
+        return ProviderQuote.builder()
+                .provider(provider.name())
+                .available(offer.capacity() >= request.getTravelerCount())
+                .unitPrice(offer.unitPrice())
+                .totalPrice(offer.unitPrice().multiply(BigDecimal.valueOf(request.getTravelerCount())))
+                .currency(offer.currency())
+                .cached(cached)
+                .build();
+    }
+
+    private record QuoteKey(String provider, ResourceType resourceType, String destination,
+                            LocalDate departureDate, LocalDate returnDate) {
+    }
+
+    private record CachedOffer(ProviderOffer offer, long expiresAt) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.techquarter.workflow.quote;
+
+import com.techquarter.workflow.config.QuoteProperties;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.dto.QuoteRequest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Local provider that sleeps for a configured latency and returns a deterministic price.
+ */
+public class StubQuoteProvider implements QuoteProvider {
+
+    private final QuoteProperties.Stub settings;
+
+    public StubQuoteProvider(QuoteProperties.Stub settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public String name() {
+        return settings.getName();
+    }
+
+    @Override
+    public boolean supports(ResourceType resourceType) {
+        return settings.getResourceTypes().contains(resourceType);
+    }
+
+    @Override
+    public ProviderOffer quote(QuoteRequest request) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latencyMillis = settings.getLatency().toMillis();
+        if (random.nextDouble() < settings.getSpikeProbability()) {
+            latencyMillis += settings.getSpikeLatency().toMillis();
+        }
+        Thread.sleep(latencyMillis);
+        if (random.nextDouble() < settings.getFailureProbability()) {
+            throw new IllegalStateException("Provider " + name() + " is unavailable");
+        }
+
+        long nights = Math.max(1, ChronoUnit.DAYS.between(request.getDepartureDate(), request.getReturnDate()));
+        int variation = Math.floorMod(request.getDestination().toLowerCase(Locale.ROOT).hashCode(), 40);
+        BigDecimal unitPrice = settings.getBasePrice()
+                .multiply(BigDecimal.valueOf(request.getResourceType() == ResourceType.HOTEL ? nights : 1))
+                .multiply(BigDecimal.valueOf(80 + variation))
+                .divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
+        return new ProviderOffer(unitPrice, settings.getCurrency(), settings.getCapacity());
+    }
+}
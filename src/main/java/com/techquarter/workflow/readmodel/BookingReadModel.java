@@ -0,0 +1,471 @@
+package com.techquarter.workflow.readmodel;
+
+import com.techquarter.workflow.config.BookingReadModelProperties;
+import com.techquarter.workflow.domain.event.BookingCreatedEvent;
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
+import com.techquarter.workflow.domain.event.BookingsArchivedEvent;
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.BookingRowView;
+import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.dto.BookingSearchCriteria;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar in-memory copy of the {@code bookings} table that serves list, search and count
+ * queries without JPA.
+ * <p>
+ * A booking is one row across primitive arrays kept in id order: id, employee ordinal,
+ * departure and return as epoch seconds, enum ordinals, traveler count and dictionary codes for
+ * destination, cost center and trip purpose, and the hold deadline if any. There are no per-booking objects, and a filter is
+ * a loop over a few arrays instead of a query that hydrates entities. Dates are kept to the
+ * second.
+ * <p>
+ * Disabled by default. When enabled, the model is loaded in keyset pages before the web server
+ * starts and kept current from booking and employee events after each commit. Like the other
+ * in-memory indexes it only sees writes made through this instance.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingReadModel implements SmartInitializingSingleton {
+
+    private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+    private static final int ANY = -1;
+    private static final long NO_HOLD = Long.MIN_VALUE;
+
+    private final BookingRepository bookingRepository;
+    private final BookingReadModelProperties properties;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // All state below is guarded by lock
+    private int size;
+    private long[] ids = new long[0];
+    private int[] employees = new int[0];
+    private long[] departures = new long[0];
+    private long[] returns = new long[0];
+    private long[] holds = new long[0];
+    private byte[] resourceTypes = new byte[0];
+    private byte[] statuses = new byte[0];
+    private int[] travelerCounts = new int[0];
+    private int[] destinations = new int[0];
+    private int[] costCenters = new int[0];
+    private int[] tripPurposes = new int[0];
+    private final StringDictionary destinationDictionary = new StringDictionary();
+    private final StringDictionary costCenterDictionary = new StringDictionary();
+    private final StringDictionary tripPurposeDictionary = new StringDictionary();
+    private final List<EmployeeEntry> employeeEntries = new ArrayList<>();
+    private final Map<Long, Integer> employeeOrdinalsById = new HashMap<>();
+    private final Map<String, Integer> employeeOrdinalsByCode = new HashMap<>();
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (isEnabled()) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            destinationDictionary.clear();
+            costCenterDictionary.clear();
+            tripPurposeDictionary.clear();
+            employeeEntries.clear();
+            employeeOrdinalsById.clear();
+            employeeOrdinalsByCode.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long afterId = 0;
+        while (true) {
+            List<BookingRowView> page = bookingRepository.findRowsAfter(afterId, Limit.of(properties.getLoadBatchSize()));
+            if (page.isEmpty()) {
+                break;
+            }
+            lock.writeLock().lock();
+            try {
+                for (BookingRowView row : page) {
+                    put(row.id(), employeeOrdinal(row.employeeId(), row.employeeCode(), row.employeeName()),
+                            row.resourceType(), row.destination(), row.departureDate(), row.returnDate(),
+                            row.travelerCount(), row.costCenterRef(), row.tripPurpose(), row.status(),
+                            row.holdExpiresAt());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            afterId = page.getLast().id();
+        }
+        log.info("Booking read model loaded {} bookings in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onBookingCreated(BookingCreatedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        Booking booking = event.booking();
+        Employee employee = booking.getEmployee();
+        lock.writeLock().lock();
+        try {
+            put(booking.getId(), employeeOrdinal(employee.getId(), employee.getEmployeeCode(), employee.getName()),
+                    booking.getResourceType(), booking.getDestination(), booking.getDepartureDate(),
+                    booking.getReturnDate(), booking.getTravelerCount(), booking.getCostCenterRef(),
+                    booking.getTripPurpose(), booking.getStatus(), booking.getHoldExpiresAt());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookingStatusChanged(BookingStatusChangedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int row = Arrays.binarySearch(ids, 0, size, event.bookingId());
+            if (row >= 0) {
+                statuses[row] = (byte) event.newStatus().ordinal();
+                if (event.newStatus() != BookingStatus.CREATED) {
+                    holds[row] = NO_HOLD;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBookingsArchived(BookingsArchivedEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            remove(new HashSet<>(event.bookingIds()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Booking responses embed the employee name. */
+    @TransactionalEventListener
+    public void onEmployeesChanged(EmployeesChangedEvent event) {
+        if (!isEnabled() || event.newOnly()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Employee employee : event.employees()) {
+                Integer ordinal = employeeOrdinalsByCode.get(employee.getEmployeeCode());
+                if (ordinal != null) {
+                    employeeEntries.get(ordinal).name = employee.getName();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<BookingResponse> findAll() {
+        lock.readLock().lock();
+        try {
+            List<BookingResponse> responses = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                responses.add(toResponse(row));
+            }
+            return responses;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Up to {@code limit} bookings with an id above {@code afterId}, in id order. */
+    public List<BookingResponse> findPage(long afterId, int limit) {
+        return search(new BookingSearchCriteria(), afterId, limit);
+    }
+
+    /** Bookings of one employee in id order; the list is mutable. */
+    public List<BookingResponse> findByEmployee(long employeeId) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = employeeOrdinalsById.get(employeeId);
+            if (ordinal == null) {
+                return new ArrayList<>();
+            }
+            EmployeeEntry entry = employeeEntries.get(ordinal);
+            List<BookingResponse> responses = new ArrayList<>(entry.bookingCount);
+            for (int i = 0; i < entry.bookingCount; i++) {
+                responses.add(toResponse(Arrays.binarySearch(ids, 0, size, entry.bookingIds[i])));
+            }
+            return responses;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Up to {@code limit} bookings matching {@code criteria} with an id above {@code afterId}, in id order. */
+    public List<BookingResponse> search(BookingSearchCriteria criteria, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            Filter filter = compile(criteria);
+            List<BookingResponse> responses = new ArrayList<>(Math.min(limit, 64));
+            if (filter == null) {
+                return responses;
+            }
+            int row = Arrays.binarySearch(ids, 0, size, afterId);
+            row = row >= 0 ? row + 1 : -row - 1;
+            for (; row < size && responses.size() < limit; row++) {
+                if (matches(filter, row)) {
+                    responses.add(toResponse(row));
+                }
+            }
+            return responses;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(BookingSearchCriteria criteria) {
+        lock.readLock().lock();
+        try {
+            Filter filter = compile(criteria);
+            if (filter == null) {
+                return 0;
+            }
+            long count = 0;
+            for (int row = 0; row < size; row++) {
+                if (matches(filter, row)) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Returns {@code null} when a filter value never occurs, so nothing can match. */
+    private Filter compile(BookingSearchCriteria criteria) {
+        int destination = criteria.getDestination() == null ? ANY
+                : destinationDictionary.lookup(criteria.getDestination());
+        int costCenter = criteria.getCostCenter() == null ? ANY
+                : costCenterDictionary.lookup(criteria.getCostCenter());
+        if (destination == StringDictionary.ABSENT || costCenter == StringDictionary.ABSENT) {
+            return null;
+        }
+        return new Filter(
+                criteria.getStatus() == null ? ANY : criteria.getStatus().ordinal(),
+                criteria.getResourceType() == null ? ANY : criteria.getResourceType().ordinal(),
+                destination,
+                costCenter,
+                criteria.getDepartureFrom() == null ? Long.MIN_VALUE : startOf(criteria.getDepartureFrom()),
+                criteria.getDepartureTo() == null ? Long.MAX_VALUE : startOf(criteria.getDepartureTo().plusDays(1)));
+    }
+
+    private boolean matches(Filter filter, int row) {
+        return (filter.status() == ANY || statuses[row] == filter.status())
+                && (filter.resourceType() == ANY || resourceTypes[row] == filter.resourceType())
+                && (filter.destination() == ANY || destinations[row] == filter.destination())
+                && (filter.costCenter() == ANY || costCenters[row] == filter.costCenter())
+                && departures[row] >= filter.departureFrom()
+                && departures[row] < filter.departureBefore();
+    }
+
+    private BookingResponse toResponse(int row) {
+        EmployeeEntry employee = employeeEntries.get(employees[row]);
+        return BookingResponse.builder()
+                .id(ids[row])
+                .employeeCode(employee.code)
+                .employeeName(employee.name)
+                .resourceType(RESOURCE_TYPES[resourceTypes[row]])
+                .destination(destinationDictionary.decode(destinations[row]))
+                .departureDate(toDateTime(departures[row]))
+                .returnDate(toDateTime(returns[row]))
+                .travelerCount(travelerCounts[row])
+                .costCenterRef(costCenterDictionary.decode(costCenters[row]))
+                .tripPurpose(tripPurposeDictionary.decode(tripPurposes[row]))
+                .status(STATUSES[statuses[row]])
+                .holdExpiresAt(holds[row] == NO_HOLD ? null : toDateTime(holds[row]))
+                .build();
+    }
+
+    private void put(long id, int employee, ResourceType resourceType, String destination,
+                     LocalDateTime departureDate, LocalDateTime returnDate, int travelerCount,
+                     String costCenterRef, String tripPurpose, BookingStatus status,
+                     LocalDateTime holdExpiresAt) {
+        // Ids are time-ordered, so this is almost always an append
+        int row = size > 0 && ids[size - 1] < id ? size : Arrays.binarySearch(ids, 0, size, id);
+        if (row < 0) {
+            row = -row - 1;
+        }
+        if (row == size || ids[row] != id) {
+            ensureCapacity(size + 1);
+            if (row < size) {
+                moveRows(row, row + 1, size - row);
+            }
+            size++;
+            employeeEntries.get(employee).add(id);
+        }
+        ids[row] = id;
+        employees[row] = employee;
+        departures[row] = toEpochSecond(departureDate);
+        returns[row] = toEpochSecond(returnDate);
+        holds[row] = holdExpiresAt == null ? NO_HOLD : toEpochSecond(holdExpiresAt);
+        resourceTypes[row] = (byte) resourceType.ordinal();
+        statuses[row] = (byte) status.ordinal();
+        travelerCounts[row] = travelerCount;
+        destinations[row] = destinationDictionary.encode(destination);
+        costCenters[row] = costCenterDictionary.encode(costCenterRef);
+        tripPurposes[row] = tripPurposeDictionary.encode(tripPurpose);
+    }
+
+    private void remove(Set<Long> removed) {
+        int kept = 0;
+        for (int row = 0; row < size; row++) {
+            if (removed.contains(ids[row])) {
+                employeeEntries.get(employees[row]).remove(ids[row]);
+            } else {
+                if (kept != row) {
+                    moveRows(row, kept, 1);
+                }
+                kept++;
+            }
+        }
+        size = kept;
+    }
+
+    private int employeeOrdinal(Long employeeId, String code, String name) {
+        Integer ordinal = employeeOrdinalsById.get(employeeId);
+        if (ordinal == null) {
+            ordinal = employeeEntries.size();
+            employeeEntries.add(new EmployeeEntry(code, name));
+            employeeOrdinalsById.put(employeeId, ordinal);
+            employeeOrdinalsByCode.put(code, ordinal);
+        }
+        return ordinal;
+    }
+
+    private void moveRows(int from, int to, int count) {
+        System.arraycopy(ids, from, ids, to, count);
+        System.arraycopy(employees, from, employees, to, count);
+        System.arraycopy(departures, from, departures, to, count);
+        System.arraycopy(returns, from, returns, to, count);
+        System.arraycopy(holds, from, holds, to, count);
+        System.arraycopy(resourceTypes, from, resourceTypes, to, count);
+        System.arraycopy(statuses, from, statuses, to, count);
+        System.arraycopy(travelerCounts, from, travelerCounts, to, count);
+        System.arraycopy(destinations, from, destinations, to, count);
+        System.arraycopy(costCenters, from, costCenters, to, count);
+        System.arraycopy(tripPurposes, from, tripPurposes, to, count);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length + (ids.length >> 1) + 16);
+        ids = Arrays.copyOf(ids, grown);
+        employees = Arrays.copyOf(employees, grown);
+        departures = Arrays.copyOf(departures, grown);
+        returns = Arrays.copyOf(returns, grown);
+        holds = Arrays.copyOf(holds, grown);
+        resourceTypes = Arrays.copyOf(resourceTypes, grown);
+        statuses = Arrays.copyOf(statuses, grown);
+        travelerCounts = Arrays.copyOf(travelerCounts, grown);
+        destinations = Arrays.copyOf(destinations, grown);
+        costCenters = Arrays.copyOf(costCenters, grown);
+        tripPurposes = Arrays.copyOf(tripPurposes, grown);
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static long startOf(LocalDate date) {
+        return toEpochSecond(date.atStartOfDay());
+    }
+
+    private record Filter(int status, int resourceType, int destination, int costCenter,
+                          long departureFrom, long departureBefore) {
+    }
+
+    /** An employee that has bookings, with the ids of those bookings in ascending order. */
+    private static final class EmployeeEntry {
+        final String code;
+        String name;
+        long[] bookingIds = new long[2];
+        int bookingCount;
+
+        EmployeeEntry(String code, String name) {
+            this.code = code;
+            this.name = name;
+        }
+
+        void add(long id) {
+            int position = Arrays.binarySearch(bookingIds, 0, bookingCount, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (bookingCount == bookingIds.length) {
+                bookingIds = Arrays.copyOf(bookingIds, bookingCount * 2);
+            }
+            System.arraycopy(bookingIds, position, bookingIds, position + 1, bookingCount - position);
+            bookingIds[position] = id;
+            bookingCount++;
+        }
+
+        void remove(long id) {
+            int position = Arrays.binarySearch(bookingIds, 0, bookingCount, id);
+            if (position >= 0) {
+                System.arraycopy(bookingIds, position + 1, bookingIds, position, bookingCount - position - 1);
+                bookingCount--;
+            }
+        }
+    }
+}
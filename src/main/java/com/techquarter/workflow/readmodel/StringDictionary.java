@@ -0,0 +1,51 @@
+package com.techquarter.workflow.readmodel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps repeated strings to dense int codes so a column stores four bytes per row instead of a
+ * reference to its own string. Codes are never reused; {@code null} encodes as {@link #NULL}.
+ * Not thread-safe.
+ */
+final class StringDictionary {
+
+    static final int NULL = -1;
+    static final int ABSENT = -2;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    int encode(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /** The code of {@code value}, or {@link #ABSENT} if no row has ever used it. */
+    int lookup(String value) {
+        return codes.getOrDefault(value, ABSENT);
+    }
+
+    String decode(int code) {
+        return code == NULL ? null : values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    void clear() {
+        codes.clear();
+        values.clear();
+    }
+}
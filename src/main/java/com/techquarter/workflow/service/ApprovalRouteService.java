@@ -0,0 +1,95 @@
+package com.techquarter.workflow.service;
+
+import com.techquarter.workflow.domain.event.ApprovalRoutesChangedEvent;
+import com.techquarter.workflow.domain.model.ApprovalStep;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.repository.ApprovalStepRepository;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.dto.ApprovalRouteRequest;
+import com.techquarter.workflow.dto.ApprovalRouteResponse;
+import com.techquarter.workflow.dto.ApprovalStepRequest;
+import com.techquarter.workflow.exception.ResourceNotFoundException;
+import com.techquarter.workflow.mapper.ApprovalMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ApprovalRouteService {
+
+    private final ApprovalStepRepository approvalStepRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ApprovalMapper approvalMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<ApprovalRouteResponse> getRoutes() {
+        Map<String, List<ApprovalStep>> byCostCenter = approvalStepRepository.findAllByOrderByCostCenterAscStepOrderAsc()
+                .stream()
+                .collect(Collectors.groupingBy(ApprovalStep::getCostCenter, LinkedHashMap::new, Collectors.toList()));
+        return byCostCenter.entrySet().stream()
+                .map(entry -> approvalMapper.toResponse(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public ApprovalRouteResponse getRoute(String costCenter) {
+        return approvalMapper.toResponse(costCenter, getSteps(costCenter));
+    }
+
+    /**
+     * Creates or replaces the route of {@code costCenter}. Pending approvals keep their current
+     * step; later steps follow the new route.
+     */
+    public ApprovalRouteResponse putRoute(String costCenter, ApprovalRouteRequest request) {
+        Set<String> approverCodes = request.getSteps().stream()
+                .map(ApprovalStepRequest::getApproverCode)
+                .collect(Collectors.toSet());
+        Set<String> known = employeeRepository.findByEmployeeCodeIn(approverCodes).stream()
+                .map(Employee::getEmployeeCode)
+                .collect(Collectors.toSet());
+        approverCodes.removeAll(known);
+        if (!approverCodes.isEmpty()) {
+            throw new ResourceNotFoundException("Approvers not found: " + approverCodes);
+        }
+
+        approvalStepRepository.deleteByCostCenter(costCenter);
+        List<ApprovalStep> steps = new ArrayList<>(request.getSteps().size());
+        for (int i = 0; i < request.getSteps().size(); i++) {
+            ApprovalStepRequest step = request.getSteps().get(i);
+            steps.add(ApprovalStep.builder()
+                    .costCenter(costCenter)
+                    .stepOrder(i + 1)
+                    .name(step.getName())
+                    .approverCode(step.getApproverCode())
+                    .build());
+        }
+        List<ApprovalStep> saved = approvalStepRepository.saveAllAndFlush(steps);
+        eventPublisher.publishEvent(new ApprovalRoutesChangedEvent(costCenter));
+        return approvalMapper.toResponse(costCenter, saved);
+    }
+
+    public void deleteRoute(String costCenter) {
+        getSteps(costCenter);
+        approvalStepRepository.deleteByCostCenter(costCenter);
+        eventPublisher.publishEvent(new ApprovalRoutesChangedEvent(costCenter));
+    }
+
+    private List<ApprovalStep> getSteps(String costCenter) {
+        List<ApprovalStep> steps = approvalStepRepository.findByCostCenterOrderByStepOrderAsc(costCenter);
+        if (steps.isEmpty()) {
+            throw new ResourceNotFoundException("Approval route for cost center " + costCenter + " not found");
+        }
+        return steps;
+    }
+}
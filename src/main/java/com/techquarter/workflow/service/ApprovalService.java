@@ -0,0 +1,116 @@
+package com.techquarter.workflow.service;
+
+import com.techquarter.workflow.approval.ApprovalWorkflowEngine;
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import com.techquarter.workflow.domain.model.ApprovalTask;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.repository.ApprovalTaskRepository;
+import com.techquarter.workflow.dto.ApprovalDecisionRequest;
+import com.techquarter.workflow.dto.ApprovalTaskResponse;
+import com.techquarter.workflow.exception.ApprovalForbiddenException;
+import com.techquarter.workflow.exception.BookingConflictException;
+import com.techquarter.workflow.exception.ResourceNotFoundException;
+import com.techquarter.workflow.mapper.ApprovalMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Approver inboxes and decisions.
+ * <p>
+ * A decision locks the booking before writing the task, the same order a cancel takes, and the
+ * task write is checked against its {@code @Version}. Of two racing decisions, or a decision
+ * racing a cancel, exactly one wins; the loser gets a 409.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ApprovalService {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final ApprovalTaskRepository approvalTaskRepository;
+    private final ApprovalWorkflowEngine approvalWorkflowEngine;
+    private final BookingService bookingService;
+    private final ApprovalMapper approvalMapper;
+
+    /** Keyset page of the approver's pending tasks, oldest first. */
+    @Transactional(readOnly = true)
+    public List<ApprovalTaskResponse> getInbox(String approverCode, long afterId, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        return approvalTaskRepository.findInbox(approverCode, ApprovalStatus.PENDING, afterId, Limit.of(pageSize))
+                .stream()
+                .map(approvalMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ApprovalTaskResponse> getBookingApprovals(Long bookingId) {
+        return approvalTaskRepository.findByBookingIdOrderByIdAsc(bookingId)
+                .stream()
+                .map(approvalMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /** Approves a step; the booking is confirmed once its last step is approved. */
+    public ApprovalTaskResponse approve(Long taskId, ApprovalDecisionRequest request) {
+        ApprovalTask task = pendingTask(taskId, request);
+        Booking booking = lockAwaitingBooking(task);
+        decide(task, ApprovalStatus.APPROVED, request);
+        if (approvalWorkflowEngine.openNext(task) == null) {
+            bookingService.changeStatus(booking, BookingStatus.CONFIRMED);
+        }
+        return approvalMapper.toResponse(task);
+    }
+
+    /** Rejects a step, which cancels the booking. */
+    public ApprovalTaskResponse reject(Long taskId, ApprovalDecisionRequest request) {
+        ApprovalTask task = pendingTask(taskId, request);
+        Booking booking = lockAwaitingBooking(task);
+        decide(task, ApprovalStatus.REJECTED, request);
+        bookingService.changeStatus(booking, BookingStatus.CANCELLED);
+        return approvalMapper.toResponse(task);
+    }
+
+    private ApprovalTask pendingTask(Long taskId, ApprovalDecisionRequest request) {
+        ApprovalTask task = approvalTaskRepository.findById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Approval task with id " + taskId + " not found"));
+        if (!task.getApproverCode().equals(request.getApproverCode())) {
+            throw new ApprovalForbiddenException("Approval task with id " + taskId
+                    + " is not assigned to " + request.getApproverCode());
+        }
+        if (request.getVersion() != null && !request.getVersion().equals(task.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(ApprovalTask.class, taskId);
+        }
+        if (task.getStatus() != ApprovalStatus.PENDING) {
+            throw new BookingConflictException("Approval task with id " + taskId + " is already "
+                    + task.getStatus().name().toLowerCase(Locale.ROOT));
+        }
+        return task;
+    }
+
+    private Booking lockAwaitingBooking(ApprovalTask task) {
+        Booking booking = bookingService.lockBooking(task.getBookingId());
+        if (booking.getStatus() != BookingStatus.PENDING_APPROVAL) {
+            throw new BookingConflictException("Booking with id " + booking.getId() + " is not awaiting approval");
+        }
+        return booking;
+    }
+
+    private void decide(ApprovalTask task, ApprovalStatus decision, ApprovalDecisionRequest request) {
+        task.setStatus(decision);
+        task.setDecidedAt(LocalDateTime.now());
+        task.setComment(request.getComment());
+        // Flushed here so a concurrent decision fails on the version check before the booking changes
+        approvalTaskRepository.saveAndFlush(task);
+    }
+}
@@ -0,0 +1,246 @@
+package com.techquarter.workflow.service;
+
+import com.techquarter.workflow.config.BookingBatchingProperties;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.exception.ResourceNotFoundException;
+import com.techquarter.workflow.mapper.BookingMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Group commit for concurrent single booking creates.
+ * <p>
+ * Callers are parked on a future while a single writer thread drains the queue,
+ * waiting at most {@code maxWait} for a batch to fill. The batch resolves all employees
+ * with one query and inserts every booking in one transaction. Each caller receives its
+ * own response or its own error; if the batch transaction fails as a whole, its entries
+ * are retried one by one so a single bad row cannot fail its neighbours.
+ * <p>
+ * A caller waits at most {@code callerTimeout}. When the worker is interrupted or the
+ * batcher stops, queued creates are still written, so no caller is left parked.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingCreateBatcher {
+
+    private final BookingService bookingService;
+    private final EmployeeService employeeService;
+    private final BookingMapper bookingMapper;
+    private final BookingBatchingProperties properties;
+
+    private BlockingQueue<PendingCreate> queue;
+    Thread worker;
+    private volatile boolean running;
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        worker = Thread.ofPlatform()
+                .name("booking-create-batcher")
+                .daemon()
+                .start(this::drainLoop);
+        log.info("Booking create batching enabled (maxBatchSize={}, maxWait={})",
+                properties.getMaxBatchSize(), properties.getMaxWait());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        // Anything the worker did not reach is still written rather than left parked
+        completeQueuedIndividually();
+    }
+
+    public BookingResponse createBooking(CreateBookingRequest request) {
+        // Reject obviously invalid requests before they take a slot in a batch
+        bookingService.validate(request);
+
+        PendingCreate pending = new PendingCreate(request);
+        if (!running || !queue.offer(pending)) {
+            return bookingService.createBooking(request);
+        }
+        if (!running && queue.remove(pending)) {
+            // The worker stopped between the check and the offer and will never see this entry
+            return bookingService.createBooking(request);
+        }
+        return await(pending);
+    }
+
+    private BookingResponse await(PendingCreate pending) {
+        try {
+            return pending.result.get(properties.getCallerTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Booking create failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            if (queue.remove(pending)) {
+                return bookingService.createBooking(pending.request);
+            }
+            throw new IllegalStateException("Timed out after " + properties.getCallerTimeout()
+                    + " waiting for the booking batch");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            queue.remove(pending);
+            throw new IllegalStateException("Interrupted while waiting for the booking batch", ex);
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingCreate> batch = new ArrayList<>(properties.getMaxBatchSize());
+        boolean interrupted = false;
+        try {
+            while (running || !queue.isEmpty()) {
+                try {
+                    fill(batch, interrupted);
+                } catch (InterruptedException ex) {
+                    // Stop waiting for new creates but still write the queued ones
+                    interrupted = true;
+                    running = false;
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                try {
+                    flush(batch);
+                } catch (RuntimeException ex) {
+                    log.error("Unexpected failure while flushing booking batch", ex);
+                    batch.forEach(pending -> pending.result.completeExceptionally(ex));
+                } finally {
+                    // No-op for completed entries; releases the callers if flush died on an Error
+                    batch.forEach(pending -> pending.result.completeExceptionally(
+                            new IllegalStateException("Booking batch was aborted")));
+                    batch.clear();
+                }
+            }
+        } finally {
+            running = false;
+            completeQueuedIndividually();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fill(List<PendingCreate> batch, boolean interrupted) throws InterruptedException {
+        int maxBatchSize = properties.getMaxBatchSize();
+        if (interrupted) {
+            queue.drainTo(batch, maxBatchSize);
+            return;
+        }
+        PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+        while (batch.size() < maxBatchSize) {
+            PendingCreate next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void completeQueuedIndividually() {
+        for (PendingCreate pending; (pending = queue.poll()) != null; ) {
+            createIndividually(pending);
+        }
+    }
+
+    void flush(List<PendingCreate> batch) {
+        Set<String> employeeCodes = batch.stream()
+                .map(pending -> pending.request.getEmployeeCode())
+                .collect(Collectors.toSet());
+        Map<String, Employee> employees = employeeService.getEmployeeEntities(employeeCodes);
+
+        List<PendingCreate> accepted = new ArrayList<>(batch.size());
+        List<Booking> bookings = new ArrayList<>(batch.size());
+        for (PendingCreate pending : batch) {
+            String employeeCode = pending.request.getEmployeeCode();
+            Employee employee = employees.get(employeeCode);
+            if (employee == null) {
+                pending.result.completeExceptionally(new ResourceNotFoundException(
+                        "Employee with code " + employeeCode + " not found"));
+                continue;
+            }
+            Booking booking;
+            try {
+                booking = bookingService.newBooking(pending.request, employee);
+            } catch (RuntimeException ex) {
+                pending.result.completeExceptionally(ex);
+                continue;
+            }
+            accepted.add(pending);
+            bookings.add(booking);
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<Booking> saved;
+        try {
+            saved = bookingService.saveBookings(bookings);
+        } catch (RuntimeException ex) {
+            log.warn("Batch insert of {} bookings failed, retrying individually", bookings.size(), ex);
+            accepted.forEach(this::createIndividually);
+            return;
+        }
+        for (int i = 0; i < accepted.size(); i++) {
+            accepted.get(i).result.complete(bookingMapper.toResponse(saved.get(i)));
+        }
+    }
+
+    private void createIndividually(PendingCreate pending) {
+        try {
+            pending.result.complete(bookingService.createBooking(pending.request));
+        } catch (RuntimeException ex) {
+            pending.result.completeExceptionally(ex);
+        }
+    }
+
+    static final class PendingCreate {
+        private final CreateBookingRequest request;
+        private final CompletableFuture<BookingResponse> result = new CompletableFuture<>();
+
+        PendingCreate(CreateBookingRequest request) {
+            this.request = request;
+        }
+
+        CompletableFuture<BookingResponse> result() {
+            return result;
+        }
+    }
+}
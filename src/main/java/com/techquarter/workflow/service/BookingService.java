@@ -1,18 +1,35 @@
 package com.techquarter.workflow.service;
 
+import com.techquarter.workflow.approval.ApprovalWorkflowEngine;
+import com.techquarter.workflow.archive.BookingArchive;
+import com.techquarter.workflow.cache.CacheNames;
+import com.techquarter.workflow.config.BookingHoldProperties;
+import com.techquarter.workflow.domain.event.BookingCreatedEvent;
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
 import com.techquarter.workflow.domain.model.Booking;
 import com.techquarter.workflow.domain.model.BookingStatus;
 import com.techquarter.workflow.domain.model.Employee;
 import com.techquarter.workflow.domain.repository.BookingRepository;
 import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.dto.BookingSearchCriteria;
 import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.exception.BookingConflictException;
 import com.techquarter.workflow.exception.ResourceNotFoundException;
 import com.techquarter.workflow.mapper.BookingMapper;
+import com.techquarter.workflow.policy.TravelPolicyEngine;
+import com.techquarter.workflow.readmodel.BookingReadModel;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -20,11 +37,42 @@ import java.util.stream.Collectors;
 @Transactional
 public class BookingService {
 
+    static final int MAX_PAGE_SIZE = 500;
+
     private final BookingRepository bookingRepository;
     private final EmployeeService employeeService;
     private final BookingMapper bookingMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TravelPolicyEngine travelPolicyEngine;
+    private final BookingArchive bookingArchive;
+    private final BookingReadModel bookingReadModel;
+    private final BookingHoldProperties holdProperties;
+    private final ApprovalWorkflowEngine approvalWorkflowEngine;
 
     public BookingResponse createBooking(CreateBookingRequest request) {
+        validate(request);
+
+        // Verifică că employee există
+        Employee employee = employeeService.getEmployeeEntity(request.getEmployeeCode());
+
+        Booking saved = bookingRepository.save(newBooking(request, employee));
+        approvalWorkflowEngine.open(List.of(saved));
+        eventPublisher.publishEvent(new BookingCreatedEvent(saved));
+        return bookingMapper.toResponse(saved);
+    }
+
+    /**
+     * Persists already validated bookings in one transaction so the inserts can be
+     * sent as a JDBC batch. Used by {@link BookingCreateBatcher}.
+     */
+    public List<Booking> saveBookings(List<Booking> bookings) {
+        List<Booking> saved = bookingRepository.saveAll(bookings);
+        approvalWorkflowEngine.open(saved);
+        saved.forEach(booking -> eventPublisher.publishEvent(new BookingCreatedEvent(booking)));
+        return saved;
+    }
+
+    public void validate(CreateBookingRequest request) {
         // Validare: returnDate > departureDate
         if (request.getReturnDate().isBefore(request.getDepartureDate())) {
             throw new IllegalArgumentException("Return date must be after departure date");
@@ -34,46 +82,190 @@ public class BookingService {
         if (request.getTravelerCount() <= 0) {
             throw new IllegalArgumentException("Traveler count must be greater than 0");
         }
+    }
 
-        // Verifică că employee există
-        Employee employee = employeeService.getEmployeeEntity(request.getEmployeeCode());
+    /**
+     * Builds the booking after checking it against the travel policy of the cost center it is
+     * charged to, defaulting to the employee's own. Bookings that need approval get no hold.
+     */
+    Booking newBooking(CreateBookingRequest request, Employee employee) {
+        String costCenter = request.getCostCenterRef() != null
+                ? request.getCostCenterRef()
+                : employee.getCostCenter();
+        travelPolicyEngine.check(request, costCenter);
+        boolean needsApproval = approvalWorkflowEngine.requiresApproval(employee);
 
         // Creează booking
-        Booking booking = Booking.builder()
+        return Booking.builder()
                 .employee(employee)
                 .resourceType(request.getResourceType())
                 .destination(request.getDestination())
                 .departureDate(request.getDepartureDate())
                 .returnDate(request.getReturnDate())
                 .travelerCount(request.getTravelerCount())
-                .costCenterRef(request.getCostCenterRef())
+                .costCenterRef(costCenter)
                 .tripPurpose(request.getTripPurpose())
-                .status(BookingStatus.CREATED)
+                .status(needsApproval ? BookingStatus.PENDING_APPROVAL : BookingStatus.CREATED)
+                .holdExpiresAt(holdProperties.isEnabled() && !needsApproval
+                        ? LocalDateTime.now().plus(holdProperties.getDuration())
+                        : null)
                 .build();
-
-        Booking saved = bookingRepository.save(booking);
-        return bookingMapper.toResponse(saved);
     }
 
+    /** Falls back to the archive for bookings no longer in the table. */
+    @Cacheable(CacheNames.BOOKINGS)
     public BookingResponse getBooking(Long bookingId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        return bookingRepository.findById(bookingId)
+                .map(bookingMapper::toResponse)
+                .or(() -> bookingArchive.findById(bookingId).map(bookingMapper::toResponse))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Booking with id " + bookingId + " not found"));
+    }
+
+    public BookingResponse cancelBooking(Long bookingId) {
+        Booking booking = lockBooking(bookingId);
+        if (booking.getStatus() == BookingStatus.PENDING_APPROVAL) {
+            approvalWorkflowEngine.withdraw(bookingId);
+        }
+        return bookingMapper.toResponse(changeStatus(booking, BookingStatus.CANCELLED));
+    }
+
+    /**
+     * Confirms a booking; once its hold has run out it can no longer be confirmed, and one that
+     * needs approval is confirmed by its last approval instead.
+     */
+    public BookingResponse confirmBooking(Long bookingId) {
+        Booking booking = lockBooking(bookingId);
+        if (booking.getStatus() == BookingStatus.PENDING_APPROVAL) {
+            throw new BookingConflictException("Booking with id " + bookingId + " is awaiting approval");
+        }
+        if (booking.getStatus() == BookingStatus.CREATED && booking.getHoldExpiresAt() != null
+                && !booking.getHoldExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new BookingConflictException("Hold on booking with id " + bookingId + " has expired");
+        }
+        return bookingMapper.toResponse(changeStatus(booking, BookingStatus.CONFIRMED));
+    }
+
+    /**
+     * Cancels the bookings among {@code bookingIds} whose hold has run out, with one locking read
+     * and one conditional update, and publishes a status change for each. Bookings confirmed or
+     * cancelled meanwhile are skipped. Used by {@link com.techquarter.workflow.hold.BookingHoldScheduler}.
+     *
+     * @return the number of bookings cancelled
+     */
+    public int expireHolds(Collection<Long> bookingIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> expired = bookingRepository.lockExpiredHolds(bookingIds, now);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        bookingRepository.cancelExpiredHolds(expired.stream().map(Booking::getId).toList(), now);
+        for (Booking booking : expired) {
+            eventPublisher.publishEvent(new BookingStatusChangedEvent(booking.getId(),
+                    booking.getEmployee().getId(), BookingStatus.CREATED, BookingStatus.CANCELLED));
+        }
+        return expired.size();
+    }
+
+    // Locked so a status change cannot interleave with a hold expiring or an approval decision
+    Booking lockBooking(Long bookingId) {
+        return bookingRepository.findByIdForUpdate(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Booking with id " + bookingId + " not found"));
-        return bookingMapper.toResponse(booking);
     }
 
+    Booking changeStatus(Booking booking, BookingStatus newStatus) {
+        BookingStatus previousStatus = booking.getStatus();
+        if (previousStatus == newStatus) {
+            return booking;
+        }
+        if (previousStatus == BookingStatus.CANCELLED) {
+            throw new BookingConflictException("Booking with id " + booking.getId() + " is already cancelled");
+        }
+        booking.setStatus(newStatus);
+        booking.setHoldExpiresAt(null);
+        eventPublisher.publishEvent(new BookingStatusChangedEvent(
+                booking.getId(), booking.getEmployee().getId(), previousStatus, newStatus));
+        return booking;
+    }
+
+    /** Live bookings followed by archived ones that are no longer in the table. */
     public List<BookingResponse> getBookingsByEmployee(String employeeCode) {
         Employee employee = employeeService.getEmployeeEntity(employeeCode);
-        return bookingRepository.findByEmployeeId(employee.getId())
-                .stream()
+        List<BookingResponse> bookings = bookingReadModel.isEnabled()
+                ? bookingReadModel.findByEmployee(employee.getId())
+                : bookingRepository.findByEmployeeId(employee.getId())
+                        .stream()
+                        .map(bookingMapper::toResponse)
+                        .collect(Collectors.toList());
+        Set<Long> liveIds = bookings.stream().map(BookingResponse::getId).collect(Collectors.toSet());
+        bookingArchive.findByEmployee(employee.getId()).stream()
+                .filter(archived -> !liveIds.contains(archived.id()))
                 .map(bookingMapper::toResponse)
-                .collect(Collectors.toList());
+                .forEach(bookings::add);
+        return bookings;
     }
 
     public List<BookingResponse> getAllBookings() {
+        if (bookingReadModel.isEnabled()) {
+            return bookingReadModel.findAll();
+        }
         return bookingRepository.findAll()
                 .stream()
                 .map(bookingMapper::toResponse)
                 .collect(Collectors.toList());
     }
+
+    public List<BookingResponse> getBookingsPage(long afterId, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        if (bookingReadModel.isEnabled()) {
+            return bookingReadModel.findPage(afterId, pageSize);
+        }
+        return bookingRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize))
+                .stream()
+                .map(bookingMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /** Keyset page of bookings matching every set field of {@code criteria}, in creation order. */
+    public List<BookingResponse> searchBookings(BookingSearchCriteria criteria, long afterId, int limit) {
+        validate(criteria);
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        if (bookingReadModel.isEnabled()) {
+            return bookingReadModel.search(criteria, afterId, pageSize);
+        }
+        return bookingRepository.search(criteria.getStatus(), criteria.getResourceType(),
+                        criteria.getDestination(), criteria.getCostCenter(),
+                        startOf(criteria.getDepartureFrom()), endOf(criteria.getDepartureTo()),
+                        afterId, Limit.of(pageSize))
+                .stream()
+                .map(bookingMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    public long countBookings(BookingSearchCriteria criteria) {
+        validate(criteria);
+        if (bookingReadModel.isEnabled()) {
+            return bookingReadModel.count(criteria);
+        }
+        return bookingRepository.countMatching(criteria.getStatus(), criteria.getResourceType(),
+                criteria.getDestination(), criteria.getCostCenter(),
+                startOf(criteria.getDepartureFrom()), endOf(criteria.getDepartureTo()));
+    }
+
+    private void validate(BookingSearchCriteria criteria) {
+        if (criteria.getDepartureFrom() != null && criteria.getDepartureTo() != null
+                && criteria.getDepartureTo().isBefore(criteria.getDepartureFrom())) {
+            throw new IllegalArgumentException("departureTo must not be before departureFrom");
+        }
+    }
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date == null ? null : date.atStartOfDay();
+    }
+
+    /** Exclusive upper bound covering the whole of {@code date}. */
+    private static LocalDateTime endOf(LocalDate date) {
+        return date == null ? null : date.plusDays(1).atStartOfDay();
+    }
 }
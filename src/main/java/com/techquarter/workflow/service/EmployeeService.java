@@ -1,5 +1,7 @@
 package com.techquarter.workflow.service;
 
+import com.techquarter.workflow.cache.CacheNames;
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
 import com.techquarter.workflow.domain.model.Employee;
 import com.techquarter.workflow.domain.repository.EmployeeRepository;
 import com.techquarter.workflow.dto.CreateEmployeeRequest;
@@ -7,9 +9,17 @@ import com.techquarter.workflow.dto.EmployeeResponse;
 import com.techquarter.workflow.exception.ResourceNotFoundException;
 import com.techquarter.workflow.mapper.EmployeeMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -17,6 +27,7 @@ public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
     private final EmployeeMapper employeeMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public EmployeeResponse createEmployee(CreateEmployeeRequest request) {
         Employee employee = Employee.builder()
@@ -27,9 +38,11 @@ public class EmployeeService {
                 .build();
 
         Employee saved = employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeesChangedEvent(List.of(saved), true));
         return employeeMapper.toResponse(saved);
     }
 
+    @Cacheable(CacheNames.EMPLOYEES)
     public EmployeeResponse getEmployee(String employeeCode) {
         Employee employee = employeeRepository.findByEmployeeCode(employeeCode)
                 .orElseThrow(() -> new ResourceNotFoundException(
@@ -42,4 +55,15 @@ public class EmployeeService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Employee with code " + employeeCode + " not found"));
     }
+
+    /**
+     * Resolves many employee codes with a single query. Codes without a matching
+     * employee are simply absent from the returned map.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Employee> getEmployeeEntities(Collection<String> employeeCodes) {
+        return employeeRepository.findByEmployeeCodeIn(employeeCodes)
+                .stream()
+                .collect(Collectors.toMap(Employee::getEmployeeCode, Function.identity()));
+    }
 }
@@ -0,0 +1,80 @@
+package com.techquarter.workflow.service;
+
+import com.techquarter.workflow.domain.event.TravelPoliciesChangedEvent;
+import com.techquarter.workflow.domain.model.TravelPolicy;
+import com.techquarter.workflow.domain.repository.TravelPolicyRepository;
+import com.techquarter.workflow.dto.TravelPolicyRequest;
+import com.techquarter.workflow.dto.TravelPolicyResponse;
+import com.techquarter.workflow.exception.ResourceNotFoundException;
+import com.techquarter.workflow.mapper.TravelPolicyMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TravelPolicyService {
+
+    private final TravelPolicyRepository travelPolicyRepository;
+    private final TravelPolicyMapper travelPolicyMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<TravelPolicyResponse> getPolicies() {
+        return travelPolicyRepository.findAll()
+                .stream()
+                .map(travelPolicyMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public TravelPolicyResponse getPolicy(String costCenter) {
+        return travelPolicyMapper.toResponse(getPolicyEntity(costCenter));
+    }
+
+    /** Creates or replaces the policy of {@code costCenter}. */
+    public TravelPolicyResponse putPolicy(String costCenter, TravelPolicyRequest request) {
+        if (request.getMinAdvanceDays() != null && request.getMaxAdvanceDays() != null
+                && request.getMinAdvanceDays() > request.getMaxAdvanceDays()) {
+            throw new IllegalArgumentException("Minimum advance days must not exceed maximum advance days");
+        }
+        String destinations = null;
+        if (request.getAllowedDestinations() != null) {
+            if (request.getAllowedDestinations().stream().anyMatch(destination -> destination.contains(","))) {
+                throw new IllegalArgumentException("Destinations must not contain commas");
+            }
+            destinations = request.getAllowedDestinations().stream()
+                    .map(String::trim)
+                    .distinct()
+                    .collect(Collectors.joining(","));
+        }
+
+        TravelPolicy policy = travelPolicyRepository.findByCostCenter(costCenter)
+                .orElseGet(() -> TravelPolicy.builder().costCenter(costCenter).build());
+        policy.setMaxTripDays(request.getMaxTripDays());
+        policy.setMinAdvanceDays(request.getMinAdvanceDays());
+        policy.setMaxAdvanceDays(request.getMaxAdvanceDays());
+        policy.setMaxTravelers(request.getMaxTravelers());
+        policy.setAllowedDestinations(destinations);
+
+        TravelPolicy saved = travelPolicyRepository.saveAndFlush(policy);
+        eventPublisher.publishEvent(new TravelPoliciesChangedEvent(costCenter));
+        return travelPolicyMapper.toResponse(saved);
+    }
+
+    public void deletePolicy(String costCenter) {
+        travelPolicyRepository.delete(getPolicyEntity(costCenter));
+        eventPublisher.publishEvent(new TravelPoliciesChangedEvent(costCenter));
+    }
+
+    private TravelPolicy getPolicyEntity(String costCenter) {
+        return travelPolicyRepository.findByCostCenter(costCenter)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Travel policy for cost center " + costCenter + " not found"));
+    }
+}
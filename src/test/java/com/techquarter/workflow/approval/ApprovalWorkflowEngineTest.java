@@ -0,0 +1,109 @@
+package com.techquarter.workflow.approval;
+
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import com.techquarter.workflow.domain.model.ApprovalStep;
+import com.techquarter.workflow.domain.model.ApprovalTask;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.repository.ApprovalStepFingerprint;
+import com.techquarter.workflow.domain.repository.ApprovalStepRepository;
+import com.techquarter.workflow.domain.repository.ApprovalTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalWorkflowEngineTest {
+
+    @Mock
+    private ApprovalStepRepository approvalStepRepository;
+
+    @Mock
+    private ApprovalTaskRepository approvalTaskRepository;
+
+    private ApprovalWorkflowEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        when(approvalStepRepository.fingerprint()).thenReturn(new ApprovalStepFingerprint(3L, 3L));
+        when(approvalStepRepository.findAllByOrderByCostCenterAscStepOrderAsc()).thenReturn(List.of(
+                step(ApprovalStep.DEFAULT_COST_CENTER, 1, "Manager", "MGR"),
+                step("CC-SALES", 1, "Manager", "SALES_MGR"),
+                step("CC-SALES", 2, "Finance", "FIN")));
+        engine = new ApprovalWorkflowEngine(approvalStepRepository, approvalTaskRepository);
+        engine.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void routesByCostCenterAndFallsBackToDefault() {
+        // Act & Assert
+        assertEquals(List.of(new ApprovalStepDefinition(1, "Manager", "SALES_MGR"),
+                new ApprovalStepDefinition(2, "Finance", "FIN")), engine.route("CC-SALES"));
+        assertEquals(List.of(new ApprovalStepDefinition(1, "Manager", "MGR")), engine.route("CC-OTHER"));
+        assertTrue(engine.requiresApproval(Employee.builder().costCenter(null).build()));
+
+        // Unchanged fingerprint, no reload
+        engine.reloadIfChanged();
+        verify(approvalStepRepository, times(1)).findAllByOrderByCostCenterAscStepOrderAsc();
+    }
+
+    @Test
+    void opensFirstStepOnlyForBookingsPendingApproval() {
+        // Arrange
+        when(approvalTaskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Employee requester = Employee.builder().id(1L).employeeCode("EMP1").name("Ann").costCenter("CC-SALES").build();
+        Booking pending = booking(10L, requester, BookingStatus.PENDING_APPROVAL);
+        Booking created = booking(11L, requester, BookingStatus.CREATED);
+
+        // Act
+        List<ApprovalTask> tasks = engine.open(List.of(pending, created));
+
+        // Assert
+        assertEquals(1, tasks.size());
+        ApprovalTask task = tasks.getFirst();
+        assertEquals(10L, task.getBookingId());
+        assertEquals(1, task.getStepOrder());
+        assertEquals("SALES_MGR", task.getApproverCode());
+        assertEquals(ApprovalStatus.PENDING, task.getStatus());
+        assertEquals("Ann", task.getRequesterName());
+        assertEquals("Oslo", task.getDestination());
+        assertTrue(engine.open(List.of(created)).isEmpty());
+    }
+
+    @Test
+    void opensNextStepUntilTheRouteEnds() {
+        // Arrange
+        when(approvalTaskRepository.save(any(ApprovalTask.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        ApprovalTask first = ApprovalTask.builder().bookingId(10L).stepOrder(1).costCenter("CC-SALES")
+                .requesterCode("EMP1").status(ApprovalStatus.APPROVED).build();
+
+        // Act
+        ApprovalTask second = engine.openNext(first);
+
+        // Assert
+        assertEquals(2, second.getStepOrder());
+        assertEquals("FIN", second.getApproverCode());
+        assertEquals("EMP1", second.getRequesterCode());
+        assertNull(engine.openNext(second));
+    }
+
+    private static ApprovalStep step(String costCenter, int order, String name, String approver) {
+        return ApprovalStep.builder().costCenter(costCenter).stepOrder(order).name(name).approverCode(approver).build();
+    }
+
+    private static Booking booking(Long id, Employee employee, BookingStatus status) {
+        LocalDateTime departure = LocalDateTime.of(2030, 5, 1, 8, 0);
+        return Booking.builder().id(id).employee(employee).destination("Oslo")
+                .departureDate(departure).returnDate(departure.plusDays(2)).status(status).build();
+    }
+}
@@ -0,0 +1,219 @@
+package com.techquarter.workflow.approval;
+
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.dto.ApprovalDecisionRequest;
+import com.techquarter.workflow.dto.ApprovalRouteRequest;
+import com.techquarter.workflow.dto.ApprovalStepRequest;
+import com.techquarter.workflow.dto.ApprovalTaskResponse;
+import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.exception.ApprovalForbiddenException;
+import com.techquarter.workflow.exception.BookingConflictException;
+import com.techquarter.workflow.service.ApprovalRouteService;
+import com.techquarter.workflow.service.ApprovalService;
+import com.techquarter.workflow.service.BookingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end approval flow against the database, including decisions that race each other or a
+ * cancel. Each test uses its own cost center so the routes do not affect other tests.
+ */
+@SpringBootTest
+class ApprovalWorkflowIntegrationTest {
+
+    private static final AtomicInteger RUN = new AtomicInteger();
+
+    @Autowired
+    private ApprovalRouteService approvalRouteService;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private String prefix;
+    private String costCenter;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "APPROVAL_" + RUN.incrementAndGet() + "_";
+        costCenter = "CC-" + prefix;
+        employee(prefix + "REQ", costCenter);
+        employee(prefix + "MGR", "CC-APPROVERS");
+        employee(prefix + "FIN", "CC-APPROVERS");
+        approvalRouteService.putRoute(costCenter, ApprovalRouteRequest.builder()
+                .steps(List.of(step("Manager", prefix + "MGR"), step("Finance", prefix + "FIN")))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        approvalRouteService.deleteRoute(costCenter);
+    }
+
+    @Test
+    void bookingIsConfirmedAfterEveryStepApproves() {
+        BookingResponse booking = createBooking();
+        assertEquals(BookingStatus.PENDING_APPROVAL, booking.getStatus());
+        assertNull(booking.getHoldExpiresAt());
+        assertThrows(BookingConflictException.class, () -> bookingService.confirmBooking(booking.getId()));
+
+        ApprovalTaskResponse first = inboxTask(prefix + "MGR", booking.getId());
+        assertThrows(ApprovalForbiddenException.class,
+                () -> approvalService.approve(first.getId(), decision(prefix + "FIN", first.getVersion())));
+        approvalService.approve(first.getId(), decision(prefix + "MGR", first.getVersion()));
+        assertEquals(BookingStatus.PENDING_APPROVAL, bookingService.getBooking(booking.getId()).getStatus());
+
+        ApprovalTaskResponse second = inboxTask(prefix + "FIN", booking.getId());
+        assertEquals(2, second.getStepOrder());
+        approvalService.approve(second.getId(), decision(prefix + "FIN", second.getVersion()));
+
+        assertEquals(BookingStatus.CONFIRMED, bookingService.getBooking(booking.getId()).getStatus());
+        assertEquals(List.of(ApprovalStatus.APPROVED, ApprovalStatus.APPROVED),
+                statuses(approvalService.getBookingApprovals(booking.getId())));
+        assertTrue(approvalService.getInbox(prefix + "FIN", 0, 50).isEmpty());
+    }
+
+    @Test
+    void rejectionCancelsAndCancelWithdraws() {
+        BookingResponse rejected = createBooking();
+        ApprovalTaskResponse task = inboxTask(prefix + "MGR", rejected.getId());
+        approvalService.reject(task.getId(), decision(prefix + "MGR", task.getVersion()));
+        assertEquals(BookingStatus.CANCELLED, bookingService.getBooking(rejected.getId()).getStatus());
+
+        BookingResponse cancelled = createBooking();
+        ApprovalTaskResponse pending = inboxTask(prefix + "MGR", cancelled.getId());
+        bookingService.cancelBooking(cancelled.getId());
+        assertEquals(List.of(ApprovalStatus.WITHDRAWN), statuses(approvalService.getBookingApprovals(cancelled.getId())));
+        // The approver's copy is stale now
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> approvalService.approve(pending.getId(), decision(prefix + "MGR", pending.getVersion())));
+        assertThrows(BookingConflictException.class,
+                () -> approvalService.approve(pending.getId(), decision(prefix + "MGR", null)));
+    }
+
+    @Test
+    void concurrentDecisionsAndCancelLeaveAConsistentState() throws Exception {
+        for (int round = 0; round < 10; round++) {
+            BookingResponse booking = createBooking();
+            ApprovalTaskResponse task = inboxTask(prefix + "MGR", booking.getId());
+            ApprovalDecisionRequest request = decision(prefix + "MGR", task.getVersion());
+
+            List<Throwable> outcomes = race(
+                    () -> approvalService.approve(task.getId(), request),
+                    () -> approvalService.reject(task.getId(), request),
+                    () -> bookingService.cancelBooking(booking.getId()));
+
+            // Approve and reject exclude each other; a cancel may still follow an approval
+            assertFalse(outcomes.get(0) == null && outcomes.get(1) == null, "Both decisions on one task succeeded");
+            for (Throwable failure : outcomes) {
+                assertTrue(failure == null || failure instanceof OptimisticLockingFailureException
+                        || failure instanceof BookingConflictException, () -> "Unexpected failure " + failure);
+            }
+            List<ApprovalStatus> tasks = statuses(approvalService.getBookingApprovals(booking.getId()));
+            BookingStatus status = bookingService.getBooking(booking.getId()).getStatus();
+            assertNotEquals(ApprovalStatus.PENDING, tasks.getFirst());
+            if (status == BookingStatus.CANCELLED) {
+                assertFalse(tasks.contains(ApprovalStatus.PENDING), () -> "Pending task left on cancelled booking " + tasks);
+            } else {
+                assertEquals(BookingStatus.PENDING_APPROVAL, status);
+                assertEquals(List.of(ApprovalStatus.APPROVED, ApprovalStatus.PENDING), tasks);
+            }
+        }
+    }
+
+    /** Runs the actions at once and returns each one's failure, or {@code null} if it succeeded. */
+    private List<Throwable> race(Callable<?>... actions) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(actions.length);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (Callable<?> action : actions) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return action.call();
+                }));
+            }
+            start.countDown();
+            List<Throwable> outcomes = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                    outcomes.add(null);
+                } catch (ExecutionException ex) {
+                    outcomes.add(ex.getCause());
+                }
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BookingResponse createBooking() {
+        return bookingService.createBooking(CreateBookingRequest.builder()
+                .employeeCode(prefix + "REQ")
+                .resourceType(ResourceType.FLIGHT)
+                .destination("Lisbon")
+                .departureDate(LocalDateTime.of(2032, 4, 1, 8, 0))
+                .returnDate(LocalDateTime.of(2032, 4, 3, 18, 0))
+                .travelerCount(1)
+                .costCenterRef(costCenter)
+                .tripPurpose("Approval")
+                .build());
+    }
+
+    private ApprovalTaskResponse inboxTask(String approverCode, Long bookingId) {
+        return approvalService.getInbox(approverCode, 0, 500).stream()
+                .filter(task -> task.getBookingId().equals(bookingId))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No pending task for booking " + bookingId));
+    }
+
+    private void employee(String code, String employeeCostCenter) {
+        employeeRepository.save(Employee.builder()
+                .employeeCode(code)
+                .name("Approval " + code)
+                .email(code.toLowerCase() + "@company.com")
+                .costCenter(employeeCostCenter)
+                .build());
+    }
+
+    private static ApprovalStepRequest step(String name, String approverCode) {
+        return ApprovalStepRequest.builder().name(name).approverCode(approverCode).build();
+    }
+
+    private static ApprovalDecisionRequest decision(String approverCode, Long version) {
+        return ApprovalDecisionRequest.builder().approverCode(approverCode).version(version).build();
+    }
+
+    private static List<ApprovalStatus> statuses(List<ApprovalTaskResponse> tasks) {
+        return tasks.stream().map(ApprovalTaskResponse::getStatus).toList();
+    }
+}
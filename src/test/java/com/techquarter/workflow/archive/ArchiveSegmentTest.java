@@ -0,0 +1,75 @@
+package com.techquarter.workflow.archive;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.ResourceType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArchiveSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void write_ThenLookUpByIdAndEmployeeAcrossBlocks() throws IOException {
+        // Arrange: small blocks so records spread over many of them
+        List<ArchivedBooking> bookings = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            bookings.add(booking(1_000L + i * 3, i % 7));
+        }
+
+        // Act
+        try (ArchiveSegment segment = ArchiveSegment.write(directory.resolve("s.seg"), bookings, 1024)) {
+
+            // Assert
+            assertEquals(1_000, segment.size());
+            assertEquals(bookings.get(500), segment.findById(2_500L).orElseThrow());
+            assertTrue(segment.findById(2_501L).isEmpty());
+            assertTrue(segment.findById(999L).isEmpty());
+            assertTrue(segment.findById(100_000L).isEmpty());
+
+            List<ArchivedBooking> employee3 = segment.findByEmployee(3);
+            assertEquals(bookings.stream().filter(b -> b.employeeId() == 3).toList(), employee3);
+            assertTrue(segment.findByEmployee(42).isEmpty());
+        }
+        assertFalse(Files.exists(directory.resolve("s.seg.tmp")));
+    }
+
+    @Test
+    void open_ReadsExistingSegmentAndDetectsCorruption() throws IOException {
+        // Arrange
+        Path path = directory.resolve("s.seg");
+        ArchiveSegment.write(path, List.of(booking(1L, 1), booking(2L, 1)), 1024).close();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            // Flip a byte inside the first (and only) compressed block
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), 10);
+        }
+
+        // Act & Assert
+        try (ArchiveSegment segment = ArchiveSegment.open(path)) {
+            assertThrows(IllegalStateException.class, () -> segment.findById(1L));
+        }
+        Files.write(directory.resolve("broken.seg"), new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> ArchiveSegment.open(directory.resolve("broken.seg")));
+    }
+
+    private static ArchivedBooking booking(long id, long employeeId) {
+        LocalDateTime departure = LocalDateTime.of(2020, 5, 1, 9, 30).plusDays(id % 300);
+        return new ArchivedBooking(id, employeeId, "EMP" + employeeId, "Employee " + employeeId,
+                id % 2 == 0 ? ResourceType.FLIGHT : ResourceType.HOTEL, "City " + id % 13,
+                departure, departure.plusDays(3).plusNanos(5_000), 1 + (int) (id % 3),
+                "CC-" + employeeId, "Trip " + id, BookingStatus.CONFIRMED);
+    }
+}
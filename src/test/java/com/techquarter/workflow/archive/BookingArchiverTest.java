@@ -0,0 +1,155 @@
+package com.techquarter.workflow.archive;
+
+import com.techquarter.workflow.domain.model.Appointment;
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import com.techquarter.workflow.domain.model.ApprovalTask;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.AppointmentRepository;
+import com.techquarter.workflow.domain.repository.ApprovalTaskRepository;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.dto.ApprovalDecisionRequest;
+import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.service.ApprovalService;
+import com.techquarter.workflow.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class BookingArchiverTest {
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("workflow.archive.enabled", () -> "true");
+        registry.add("workflow.archive.directory", () -> archiveDirectory.toString());
+        registry.add("workflow.archive.max-bookings-per-segment", () -> "2");
+        registry.add("workflow.archive.delete-chunk-size", () -> "1");
+    }
+
+    @Autowired
+    private BookingArchiver bookingArchiver;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private ApprovalTaskRepository approvalTaskRepository;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Test
+    void archive_MovesOldBookingsAndKeepsThemReadable() {
+        // Arrange
+        Employee employee = employeeRepository.save(Employee.builder()
+                .employeeCode("ARC_001")
+                .name("Archie")
+                .email("archie@company.com")
+                .costCenter("CC-ARC")
+                .build());
+        Booking old1 = bookingRepository.save(booking(employee, LocalDateTime.of(2019, 3, 1, 8, 0)));
+        Booking old2 = bookingRepository.save(booking(employee, LocalDateTime.of(2019, 4, 1, 8, 0)));
+        Booking old3 = bookingRepository.save(booking(employee, LocalDateTime.of(2019, 5, 1, 8, 0)));
+        Booking withAppointment = bookingRepository.save(booking(employee, LocalDateTime.of(2019, 6, 1, 8, 0)));
+        appointmentRepository.save(Appointment.builder()
+                .booking(withAppointment)
+                .checkIn(LocalDateTime.of(2019, 6, 1, 14, 0))
+                .checkOut(LocalDateTime.of(2019, 6, 3, 11, 0))
+                .build());
+        Booking recent = bookingRepository.save(booking(employee, LocalDateTime.of(2030, 1, 1, 8, 0)));
+
+        // Act
+        int archived = bookingArchiver.archive(LocalDateTime.of(2021, 1, 1, 0, 0));
+
+        // Assert
+        assertEquals(3, archived);
+        assertTrue(bookingRepository.findById(old1.getId()).isEmpty());
+        assertTrue(bookingRepository.findById(withAppointment.getId()).isPresent());
+
+        BookingResponse fromArchive = bookingService.getBooking(old2.getId());
+        assertEquals("Archie", fromArchive.getEmployeeName());
+        assertEquals(LocalDateTime.of(2019, 4, 1, 8, 0), fromArchive.getDepartureDate());
+
+        List<Long> ids = bookingService.getBookingsByEmployee("ARC_001").stream()
+                .map(BookingResponse::getId)
+                .sorted()
+                .toList();
+        assertEquals(List.of(old1.getId(), old2.getId(), old3.getId(), withAppointment.getId(), recent.getId()), ids);
+        assertEquals(0, bookingArchiver.archive(LocalDateTime.of(2021, 1, 1, 0, 0)));
+    }
+
+    @Test
+    void archive_KeepsBookingsAwaitingApproval() {
+        // Arrange
+        Employee employee = employeeRepository.save(Employee.builder()
+                .employeeCode("ARC_002")
+                .name("Penny")
+                .email("penny@company.com")
+                .costCenter("CC-ARC")
+                .build());
+        Booking pending = booking(employee, LocalDateTime.of(2019, 7, 1, 8, 0));
+        pending.setStatus(BookingStatus.PENDING_APPROVAL);
+        pending = bookingRepository.save(pending);
+        ApprovalTask task = approvalTaskRepository.save(ApprovalTask.builder()
+                .bookingId(pending.getId())
+                .stepOrder(1)
+                .stepName("Manager")
+                .approverCode("ARC_MGR")
+                .status(ApprovalStatus.PENDING)
+                .costCenter("CC-ARC")
+                .requesterCode("ARC_002")
+                .requesterName("Penny")
+                .destination(pending.getDestination())
+                .departureDate(pending.getDepartureDate())
+                .returnDate(pending.getReturnDate())
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        // Act
+        bookingArchiver.archive(LocalDateTime.of(2021, 1, 1, 0, 0));
+
+        // Assert
+        assertTrue(bookingRepository.findById(pending.getId()).isPresent());
+        approvalService.reject(task.getId(), ApprovalDecisionRequest.builder().approverCode("ARC_MGR").build());
+        assertEquals(BookingStatus.CANCELLED, bookingService.getBooking(pending.getId()).getStatus());
+    }
+
+    private static Booking booking(Employee employee, LocalDateTime departure) {
+        return Booking.builder()
+                .employee(employee)
+                .resourceType(ResourceType.HOTEL)
+                .destination("Lisbon")
+                .departureDate(departure)
+                .returnDate(departure.plusDays(2))
+                .travelerCount(1)
+                .costCenterRef("CC-ARC")
+                .tripPurpose("Workshop")
+                .status(BookingStatus.CONFIRMED)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.techquarter.workflow.audit;
+
+import com.techquarter.workflow.config.AuditProperties;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditJournalServiceTest {
+
+    private static final int ENTRIES = 200_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testInterruptedWriter_DrainsQueueAndExits() throws Exception {
+        // Arrange
+        AuditProperties properties = new AuditProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setQueueCapacity(ENTRIES);
+        AuditJournalService service = new AuditJournalService(properties);
+        service.start();
+        for (long i = 0; i < ENTRIES; i++) {
+            service.record(new AuditJournalService.PendingEntry(i, 1L, AuditEventType.STATUS_CHANGED,
+                    BookingStatus.CREATED, BookingStatus.CANCELLED));
+        }
+
+        // Act
+        service.writer.interrupt();
+        service.writer.join(TimeUnit.SECONDS.toMillis(30));
+
+        // Assert
+        assertFalse(service.writer.isAlive(), "Writer did not exit after the interrupt");
+        service.stop();
+        AuditJournal journal = new AuditJournal(directory, (int) properties.getSegmentSize().toBytes());
+        assertEquals(ENTRIES, journal.size());
+        assertTrue(journal.verify().valid());
+        journal.close();
+    }
+
+    @Test
+    void testRecord_WriterStopped_AppendsSynchronously() throws Exception {
+        // Arrange
+        AuditProperties properties = new AuditProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        AuditJournalService service = new AuditJournalService(properties);
+        service.start();
+        service.writer.interrupt();
+        service.writer.join(TimeUnit.SECONDS.toMillis(5));
+
+        // Act
+        service.record(new AuditJournalService.PendingEntry(7L, 1L, AuditEventType.STATUS_CHANGED,
+                BookingStatus.CREATED, BookingStatus.CONFIRMED));
+
+        // Assert
+        try {
+            assertEquals(1, service.getBookingHistory(7L).size());
+        } finally {
+            service.stop();
+        }
+    }
+
+    @Test
+    void testRecord_FullQueue_KeepsEntriesInOrder() throws Exception {
+        // Arrange
+        AuditProperties properties = new AuditProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        properties.setQueueCapacity(4);
+        properties.setEnqueueTimeout(Duration.ofMillis(1));
+        AuditJournalService service = new AuditJournalService(properties);
+        service.start();
+
+        // Act
+        for (long i = 0; i < 5_000; i++) {
+            service.record(new AuditJournalService.PendingEntry(i, 1L, AuditEventType.STATUS_CHANGED,
+                    BookingStatus.CREATED, BookingStatus.CANCELLED));
+        }
+        service.stop();
+
+        // Assert
+        AuditJournal journal = new AuditJournal(directory, (int) properties.getSegmentSize().toBytes());
+        List<AuditRecord> records = journal.findByTimeRange(0, Long.MAX_VALUE, 10_000);
+        journal.close();
+        assertEquals(5_000, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(i, records.get(i).bookingId());
+        }
+    }
+
+    @Test
+    void testStart_DirectoryInUse_FailsFast() throws Exception {
+        // Arrange
+        AuditProperties properties = new AuditProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.toString());
+        AuditJournalService first = new AuditJournalService(properties);
+        first.start();
+
+        // Act & Assert
+        try {
+            assertThrows(IllegalStateException.class, () -> new AuditJournalService(properties).start());
+        } finally {
+            first.stop();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.techquarter.workflow.audit;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditJournalTest {
+
+    private static final int SMALL_SEGMENT = AuditJournal.HEADER_SIZE + 10 * AuditJournal.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAppend_QueryByBookingAndTime() {
+        // Arrange
+        AuditJournal journal = new AuditJournal(directory, 1 << 20);
+        long before = System.currentTimeMillis();
+
+        // Act
+        journal.append(1L, 10L, AuditEventType.BOOKING_CREATED, null, BookingStatus.CREATED);
+        journal.append(2L, 10L, AuditEventType.BOOKING_CREATED, null, BookingStatus.CREATED);
+        journal.append(1L, 10L, AuditEventType.STATUS_CHANGED, BookingStatus.CREATED, BookingStatus.CANCELLED);
+
+        // Assert
+        List<AuditRecord> history = journal.findByBooking(1L);
+        assertEquals(2, history.size());
+        assertEquals(AuditEventType.BOOKING_CREATED, history.get(0).type());
+        assertNull(history.get(0).previousStatus());
+        assertEquals(BookingStatus.CANCELLED, history.get(1).newStatus());
+        assertEquals(3, journal.findByTimeRange(before, System.currentTimeMillis() + 1, 100).size());
+        assertEquals(1, journal.findByTimeRange(before, System.currentTimeMillis() + 1, 1).size());
+        assertTrue(journal.findByBooking(99L).isEmpty());
+    }
+
+    @Test
+    void testOpen_DirectoryInUse_ThrowsException() {
+        // Arrange
+        AuditJournal journal = new AuditJournal(directory, 1 << 16);
+        journal.append(1L, 10L, AuditEventType.BOOKING_CREATED, null, BookingStatus.CREATED);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> new AuditJournal(directory, 1 << 16));
+        journal.close();
+        AuditJournal reopened = new AuditJournal(directory, 1 << 16);
+        assertEquals(1, reopened.size());
+        reopened.close();
+    }
+
+    @Test
+    void testRotationAndRecovery_ContinuesHashChain() {
+        // Arrange
+        AuditJournal journal = new AuditJournal(directory, SMALL_SEGMENT);
+        for (long i = 0; i < 25; i++) {
+            journal.append(i % 5, 1L, AuditEventType.BOOKING_CREATED, null, BookingStatus.CREATED);
+        }
+        journal.close();
+
+        // Act
+        AuditJournal reopened = new AuditJournal(directory, SMALL_SEGMENT);
+        AuditRecord next = reopened.append(3L, 1L, AuditEventType.STATUS_CHANGED,
+                BookingStatus.CREATED, BookingStatus.CONFIRMED);
+
+        // Assert
+        assertEquals(3, reopened.segmentCount());
+        assertEquals(25, next.sequence());
+        assertEquals(6, reopened.findByBooking(3L).size());
+        AuditJournal.VerificationResult result = reopened.verify();
+        assertTrue(result.valid());
+        assertEquals(26, result.recordsChecked());
+    }
+
+    @Test
+    void testVerify_DetectsTamperedRecord() throws Exception {
+        // Arrange
+        AuditJournal journal = new AuditJournal(directory, 1 << 16);
+        for (long i = 0; i < 5; i++) {
+            journal.append(i, 1L, AuditEventType.BOOKING_CREATED, null, BookingStatus.CREATED);
+        }
+        journal.close();
+
+        // Act: rewrite the new status of record #2 and fix up its CRC, as an attacker would
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.getFileName().toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long offset = AuditJournal.HEADER_SIZE + 2L * AuditJournal.RECORD_SIZE;
+            byte[] payload = new byte[AuditJournal.PAYLOAD_SIZE];
+            file.seek(offset + 8);
+            file.readFully(payload);
+            payload[34] = (byte) BookingStatus.CONFIRMED.ordinal();
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            file.seek(offset + 4);
+            file.writeInt((int) crc.getValue());
+            file.write(payload);
+        }
+        AuditJournal.VerificationResult result = new AuditJournal(directory, 1 << 16).verify();
+
+        // Assert
+        assertFalse(result.valid());
+        assertEquals(2, result.firstInvalidSequence());
+    }
+
+    @Test
+    void testRecovery_IgnoresTornTail() throws Exception {
+        // Arrange
+        AuditJournal journal = new AuditJournal(directory, 1 << 16);
+        journal.append(1L, 1L, AuditEventType.BOOKING_CREATED, null, BookingStatus.CREATED);
+        journal.append(2L, 1L, AuditEventType.BOOKING_CREATED, null, BookingStatus.CREATED);
+        journal.close();
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.getFileName().toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(AuditJournal.HEADER_SIZE + AuditJournal.RECORD_SIZE + 20);
+            file.writeLong(-1L);
+        }
+
+        // Act
+        AuditJournal recovered = new AuditJournal(directory, 1 << 16);
+
+        // Assert
+        assertEquals(1, recovered.size());
+        assertTrue(recovered.verify().valid());
+        assertEquals(1, recovered.append(3L, 1L, AuditEventType.BOOKING_CREATED, null,
+                BookingStatus.CREATED).sequence());
+    }
+
+    @Test
+    void testRetention_DeletesSealedSegmentsAndKeepsChainVerifiable() {
+        // Arrange
+        AuditJournal journal = new AuditJournal(directory, SMALL_SEGMENT);
+        for (long i = 0; i < 25; i++) {
+            journal.append(i, 1L, AuditEventType.BOOKING_CREATED, null, BookingStatus.CREATED);
+        }
+
+        // Act
+        int deleted = journal.deleteSegmentsOlderThan(Long.MAX_VALUE);
+
+        // Assert
+        assertEquals(2, deleted);
+        assertEquals(1, journal.segmentCount());
+        assertTrue(journal.findByBooking(0L).isEmpty());
+        assertEquals(1, journal.findByBooking(24L).size());
+        assertTrue(journal.verify().valid());
+    }
+}
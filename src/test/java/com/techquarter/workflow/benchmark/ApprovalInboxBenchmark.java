@@ -0,0 +1,241 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import com.techquarter.workflow.domain.model.ApprovalTask;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.ApprovalTaskRepository;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.dto.ApprovalDecisionRequest;
+import com.techquarter.workflow.dto.ApprovalRouteRequest;
+import com.techquarter.workflow.dto.ApprovalStepRequest;
+import com.techquarter.workflow.dto.ApprovalTaskResponse;
+import com.techquarter.workflow.exception.BookingConflictException;
+import com.techquarter.workflow.service.ApprovalRouteService;
+import com.techquarter.workflow.service.ApprovalService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Inbox page latency and decision throughput with 10k pending approvals per approver, three
+ * approvers. The baseline derives the same inbox from the bookings table, which is what a
+ * "pending for my cost centers" query would do without the task rows.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=ApprovalInboxBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class ApprovalInboxBenchmark {
+
+    private static final int APPROVERS = 3;
+    private static final int PENDING_PER_APPROVER = 10_000;
+    private static final int REQUESTERS_PER_APPROVER = 100;
+    private static final int CHUNK = 5_000;
+    private static final int DECISIONS = 2_000;
+    private static final int THREADS = 8;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ApprovalTaskRepository approvalTaskRepository;
+
+    @Autowired
+    private ApprovalRouteService approvalRouteService;
+
+    @Autowired
+    private ApprovalService approvalService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void inboxLatencyAndDecisionThroughput() throws Exception {
+        long start = System.nanoTime();
+        seed();
+        System.out.printf("seeded %d pending approvals in %d ms%n%n",
+                APPROVERS * PENDING_PER_APPROVER, (System.nanoTime() - start) / 1_000_000);
+
+        long deepAfterId = lastPageAfterId(manager(0));
+        System.out.printf("%-34s %10s %10s %10s%n", "query", "p50 us", "p99 us", "rows");
+        latency("inbox first page of 50", 1_000, i -> approvalService.getInbox(manager(i % APPROVERS), 0, 50));
+        latency("inbox page of 50 after 9,950", 1_000, i -> approvalService.getInbox(manager(0), deepAfterId, 50));
+        latency("inbox first page of 500", 200, i -> approvalService.getInbox(manager(i % APPROVERS), 0, 500));
+        latency("derived from bookings (baseline)", 50, i -> jdbcTemplate.queryForList("""
+                select b.id from bookings b join employees e on e.id = b.employee_id
+                where b.status = 'PENDING_APPROVAL' and e.cost_center = ? order by b.id limit 50""",
+                Long.class, costCenter(i % APPROVERS)));
+        System.out.println();
+
+        System.out.printf("%-34s %10s %10s %10s %10s%n", "decisions", "ops/s", "ok", "conflicts", "threads");
+        List<ApprovalTaskResponse> first = inbox(manager(0), DECISIONS);
+        throughput("approve, one thread", 1, first, false);
+        List<ApprovalTaskResponse> second = inbox(manager(1), DECISIONS);
+        throughput("approve, disjoint tasks", THREADS, second, false);
+        List<ApprovalTaskResponse> third = inbox(manager(2), DECISIONS);
+        throughput("approve, every thread same tasks", THREADS, third, true);
+    }
+
+    private void seed() {
+        for (int a = 0; a < APPROVERS; a++) {
+            int approver = a;
+            List<Employee> employees = new ArrayList<>();
+            employees.add(Employee.builder().employeeCode(manager(a)).name("Manager " + a)
+                    .email("apb.mgr" + a + "@company.com").costCenter("CC-APB-APPROVERS").build());
+            for (int r = 0; r < REQUESTERS_PER_APPROVER; r++) {
+                employees.add(Employee.builder().employeeCode("APB" + a + "_" + r).name("Requester " + a + " " + r)
+                        .email("apb" + a + "." + r + "@company.com").costCenter(costCenter(a)).build());
+            }
+            if (a == 0) {
+                employees.add(Employee.builder().employeeCode("APB_FIN").name("Finance")
+                        .email("apb.fin@company.com").costCenter("CC-APB-APPROVERS").build());
+            }
+            List<Employee> saved = transactionTemplate.execute(status -> employeeRepository.saveAll(employees));
+            approvalRouteService.putRoute(costCenter(a), ApprovalRouteRequest.builder()
+                    .steps(List.of(new ApprovalStepRequest("Manager", manager(a)),
+                            new ApprovalStepRequest("Finance", "APB_FIN")))
+                    .build());
+
+            for (int offset = 0; offset < PENDING_PER_APPROVER; offset += CHUNK) {
+                int base = offset;
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Booking> bookings = new ArrayList<>(CHUNK);
+                    for (int i = 0; i < CHUNK; i++) {
+                        Employee requester = saved.get(1 + (base + i) % REQUESTERS_PER_APPROVER);
+                        LocalDateTime departure = LocalDateTime.of(2031, 1, 1, 8, 0).plusDays((base + i) % 300);
+                        bookings.add(Booking.builder()
+                                .employee(requester)
+                                .resourceType(ResourceType.FLIGHT)
+                                .destination("Zurich")
+                                .departureDate(departure)
+                                .returnDate(departure.plusDays(2))
+                                .travelerCount(1)
+                                .costCenterRef(costCenter(approver))
+                                .tripPurpose("Benchmark")
+                                .status(BookingStatus.PENDING_APPROVAL)
+                                .build());
+                    }
+                    List<ApprovalTask> tasks = new ArrayList<>(CHUNK);
+                    for (Booking booking : bookingRepository.saveAll(bookings)) {
+                        tasks.add(ApprovalTask.builder()
+                                .bookingId(booking.getId())
+                                .stepOrder(1)
+                                .stepName("Manager")
+                                .approverCode(manager(approver))
+                                .status(ApprovalStatus.PENDING)
+                                .costCenter(costCenter(approver))
+                                .requesterCode(booking.getEmployee().getEmployeeCode())
+                                .requesterName(booking.getEmployee().getName())
+                                .destination(booking.getDestination())
+                                .departureDate(booking.getDepartureDate())
+                                .returnDate(booking.getReturnDate())
+                                .createdAt(LocalDateTime.now())
+                                .build());
+                    }
+                    approvalTaskRepository.saveAll(tasks);
+                });
+            }
+        }
+    }
+
+    private long lastPageAfterId(String approverCode) {
+        List<ApprovalTaskResponse> all = inbox(approverCode, PENDING_PER_APPROVER);
+        return all.get(all.size() - 51).getId();
+    }
+
+    private List<ApprovalTaskResponse> inbox(String approverCode, int size) {
+        List<ApprovalTaskResponse> tasks = new ArrayList<>(size);
+        long afterId = 0;
+        while (tasks.size() < size) {
+            List<ApprovalTaskResponse> page = approvalService.getInbox(approverCode, afterId, 500);
+            if (page.isEmpty()) {
+                break;
+            }
+            tasks.addAll(page.subList(0, Math.min(page.size(), size - tasks.size())));
+            afterId = page.getLast().getId();
+        }
+        return tasks;
+    }
+
+    private void throughput(String name, int threads, List<ApprovalTaskResponse> tasks, boolean contended)
+            throws Exception {
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = contended ? 0 : thread; i < tasks.size(); i += contended ? 1 : threads) {
+                    ApprovalTaskResponse task = tasks.get(i);
+                    try {
+                        approvalService.approve(task.getId(),
+                                new ApprovalDecisionRequest(task.getApproverCode(), task.getVersion(), null));
+                        ok.incrementAndGet();
+                    } catch (OptimisticLockingFailureException | BookingConflictException ex) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-34s %10.0f %10d %10d %10d%n", name,
+                (ok.get() + conflicts.get()) / seconds, ok.get(), conflicts.get(), threads);
+    }
+
+    private static void latency(String name, int iterations, IntFunction<List<?>> query) {
+        // Warm-up
+        for (int i = 0; i < iterations; i++) {
+            query.apply(i);
+        }
+        long[] latencies = new long[iterations];
+        long rows = 0;
+        for (int i = 0; i < iterations; i++) {
+            long begin = System.nanoTime();
+            rows += query.apply(i).size();
+            latencies[i] = System.nanoTime() - begin;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-34s %10.1f %10.1f %10d%n", name,
+                latencies[latencies.length / 2] / 1e3,
+                latencies[(int) (latencies.length * 0.99)] / 1e3,
+                rows / iterations);
+    }
+
+    private static String manager(int approver) {
+        return "APB_MGR" + approver;
+    }
+
+    private static String costCenter(int approver) {
+        return "CC-APB-" + approver;
+    }
+}
@@ -0,0 +1,91 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.audit.AuditEventType;
+import com.techquarter.workflow.audit.AuditJournal;
+import com.techquarter.workflow.audit.AuditJournalService;
+import com.techquarter.workflow.config.AuditProperties;
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Audit journal append throughput, and the latency the journal adds to the request thread
+ * (an event listener call that only enqueues).
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=AuditJournalBenchmark}.
+ */
+@Tag("benchmark")
+class AuditJournalBenchmark {
+
+    private static final int APPENDS = 2_000_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendThroughput() {
+        for (boolean forceEveryBatch : new boolean[]{false, true}) {
+            AuditJournal journal = new AuditJournal(directory.resolve("force-" + forceEveryBatch), 64 << 20);
+            long begin = System.nanoTime();
+            for (int i = 0; i < APPENDS; i++) {
+                journal.append(i, i % 1000, AuditEventType.STATUS_CHANGED,
+                        BookingStatus.CREATED, BookingStatus.CONFIRMED);
+                if (forceEveryBatch && (i & 1023) == 1023) {
+                    journal.force();
+                }
+            }
+            long elapsed = System.nanoTime() - begin;
+            System.out.printf("append, force every 1024=%-5s %10.0f entries/s  %d segments%n",
+                    forceEveryBatch, APPENDS * 1e9 / elapsed, journal.segmentCount());
+            journal.close();
+        }
+    }
+
+    @Test
+    void requestThreadLatency() throws Exception {
+        AuditProperties properties = new AuditProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(directory.resolve("service").toString());
+        AuditJournalService service = new AuditJournalService(properties);
+        service.start();
+
+        int threads = 16;
+        int perThread = 50_000;
+        long[] latencies = new long[threads * perThread];
+        CountDownLatch done = new CountDownLatch(threads);
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            long begin = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * perThread;
+                pool.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        BookingStatusChangedEvent event = new BookingStatusChangedEvent(
+                                (long) offset + i, 1L, BookingStatus.CREATED, BookingStatus.CANCELLED);
+                        long start = System.nanoTime();
+                        service.onBookingStatusChanged(event);
+                        latencies[offset + i] = System.nanoTime() - start;
+                    }
+                    done.countDown();
+                });
+            }
+            done.await();
+            long elapsed = System.nanoTime() - begin;
+            service.stop();
+
+            Arrays.sort(latencies);
+            System.out.printf("listener (enqueue) with %d threads: %.0f events/s, p50 %.2f us, p99 %.2f us, p99.9 %.2f us%n",
+                    threads, latencies.length * 1e9 / elapsed,
+                    latencies[(int) (latencies.length * 0.50)] / 1e3,
+                    latencies[(int) (latencies.length * 0.99)] / 1e3,
+                    latencies[(int) (latencies.length * 0.999)] / 1e3);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.config.BookingBatchingProperties;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.dto.CreateEmployeeRequest;
+import com.techquarter.workflow.mapper.BookingMapper;
+import com.techquarter.workflow.service.BookingCreateBatcher;
+import com.techquarter.workflow.service.BookingService;
+import com.techquarter.workflow.service.EmployeeService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Throughput and latency of concurrent {@code POST /bookings} writes, direct versus
+ * group commit with different batch sizes and wait windows.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=BookingCreateBatchingBenchmark}. Against the
+ * in-memory H2 database there is no fsync, so the gain here is a lower bound of what a
+ * disk-backed database sees.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class BookingCreateBatchingBenchmark {
+
+    private static final int THREADS = 64;
+    private static final int REQUESTS_PER_THREAD = 200;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private BookingMapper bookingMapper;
+
+    @Test
+    void compareDirectAndBatchedCreates() throws Exception {
+        employeeService.createEmployee(CreateEmployeeRequest.builder()
+                .employeeCode("BENCH_001")
+                .name("Bench Employee")
+                .email("bench@company.com")
+                .costCenter("CC-BENCH")
+                .build());
+
+        // Warm-up
+        run("warm-up", bookingService::createBooking);
+
+        System.out.printf("%-28s %12s %10s %10s %10s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms");
+        print(run("direct", bookingService::createBooking));
+        for (int[] config : new int[][]{{16, 1}, {64, 2}, {64, 5}, {256, 10}}) {
+            BookingBatchingProperties properties = new BookingBatchingProperties();
+            properties.setEnabled(true);
+            properties.setMaxBatchSize(config[0]);
+            properties.setMaxWait(Duration.ofMillis(config[1]));
+            BookingCreateBatcher batcher =
+                    new BookingCreateBatcher(bookingService, employeeService, bookingMapper, properties);
+            batcher.start();
+            try {
+                print(run("batched size=" + config[0] + " wait=" + config[1] + "ms", batcher::createBooking));
+            } finally {
+                batcher.stop();
+            }
+        }
+    }
+
+    private Result run(String mode, Function<CreateBookingRequest, ?> create) throws InterruptedException {
+        long[] latencies = new long[THREADS * REQUESTS_PER_THREAD];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        try (ExecutorService pool = Executors.newFixedThreadPool(THREADS)) {
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * REQUESTS_PER_THREAD;
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                            long begin = System.nanoTime();
+                            create.apply(request());
+                            latencies[offset + i] = System.nanoTime() - begin;
+                        }
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - begin;
+            Arrays.sort(latencies);
+            return new Result(mode, latencies.length * 1e9 / elapsed, latencies);
+        }
+    }
+
+    private static CreateBookingRequest request() {
+        return CreateBookingRequest.builder()
+                .employeeCode("BENCH_001")
+                .resourceType(ResourceType.FLIGHT)
+                .destination("London")
+                .departureDate(LocalDateTime.of(2024, 12, 15, 10, 0))
+                .returnDate(LocalDateTime.of(2024, 12, 20, 18, 0))
+                .travelerCount(1)
+                .costCenterRef("CC-BENCH")
+                .tripPurpose("Benchmark")
+                .build();
+    }
+
+    private static void print(Result result) {
+        long[] sorted = result.latencies;
+        System.out.printf("%-28s %12.0f %10.2f %10.2f %10.2f%n",
+                result.mode,
+                result.throughput,
+                sorted[(int) (sorted.length * 0.50)] / 1e6,
+                sorted[(int) (sorted.length * 0.99)] / 1e6,
+                sorted[sorted.length - 1] / 1e6);
+    }
+
+    private record Result(String mode, double throughput, long[] latencies) {
+    }
+}
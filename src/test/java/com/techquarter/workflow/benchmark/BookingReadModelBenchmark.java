@@ -0,0 +1,169 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.config.BookingReadModelProperties;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.dto.BookingSearchCriteria;
+import com.techquarter.workflow.readmodel.BookingReadModel;
+import com.techquarter.workflow.service.BookingService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * Heap footprint of the booking read model and latency of list, search and count queries served
+ * from it versus the JPA path, over 100k bookings of 2,000 employees.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=BookingReadModelBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class BookingReadModelBenchmark {
+
+    private static final int EMPLOYEES = 2_000;
+    private static final int BOOKINGS = 100_000;
+    private static final int CHUNK = 5_000;
+    private static final String[] DESTINATIONS = {"NYC", "Paris", "London", "Berlin", "Tokyo", "Madrid",
+            "Rome", "Vienna", "Prague", "Lisbon", "Oslo", "Dublin"};
+    private static final LocalDate START = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void footprintAndLatencyVersusJpa() {
+        List<Employee> employees = seed();
+
+        BookingReadModelProperties properties = new BookingReadModelProperties();
+        properties.setEnabled(true);
+        long baseline = usedHeap();
+        BookingReadModel readModel = new BookingReadModel(bookingRepository, properties);
+        long start = System.nanoTime();
+        readModel.rebuild();
+        long loadMillis = (System.nanoTime() - start) / 1_000_000;
+        long retained = usedHeap() - baseline;
+        System.out.printf("loaded %d bookings in %d ms, retained %.1f MB (%d bytes/booking)%n%n",
+                readModel.size(), loadMillis, retained / 1e6, retained / readModel.size());
+
+        System.out.printf("%-30s %12s %12s %12s %12s %9s%n",
+                "query", "jpa p50 us", "jpa p99 us", "model p50 us", "model p99 us", "speedup");
+        compare("by employee (50 rows)", 500,
+                i -> bookingService.getBookingsByEmployee(employees.get(i % EMPLOYEES).getEmployeeCode()),
+                i -> readModel.findByEmployee(employees.get(i % EMPLOYEES).getId()));
+        compare("page of 50", 500,
+                i -> bookingService.getBookingsPage(0, 50),
+                i -> readModel.findPage(0, 50));
+        compare("search destination+status", 200,
+                i -> bookingService.searchBookings(selective(i), 0, 50),
+                i -> readModel.search(selective(i), 0, 50));
+        compare("count destination+status", 200,
+                i -> bookingService.countBookings(selective(i)),
+                i -> readModel.count(selective(i)));
+        compare("count 30 departure days", 200,
+                i -> bookingService.countBookings(month(i)),
+                i -> readModel.count(month(i)));
+        compare("all bookings", 5,
+                i -> bookingService.getAllBookings(),
+                i -> readModel.findAll());
+    }
+
+    private List<Employee> seed() {
+        List<Employee> employees = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(Employee.builder().employeeCode("RMB" + i).name("Read Model " + i)
+                    .email("rmb" + i + "@company.com").costCenter("CC-" + (i % 40)).build());
+        }
+        List<Employee> saved = transactionTemplate.execute(status -> employeeRepository.saveAll(employees));
+        SplittableRandom random = new SplittableRandom(42);
+        for (int offset = 0; offset < BOOKINGS; offset += CHUNK) {
+            List<Booking> chunk = new ArrayList<>(CHUNK);
+            for (int i = 0; i < CHUNK; i++) {
+                Employee employee = saved.get(random.nextInt(EMPLOYEES));
+                LocalDateTime departure = START.plusDays(random.nextInt(365)).atTime(8, 0);
+                chunk.add(Booking.builder()
+                        .employee(employee)
+                        .resourceType(random.nextBoolean() ? ResourceType.FLIGHT : ResourceType.HOTEL)
+                        .destination(DESTINATIONS[random.nextInt(DESTINATIONS.length)])
+                        .departureDate(departure)
+                        .returnDate(departure.plusDays(random.nextInt(1, 8)))
+                        .travelerCount(1 + random.nextInt(3))
+                        .costCenterRef(employee.getCostCenter())
+                        .tripPurpose("Purpose " + random.nextInt(100))
+                        .status(BookingStatus.values()[random.nextInt(BookingStatus.values().length)])
+                        .build());
+            }
+            transactionTemplate.executeWithoutResult(status -> bookingRepository.saveAll(chunk));
+        }
+        return saved;
+    }
+
+    private static BookingSearchCriteria selective(int i) {
+        return BookingSearchCriteria.builder()
+                .destination(DESTINATIONS[i % DESTINATIONS.length])
+                .status(BookingStatus.CONFIRMED)
+                .build();
+    }
+
+    private static BookingSearchCriteria month(int i) {
+        LocalDate from = START.plusDays(i % 300);
+        return BookingSearchCriteria.builder().departureFrom(from).departureTo(from.plusDays(29)).build();
+    }
+
+    private static void compare(String name, int iterations, IntFunction<?> jpa, IntFunction<?> model) {
+        long[] jpaLatencies = measure(iterations, jpa);
+        long[] modelLatencies = measure(iterations, model);
+        System.out.printf("%-30s %12.1f %12.1f %12.1f %12.1f %8.1fx%n", name,
+                p(jpaLatencies, 0.5), p(jpaLatencies, 0.99), p(modelLatencies, 0.5), p(modelLatencies, 0.99),
+                p(jpaLatencies, 0.5) / p(modelLatencies, 0.5));
+    }
+
+    private static long[] measure(int iterations, IntFunction<?> query) {
+        // Warm-up
+        for (int i = 0; i < iterations; i++) {
+            query.apply(i);
+        }
+        long[] latencies = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long begin = System.nanoTime();
+            query.apply(i);
+            latencies[i] = System.nanoTime() - begin;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static double p(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1e3;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,151 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.benchmark.load.LoadMix;
+import com.techquarter.workflow.benchmark.load.LoadOperation;
+import com.techquarter.workflow.benchmark.load.OpenLoopLoadGenerator;
+import com.techquarter.workflow.benchmark.load.StepResult;
+import com.techquarter.workflow.benchmark.load.WorkflowHttpDriver;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Capacity of an embedded instance under an open-loop mix of employee and booking traffic.
+ * <p>
+ * Starting at {@code load.start-rate}, each step holds a fixed arrival rate for
+ * {@code load.step-duration}; the rate doubles until a step misses the latency objective, then
+ * the boundary is bisected. The saturation throughput is the highest rate that still held.
+ * Latencies are corrected for coordinated omission (see {@link OpenLoopLoadGenerator}). The
+ * report is printed and written to {@code load.report-dir} so runs can be compared between
+ * releases. The first step also checks the 100 requests/s the README promises.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=CapacityBenchmark}; override any setting with
+ * {@code -Dload.<name>=...}, for example {@code -Dload.mix=GET_BOOKING=80,CREATE_BOOKING=20}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CapacityBenchmark {
+
+    private static final double START_RATE = Double.parseDouble(System.getProperty("load.start-rate", "100"));
+    private static final double MAX_RATE = Double.parseDouble(System.getProperty("load.max-rate", "12800"));
+    private static final Duration STEP = Duration.parse("PT" + System.getProperty("load.step-duration", "15s"));
+    private static final Duration WARM_UP = Duration.parse("PT" + System.getProperty("load.warm-up", "10s"));
+    private static final Duration SLO = Duration.ofMillis(Long.parseLong(System.getProperty("load.slo-ms", "100")));
+    private static final double PERCENTILE = Double.parseDouble(System.getProperty("load.percentile", "99"));
+    private static final int MAX_IN_FLIGHT = Integer.parseInt(System.getProperty("load.max-in-flight", "1000"));
+    private static final int SEED_EMPLOYEES = Integer.parseInt(System.getProperty("load.seed-employees", "200"));
+    private static final int BISECT_STEPS = 3;
+    private static final LoadMix MIX = System.getProperty("load.mix") != null
+            ? LoadMix.parse(System.getProperty("load.mix")) : LoadMix.DEFAULT;
+    private static final Path REPORT_DIR = Path.of(System.getProperty("load.report-dir", "target/load-report"));
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void findSaturationThroughput() throws Exception {
+        WorkflowHttpDriver driver = new WorkflowHttpDriver("http://localhost:" + port);
+        driver.seed(SEED_EMPLOYEES, 5);
+        OpenLoopLoadGenerator generator = new OpenLoopLoadGenerator(driver::execute, MIX, MAX_IN_FLIGHT, 42);
+        Duration drain = SLO.multipliedBy(10).plusSeconds(5);
+
+        generator.run(START_RATE, WARM_UP, drain);
+
+        List<StepResult> steps = new ArrayList<>();
+        StepResult lastGood = null;
+        StepResult firstBad = null;
+        for (double rate = START_RATE; rate <= MAX_RATE; rate *= 2) {
+            StepResult step = record(steps, generator.run(rate, STEP, drain));
+            if (!step.meets(PERCENTILE, SLO)) {
+                firstBad = step;
+                break;
+            }
+            lastGood = step;
+        }
+        for (int i = 0; i < BISECT_STEPS && lastGood != null && firstBad != null
+                && firstBad.targetRate() / lastGood.targetRate() > 1.1; i++) {
+            double rate = Math.round((lastGood.targetRate() + firstBad.targetRate()) / 2);
+            StepResult step = record(steps, generator.run(rate, STEP, drain));
+            if (step.meets(PERCENTILE, SLO)) {
+                lastGood = step;
+            } else {
+                firstBad = step;
+            }
+        }
+
+        String report = report(steps, lastGood);
+        System.out.print(report);
+        Files.createDirectories(REPORT_DIR);
+        Path file = REPORT_DIR.resolve("capacity-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+        Files.writeString(file, report);
+        System.out.println("Report written to " + file.toAbsolutePath());
+
+        assertTrue(steps.getFirst().meets(PERCENTILE, SLO),
+                "Did not sustain " + START_RATE + " req/s within p" + PERCENTILE + " <= " + SLO.toMillis() + " ms");
+    }
+
+    private static StepResult record(List<StepResult> steps, StepResult step) {
+        steps.add(step);
+        System.out.printf("step %8.0f req/s -> %8.0f req/s, p%s %8.2f ms, errors %d, shed %d%n",
+                step.targetRate(), step.throughput(), PERCENTILE,
+                step.correctedTotal().getValueAtPercentile(PERCENTILE) / 1e3, step.errors(), step.shed());
+        return step;
+    }
+
+    private static String report(List<StepResult> steps, StepResult saturation) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+            out.printf("Capacity report %s%n", LocalDateTime.now());
+            out.printf("java %s, %d cpus, mix %s%n", Runtime.version(),
+                    Runtime.getRuntime().availableProcessors(), MIX);
+            out.printf("objective: p%s <= %d ms, no errors, throughput >= 95%% of target; step %s%n%n",
+                    PERCENTILE, SLO.toMillis(), STEP);
+
+            out.printf("%10s %10s %8s %8s %10s %10s %10s %10s %12s%n", "target/s", "actual/s", "errors",
+                    "shed", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99 ms");
+            for (StepResult step : steps) {
+                Histogram corrected = step.correctedTotal();
+                out.printf("%10.0f %10.0f %8d %8d %10.2f %10.2f %10.2f %10.2f %12.2f %s%n",
+                        step.targetRate(), step.throughput(), step.errors(), step.shed(),
+                        corrected.getValueAtPercentile(50) / 1e3, corrected.getValueAtPercentile(99) / 1e3,
+                        corrected.getValueAtPercentile(99.9) / 1e3, corrected.getMaxValue() / 1e3,
+                        step.serviceTotal().getValueAtPercentile(99) / 1e3,
+                        step.meets(PERCENTILE, SLO) ? "" : "MISSED");
+            }
+
+            if (saturation == null) {
+                out.printf("%nSaturation: below the start rate of %.0f req/s%n", START_RATE);
+                return buffer.toString(StandardCharsets.UTF_8);
+            }
+            out.printf("%nSaturation throughput: %.0f req/s (target %.0f req/s)%n%n",
+                    saturation.throughput(), saturation.targetRate());
+            out.printf("%-28s %10s %10s %10s %10s%n", "operation at saturation", "count", "p50 ms", "p99 ms", "max ms");
+            for (LoadOperation operation : LoadOperation.values()) {
+                Histogram histogram = saturation.corrected().get(operation);
+                out.printf("%-28s %10d %10.2f %10.2f %10.2f%n", operation, histogram.getTotalCount(),
+                        histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(99) / 1e3,
+                        histogram.getMaxValue() / 1e3);
+            }
+            out.printf("%nCorrected latency distribution at saturation (ms):%n");
+            saturation.correctedTotal().outputPercentileDistribution(out, 5, 1000.0);
+        }
+        return buffer.toString(StandardCharsets.UTF_8);
+    }
+}
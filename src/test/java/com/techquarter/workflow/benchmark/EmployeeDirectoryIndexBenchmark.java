@@ -0,0 +1,165 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.repository.EmployeeDirectoryView;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.index.EmployeeDirectoryIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Heap footprint, build time and query latency of the employee autocomplete index over a
+ * synthetic directory of 200k employees, with a linear scan (what {@code LIKE '%x%'} does) as
+ * the baseline.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=EmployeeDirectoryIndexBenchmark}.
+ */
+@Tag("benchmark")
+class EmployeeDirectoryIndexBenchmark {
+
+    private static final int EMPLOYEES = 200_000;
+    private static final int DELTA = 20_000;
+    private static final int QUERIES = 20_000;
+    private static final String[] FIRST = {"Maria", "John", "Ana", "Mihai", "Elena", "David", "Sofia", "Andrei",
+            "Laura", "Peter", "Ioana", "James", "Chen", "Fatima", "Lucas", "Olga", "Noah", "Emma", "Raj", "Yuki"};
+    private static final String[] LAST = {"Popescu", "Smith", "Garcia", "Ionescu", "Muller", "Rossi", "Novak",
+            "Kowalski", "Dubois", "Silva", "Nagy", "Tanaka", "Olsen", "Brown", "Stan", "Dumitru", "Lopez",
+            "Petrov", "Murphy", "Haddad"};
+
+    @Test
+    void footprintAndLatency() {
+        long baseline = usedHeap();
+        EmployeeRepository repository = mock(EmployeeRepository.class);
+        // Generated on each call so only the index keeps the directory alive
+        when(repository.findDirectoryEntries()).thenAnswer(invocation -> directory(EMPLOYEES));
+        EmployeeDirectoryIndex index = new EmployeeDirectoryIndex(repository);
+
+        long start = System.nanoTime();
+        index.rebuild();
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        long indexed = usedHeap() - baseline;
+
+        List<Employee> hires = new ArrayList<>(DELTA);
+        for (EmployeeDirectoryView view : directory(EMPLOYEES + DELTA).subList(EMPLOYEES, EMPLOYEES + DELTA)) {
+            hires.add(Employee.builder().employeeCode(view.employeeCode()).name(view.name())
+                    .email(view.email()).costCenter(view.costCenter()).build());
+        }
+        start = System.nanoTime();
+        index.onEmployeesChanged(new EmployeesChangedEvent(hires, true));
+        long deltaMillis = (System.nanoTime() - start) / 1_000_000;
+        hires = null;
+        long withDelta = usedHeap() - baseline;
+
+        System.out.printf("built %d employees in %d ms, retained %.1f MB (%d bytes/employee)%n",
+                EMPLOYEES, buildMillis, indexed / 1e6, indexed / EMPLOYEES);
+        System.out.printf("added %d to the delta in %d ms, retained %.1f MB (%d bytes/delta employee)%n%n",
+                DELTA, deltaMillis, withDelta / 1e6, (withDelta - indexed) / DELTA);
+
+        List<EmployeeDirectoryView> sample = directory(EMPLOYEES + DELTA);
+        System.out.printf("%-24s %10s %10s %10s %10s%n", "query", "p50 us", "p99 us", "max us", "avg hits");
+        for (int length = 1; length <= 6; length++) {
+            measure("name prefix len " + length, index, sample, length, false);
+        }
+        measure("surname prefix len 3", index, sample, 3, true);
+        measureCodes(index);
+        measureLinearScan(sample);
+    }
+
+    private static void measure(String name, EmployeeDirectoryIndex index, List<EmployeeDirectoryView> sample,
+                                int length, boolean surname) {
+        SplittableRandom random = new SplittableRandom(length);
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String full = sample.get(random.nextInt(sample.size())).name();
+            String source = surname ? full.substring(full.indexOf(' ') + 1) : full;
+            queries[i] = source.substring(0, Math.min(length, source.length()));
+        }
+        run(name, queries, index);
+    }
+
+    private static void measureCodes(EmployeeDirectoryIndex index) {
+        SplittableRandom random = new SplittableRandom(7);
+        String[] queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = "emp%06d".formatted(random.nextInt(EMPLOYEES)).substring(0, 3 + random.nextInt(7));
+        }
+        run("code prefix len 3-9", queries, index);
+    }
+
+    private static void run(String name, String[] queries, EmployeeDirectoryIndex index) {
+        // Warm-up
+        for (String query : queries) {
+            index.search(query, 10);
+        }
+        long[] latencies = new long[queries.length];
+        long hits = 0;
+        for (int i = 0; i < queries.length; i++) {
+            long begin = System.nanoTime();
+            hits += index.search(queries[i], 10).size();
+            latencies[i] = System.nanoTime() - begin;
+        }
+        print(name, latencies, hits);
+    }
+
+    private static void measureLinearScan(List<EmployeeDirectoryView> sample) {
+        SplittableRandom random = new SplittableRandom(11);
+        int iterations = 200;
+        long[] latencies = new long[iterations];
+        long hits = 0;
+        for (int i = 0; i < iterations; i++) {
+            String query = sample.get(random.nextInt(sample.size())).name().substring(0, 3).toLowerCase(Locale.ROOT);
+            long begin = System.nanoTime();
+            int found = 0;
+            for (EmployeeDirectoryView view : sample) {
+                if (view.name().toLowerCase(Locale.ROOT).contains(query)
+                        || view.email().contains(query)
+                        || view.employeeCode().toLowerCase(Locale.ROOT).contains(query)) {
+                    if (++found == 10) {
+                        break;
+                    }
+                }
+            }
+            hits += found;
+            latencies[i] = System.nanoTime() - begin;
+        }
+        print("linear scan (baseline)", latencies, hits);
+    }
+
+    private static void print(String name, long[] latencies, long hits) {
+        Arrays.sort(latencies);
+        System.out.printf("%-24s %10.1f %10.1f %10.1f %10.1f%n", name,
+                latencies[latencies.length / 2] / 1e3,
+                latencies[(int) (latencies.length * 0.99)] / 1e3,
+                latencies[latencies.length - 1] / 1e3,
+                (double) hits / latencies.length);
+    }
+
+    private static List<EmployeeDirectoryView> directory(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<EmployeeDirectoryView> views = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String first = FIRST[random.nextInt(FIRST.length)];
+            String last = LAST[random.nextInt(LAST.length)];
+            views.add(new EmployeeDirectoryView("EMP%06d".formatted(i), first + " " + last,
+                    (first + "." + last + i + "@company.com").toLowerCase(Locale.ROOT), "CC-" + (i % 50)));
+        }
+        return views;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
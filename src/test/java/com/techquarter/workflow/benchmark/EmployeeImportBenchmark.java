@@ -0,0 +1,68 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.dto.EmployeeImportResponse;
+import com.techquarter.workflow.importer.EmployeeImportFormat;
+import com.techquarter.workflow.importer.EmployeeImportService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Time to import a 100k-row HR feed, first as all inserts and then as all updates.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=EmployeeImportBenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+class EmployeeImportBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Test
+    void importHundredThousandRows() throws Exception {
+        byte[] csv = feed("Initial");
+        byte[] ndjson = ndjsonFeed("Renamed");
+
+        print("csv insert", employeeImportService.importEmployees(
+                new ByteArrayInputStream(csv), EmployeeImportFormat.CSV));
+        print("ndjson update", employeeImportService.importEmployees(
+                new ByteArrayInputStream(ndjson), EmployeeImportFormat.NDJSON));
+        print("csv update", employeeImportService.importEmployees(
+                new ByteArrayInputStream(csv), EmployeeImportFormat.CSV));
+    }
+
+    private static byte[] feed(String name) {
+        StringBuilder csv = new StringBuilder(ROWS * 64).append("employeeCode,name,email,costCenter\n");
+        for (int i = 0; i < ROWS; i++) {
+            csv.append("IMPB_").append(i).append(',')
+                    .append(name).append(' ').append(i).append(',')
+                    .append("impb").append(i).append("@company.com,")
+                    .append("CC-").append(i % 200).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ndjsonFeed(String name) {
+        StringBuilder ndjson = new StringBuilder(ROWS * 112);
+        for (int i = 0; i < ROWS; i++) {
+            ndjson.append("{\"employeeCode\":\"IMPB_").append(i)
+                    .append("\",\"name\":\"").append(name).append(' ').append(i)
+                    .append("\",\"email\":\"impb").append(i)
+                    .append("@company.com\",\"costCenter\":\"CC-").append(i % 200).append("\"}\n");
+        }
+        return ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void print(String mode, EmployeeImportResponse response) {
+        System.out.printf("%-14s rows=%d upserted=%d failed=%d %6d ms %10.0f rows/s%n",
+                mode, response.getTotalRows(), response.getUpserted(), response.getFailed(),
+                response.getDurationMillis(), response.getTotalRows() * 1000.0 / Math.max(1, response.getDurationMillis()));
+    }
+}
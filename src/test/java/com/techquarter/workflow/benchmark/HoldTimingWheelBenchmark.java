@@ -0,0 +1,113 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.hold.HoldTimingWheel;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+/**
+ * Cost of keeping 2M pending hold deadlines in the timing wheel: heap per hold, schedule time
+ * and the time of each one-second tick while the holds run out over 15 minutes. A binary heap
+ * of deadline objects (what a {@code DelayQueue} or one scheduled task per hold amounts to) is
+ * the baseline.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=HoldTimingWheelBenchmark}.
+ */
+@Tag("benchmark")
+class HoldTimingWheelBenchmark {
+
+    private static final int HOLDS = 2_000_000;
+    private static final long TICK_MILLIS = 1_000;
+    private static final long HORIZON_MILLIS = 15 * 60 * 1_000;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void timerOverhead() {
+        long[] deadlines = deadlines();
+
+        long baseline = usedHeap();
+        HoldTimingWheel wheel = new HoldTimingWheel(TICK_MILLIS, 1024, START);
+        long begin = System.nanoTime();
+        for (int i = 0; i < HOLDS; i++) {
+            wheel.schedule(i, deadlines[i]);
+        }
+        long scheduleNanos = System.nanoTime() - begin;
+        long retained = usedHeap() - baseline;
+        print("timing wheel", scheduleNanos, retained);
+
+        long[] tickNanos = new long[(int) (HORIZON_MILLIS / TICK_MILLIS) + 1];
+        long expired = 0;
+        for (int t = 0; t < tickNanos.length; t++) {
+            begin = System.nanoTime();
+            expired += wheel.advance(START + (t + 1) * TICK_MILLIS).length;
+            tickNanos[t] = System.nanoTime() - begin;
+        }
+        printTicks("timing wheel", tickNanos, expired);
+        wheel = null;
+
+        baseline = usedHeap();
+        PriorityQueue<Hold> heap = new PriorityQueue<>();
+        begin = System.nanoTime();
+        for (int i = 0; i < HOLDS; i++) {
+            heap.add(new Hold(i, deadlines[i]));
+        }
+        scheduleNanos = System.nanoTime() - begin;
+        retained = usedHeap() - baseline;
+        print("binary heap (baseline)", scheduleNanos, retained);
+
+        expired = 0;
+        for (int t = 0; t < tickNanos.length; t++) {
+            long now = START + (t + 1) * TICK_MILLIS;
+            begin = System.nanoTime();
+            while (!heap.isEmpty() && heap.peek().deadline() < now) {
+                heap.poll();
+                expired++;
+            }
+            tickNanos[t] = System.nanoTime() - begin;
+        }
+        printTicks("binary heap (baseline)", tickNanos, expired);
+    }
+
+    private static long[] deadlines() {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] deadlines = new long[HOLDS];
+        for (int i = 0; i < HOLDS; i++) {
+            deadlines[i] = START + random.nextLong(HORIZON_MILLIS);
+        }
+        return deadlines;
+    }
+
+    private static void print(String name, long scheduleNanos, long retained) {
+        System.out.printf("%-24s scheduled %d holds in %d ms (%.0f ns/hold), retained %.1f MB (%d bytes/hold)%n",
+                name, HOLDS, scheduleNanos / 1_000_000, (double) scheduleNanos / HOLDS, retained / 1e6, retained / HOLDS);
+    }
+
+    private static void printTicks(String name, long[] tickNanos, long expired) {
+        long total = Arrays.stream(tickNanos).sum();
+        Arrays.sort(tickNanos);
+        System.out.printf("%-24s expired %d over %d ticks: p50 %.2f ms, p99 %.2f ms, max %.2f ms per tick, %.0f ns/hold%n%n",
+                name, expired, tickNanos.length,
+                tickNanos[tickNanos.length / 2] / 1e6,
+                tickNanos[(int) (tickNanos.length * 0.99)] / 1e6,
+                tickNanos[tickNanos.length - 1] / 1e6,
+                (double) total / Math.max(1, expired));
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private record Hold(long bookingId, long deadline) implements Comparable<Hold> {
+        @Override
+        public int compareTo(Hold other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.domain.id.IdGenerator;
+import com.techquarter.workflow.domain.id.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Id generation throughput under contention, against a plain {@link AtomicLong}
+ * counter as the lower bound for any shared-state generator.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=IdGeneratorBenchmark}.
+ */
+@Tag("benchmark")
+class IdGeneratorBenchmark {
+
+    private static final long IDS_PER_RUN = 20_000_000;
+
+    @Test
+    void throughputUnderContention() throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        AtomicLong counter = new AtomicLong();
+        IdGenerator baseline = counter::incrementAndGet;
+        IdGenerator timeOrdered = new TimeOrderedIdGenerator(1);
+
+        // Warm-up
+        measure(timeOrdered, cores);
+        measure(baseline, cores);
+
+        System.out.printf("%-10s %18s %18s%n", "threads", "time-ordered M/s", "AtomicLong M/s");
+        for (int threads = 1; threads <= Math.max(cores * 2, 8); threads *= 2) {
+            System.out.printf("%-10d %18.1f %18.1f%n",
+                    threads, measure(timeOrdered, threads), measure(baseline, threads));
+        }
+    }
+
+    private static double measure(IdGenerator generator, int threads) throws InterruptedException {
+        long perThread = IDS_PER_RUN / threads;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicLong sink = new AtomicLong();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                        long acc = 0;
+                        for (long i = 0; i < perThread; i++) {
+                            acc ^= generator.nextId();
+                        }
+                        sink.addAndGet(acc);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            long elapsed = System.nanoTime() - begin;
+            return perThread * threads * 1e3 / elapsed;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.BookingStayView;
+import com.techquarter.workflow.index.TravelCalendarIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Query latency of the "who is travelling" index over one year of synthetic bookings.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=TravelCalendarIndexBenchmark}.
+ */
+@Tag("benchmark")
+class TravelCalendarIndexBenchmark {
+
+    private static final int EMPLOYEES = 200_000;
+    private static final int BOOKINGS = 1_000_000;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void queryLatency() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<BookingStayView> stays = new ArrayList<>(BOOKINGS);
+        for (long id = 1; id <= BOOKINGS; id++) {
+            long employee = random.nextInt(EMPLOYEES);
+            LocalDateTime departure = START.plusDays(random.nextInt(365)).atTime(8, 0);
+            stays.add(new BookingStayView(id, employee, "EMP" + employee, "CC-" + (employee % 50),
+                    random.nextBoolean() ? ResourceType.FLIGHT : ResourceType.HOTEL,
+                    departure, departure.plusDays(random.nextInt(1, 8))));
+        }
+        BookingRepository repository = mock(BookingRepository.class);
+        when(repository.findStaysByStatusNot(BookingStatus.CANCELLED)).thenReturn(stays);
+
+        TravelCalendarIndex index = new TravelCalendarIndex(repository);
+        index.rebuild();
+
+        System.out.printf("%-34s %12s %12s%n", "query", "avg us", "avg hits");
+        measure("single day", index, 0, null, null);
+        measure("single day, cost center", index, 0, "CC-7", null);
+        measure("7 days, cost center, FLIGHT", index, 6, "CC-7", ResourceType.FLIGHT);
+        measure("30 days, cost center", index, 29, "CC-7", null);
+    }
+
+    private static void measure(String name, TravelCalendarIndex index, int span,
+                                String costCenter, ResourceType type) {
+        int iterations = 2_000;
+        long hits = 0;
+        for (int i = 0; i < iterations; i++) {
+            LocalDate from = START.plusDays(i % 300);
+            hits += index.findTravellers(from, from.plusDays(span), costCenter, type).size();
+        }
+        long begin = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            LocalDate from = START.plusDays(i % 300);
+            hits += index.findTravellers(from, from.plusDays(span), costCenter, type).size();
+        }
+        long elapsed = System.nanoTime() - begin;
+        System.out.printf("%-34s %12.1f %12d%n", name, elapsed / 1e3 / iterations, hits / (2L * iterations));
+    }
+}
@@ -0,0 +1,101 @@
+package com.techquarter.workflow.benchmark;
+
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.model.TravelPolicy;
+import com.techquarter.workflow.domain.repository.TravelPolicyFingerprint;
+import com.techquarter.workflow.domain.repository.TravelPolicyRepository;
+import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.policy.TravelPolicyEngine;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cost and allocation of a policy check on the booking create path as the number of
+ * compiled policies grows.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark -Dtest=TravelPolicyBenchmark}.
+ */
+@Tag("benchmark")
+class TravelPolicyBenchmark {
+
+    private static final int CHECKS = 5_000_000;
+
+    private static final String[] COST_CENTERS = IntStream.range(0, 10_000)
+            .mapToObj(i -> "CC-" + i)
+            .toArray(String[]::new);
+
+    @Test
+    void checkCostByPolicyCount() {
+        System.out.printf("%-10s %12s %14s%n", "policies", "ns/check", "bytes/check");
+        for (int policyCount : new int[]{0, 1, 100, 10_000}) {
+            TravelPolicyEngine engine = engineWith(policyCount);
+            List<CreateBookingRequest> requests = requests();
+            run(engine, requests, policyCount); // warm-up
+
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            run(engine, requests, policyCount);
+            long elapsed = System.nanoTime() - start;
+            long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            System.out.printf("%-10d %12.1f %14.3f%n", policyCount,
+                    (double) elapsed / CHECKS, (double) allocated / CHECKS);
+        }
+    }
+
+    private static void run(TravelPolicyEngine engine, List<CreateBookingRequest> requests, int policyCount) {
+        int costCenters = Math.max(policyCount, 1);
+        for (int i = 0; i < CHECKS; i++) {
+            engine.check(requests.get(i & (requests.size() - 1)), COST_CENTERS[i % costCenters]);
+        }
+    }
+
+    private static TravelPolicyEngine engineWith(int policyCount) {
+        String destinations = IntStream.range(0, 50).mapToObj(i -> "City-" + i).collect(Collectors.joining(","));
+        List<TravelPolicy> policies = new ArrayList<>(policyCount);
+        for (int i = 0; i < policyCount; i++) {
+            policies.add(TravelPolicy.builder()
+                    .id((long) i)
+                    .costCenter(COST_CENTERS[i])
+                    .maxTripDays(30)
+                    .minAdvanceDays(0)
+                    .maxAdvanceDays(3650)
+                    .maxTravelers(10)
+                    .allowedDestinations(destinations)
+                    .build());
+        }
+        TravelPolicyRepository repository = mock(TravelPolicyRepository.class);
+        when(repository.fingerprint()).thenReturn(new TravelPolicyFingerprint((long) policyCount, 0L, 0L));
+        when(repository.findAll()).thenReturn(policies);
+        TravelPolicyEngine engine = new TravelPolicyEngine(repository);
+        engine.reloadIfChanged();
+        return engine;
+    }
+
+    private static List<CreateBookingRequest> requests() {
+        List<CreateBookingRequest> requests = new ArrayList<>();
+        LocalDateTime departure = LocalDateTime.now().plusDays(14);
+        for (int i = 0; i < 64; i++) {
+            requests.add(CreateBookingRequest.builder()
+                    .employeeCode("EMP" + i)
+                    .resourceType(ResourceType.FLIGHT)
+                    .destination("city-" + (i % 50))
+                    .departureDate(departure)
+                    .returnDate(departure.plusDays(i % 10))
+                    .travelerCount(1 + i % 3)
+                    .build());
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,58 @@
+package com.techquarter.workflow.benchmark.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Relative weights of the operations in a load run.
+ * <p>
+ * The default mix approximates a booking tool: reads dominate, bookings are created far more
+ * often than employees.
+ */
+public record LoadMix(Map<LoadOperation, Integer> weights) {
+
+    public static final LoadMix DEFAULT = parse("CREATE_EMPLOYEE=2,CREATE_BOOKING=23,GET_BOOKING=50,LIST_BOOKINGS_BY_EMPLOYEE=25");
+
+    public LoadMix {
+        weights = Map.copyOf(weights);
+        if (weights.values().stream().anyMatch(weight -> weight < 0)
+                || weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Weights must be non-negative and not all zero: " + weights);
+        }
+    }
+
+    /** Parses {@code OPERATION=weight,...}, for example from {@code -Dload.mix=...}. */
+    public static LoadMix parse(String spec) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected OPERATION=weight but got: " + entry);
+            }
+            weights.put(LoadOperation.valueOf(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return new LoadMix(weights);
+    }
+
+    public LoadOperation pick(SplittableRandom random) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (LoadOperation operation : LoadOperation.values()) {
+            roll -= weights.getOrDefault(operation, 0);
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
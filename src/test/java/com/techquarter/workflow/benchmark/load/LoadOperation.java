@@ -0,0 +1,9 @@
+package com.techquarter.workflow.benchmark.load;
+
+/** Request types issued by the load generator. */
+public enum LoadOperation {
+    CREATE_EMPLOYEE,
+    CREATE_BOOKING,
+    GET_BOOKING,
+    LIST_BOOKINGS_BY_EMPLOYEE
+}
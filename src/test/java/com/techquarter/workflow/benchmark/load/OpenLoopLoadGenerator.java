@@ -0,0 +1,124 @@
+package com.techquarter.workflow.benchmark.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiPredicate;
+import java.util.random.RandomGenerator;
+
+/**
+ * Sends requests at a fixed arrival rate regardless of how fast the service answers.
+ * <p>
+ * Request {@code i} of a step is due at {@code start + i / rate}. Its latency is measured from
+ * that intended start, not from when it was actually sent, so a stalled service is charged for
+ * every request that should have been sent during the stall (coordinated omission correction).
+ * The plain service time from the actual send is recorded alongside for comparison. Each request
+ * runs on its own virtual thread; when more than {@code maxInFlight} are outstanding, new
+ * arrivals are counted as shed instead of sent, which marks the step as saturated.
+ */
+public class OpenLoopLoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final BiPredicate<LoadOperation, RandomGenerator> target;
+    private final LoadMix mix;
+    private final int maxInFlight;
+    private final long seed;
+
+    /**
+     * @param target executes one operation and returns {@code true} on success; called
+     *               concurrently from many threads
+     */
+    public OpenLoopLoadGenerator(BiPredicate<LoadOperation, RandomGenerator> target, LoadMix mix,
+                                 int maxInFlight, long seed) {
+        this.target = target;
+        this.mix = mix;
+        this.maxInFlight = maxInFlight;
+        this.seed = seed;
+    }
+
+    public StepResult run(double requestsPerSecond, Duration duration, Duration drainTimeout)
+            throws InterruptedException {
+        Map<LoadOperation, Histogram> corrected = new EnumMap<>(LoadOperation.class);
+        Map<LoadOperation, Histogram> service = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            corrected.put(operation, newHistogram());
+            service.put(operation, newHistogram());
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long shed = 0;
+        long sent = 0;
+
+        SplittableRandom dispatchRandom = new SplittableRandom(seed);
+        double intervalNanos = 1e9 / requestsPerSecond;
+        long total = (long) (requestsPerSecond * duration.toNanos() / 1e9);
+        long start = System.nanoTime();
+        long lastCompletion;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intendedStart = start + (long) (i * intervalNanos);
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                LoadOperation operation = mix.pick(dispatchRandom);
+                if (inFlight.incrementAndGet() > maxInFlight) {
+                    inFlight.decrementAndGet();
+                    shed++;
+                    continue;
+                }
+                sent++;
+                SplittableRandom requestRandom = dispatchRandom.split();
+                executor.execute(() -> {
+                    long actualStart = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = target.test(operation, requestRandom);
+                    } catch (RuntimeException ex) {
+                        success = false;
+                    }
+                    long end = System.nanoTime();
+                    corrected.get(operation).recordValue(toMicros(end - intendedStart));
+                    service.get(operation).recordValue(toMicros(end - actualStart));
+                    if (!success) {
+                        errors.incrementAndGet();
+                    }
+                    completed.incrementAndGet();
+                    inFlight.decrementAndGet();
+                });
+            }
+            long deadline = System.nanoTime() + drainTimeout.toNanos();
+            while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            lastCompletion = System.nanoTime();
+            // Requests still outstanding after the drain timeout are abandoned and counted as errors
+            executor.shutdownNow();
+        }
+
+        long unfinished = sent - completed.get();
+        return new StepResult(requestsPerSecond, total, sent, completed.get(), errors.get() + unfinished, shed,
+                Duration.ofNanos(lastCompletion - start), corrected, service);
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(nanos / 1_000, 1), HIGHEST_TRACKABLE_MICROS);
+    }
+}
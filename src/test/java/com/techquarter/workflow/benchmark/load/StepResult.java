@@ -0,0 +1,59 @@
+package com.techquarter.workflow.benchmark.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Outcome of one fixed-rate step of a load run.
+ *
+ * @param targetRate requests per second the step tried to send
+ * @param scheduled  requests due during the step
+ * @param sent       requests actually sent (scheduled minus shed)
+ * @param completed  requests that received any answer
+ * @param errors     non-2xx answers, failures and requests still outstanding at the end
+ * @param shed       arrivals dropped because too many requests were already in flight
+ * @param elapsed    time from the first intended send to the last completion
+ * @param corrected  latency per operation measured from the intended send time, in microseconds
+ * @param service    latency per operation measured from the actual send time, in microseconds
+ */
+public record StepResult(double targetRate, long scheduled, long sent, long completed, long errors, long shed,
+                         Duration elapsed, Map<LoadOperation, Histogram> corrected,
+                         Map<LoadOperation, Histogram> service) {
+
+    /** Successful requests per second over the whole step. */
+    public double throughput() {
+        return (completed - Math.min(errors, completed)) * 1e9 / elapsed.toNanos();
+    }
+
+    public Histogram correctedTotal() {
+        return merge(corrected);
+    }
+
+    public Histogram serviceTotal() {
+        return merge(service);
+    }
+
+    /**
+     * A step holds when nothing failed or was shed, the service kept up with the arrival rate and
+     * the corrected latency at {@code percentile} stayed within {@code slo}.
+     */
+    public boolean meets(double percentile, Duration slo) {
+        return errors == 0 && shed == 0
+                && throughput() >= targetRate * 0.95
+                && correctedTotal().getValueAtPercentile(percentile) <= slo.toNanos() / 1_000;
+    }
+
+    private static Histogram merge(Map<LoadOperation, Histogram> histograms) {
+        Histogram total = null;
+        for (Histogram histogram : histograms.values()) {
+            if (total == null) {
+                total = histogram.copy();
+            } else {
+                total.add(histogram);
+            }
+        }
+        return total;
+    }
+}
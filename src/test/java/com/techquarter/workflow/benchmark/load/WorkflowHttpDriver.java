@@ -0,0 +1,148 @@
+package com.techquarter.workflow.benchmark.load;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.random.RandomGenerator;
+
+/**
+ * Issues one HTTP request per {@link LoadOperation} against a running instance.
+ * <p>
+ * Employee codes and booking ids returned by create calls are kept in fixed-size rings, so reads
+ * target data that actually exists and the working set grows with the run like it would in
+ * production. Call {@link #seed(int, int)} before measuring so reads have something to hit.
+ */
+public class WorkflowHttpDriver {
+
+    private static final int RING_SIZE = 1 << 16;
+    private static final String[] DESTINATIONS = {"London", "Paris", "Madrid", "Berlin", "Lisbon", "Rome"};
+
+    private final String baseUrl;
+    private final String runId;
+    private final HttpClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger employeeSequence = new AtomicInteger();
+    private final AtomicReferenceArray<String> employeeCodes = new AtomicReferenceArray<>(RING_SIZE);
+    private final AtomicInteger employeeCount = new AtomicInteger();
+    private final AtomicLongArray bookingIds = new AtomicLongArray(RING_SIZE);
+    private final AtomicInteger bookingCount = new AtomicInteger();
+
+    public WorkflowHttpDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.runId = Long.toString(System.currentTimeMillis(), 36).toUpperCase();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public void seed(int employees, int bookingsPerEmployee) {
+        for (int e = 0; e < employees; e++) {
+            require(createEmployee());
+            for (int b = 0; b < bookingsPerEmployee; b++) {
+                require(createBooking(ThreadLocalRandom.current()));
+            }
+        }
+    }
+
+    /** Returns {@code true} when the service answered with a 2xx status. */
+    public boolean execute(LoadOperation operation, RandomGenerator random) {
+        return switch (operation) {
+            case CREATE_EMPLOYEE -> createEmployee();
+            case CREATE_BOOKING -> createBooking(random);
+            case GET_BOOKING -> send(get("/bookings/" + randomBookingId(random))) != null;
+            case LIST_BOOKINGS_BY_EMPLOYEE -> send(get("/bookings/employee/" + randomEmployeeCode(random))) != null;
+        };
+    }
+
+    private boolean createEmployee() {
+        int sequence = employeeSequence.incrementAndGet();
+        String code = "LOAD_" + runId + "_" + sequence;
+        JsonNode created = send(post("/employees", """
+                {"employeeCode":"%s","name":"Load %s","email":"%s@load.test","costCenter":"CC-LOAD-%d"}
+                """.formatted(code, code, code.toLowerCase(), sequence % 20)));
+        if (created == null) {
+            return false;
+        }
+        employeeCodes.set(employeeCount.getAndIncrement() & (RING_SIZE - 1), code);
+        return true;
+    }
+
+    private boolean createBooking(RandomGenerator random) {
+        LocalDate departure = LocalDate.now().plusDays(14 + random.nextInt(120));
+        JsonNode created = send(post("/bookings", """
+                {"employeeCode":"%s","resourceType":"%s","destination":"%s",
+                 "departureDate":"%sT08:00:00","returnDate":"%sT18:00:00",
+                 "travelerCount":1,"tripPurpose":"Load test"}
+                """.formatted(randomEmployeeCode(random), random.nextBoolean() ? "FLIGHT" : "HOTEL",
+                DESTINATIONS[random.nextInt(DESTINATIONS.length)], departure,
+                departure.plusDays(1 + random.nextInt(5)))));
+        if (created == null) {
+            return false;
+        }
+        bookingIds.set(bookingCount.getAndIncrement() & (RING_SIZE - 1), created.get("id").asLong());
+        return true;
+    }
+
+    // A slot may be claimed but not yet written by a concurrent create; fall back to the first
+    // seeded entry rather than sending a request for a key that does not exist
+    private String randomEmployeeCode(RandomGenerator random) {
+        String code = employeeCodes.get(random.nextInt(Math.min(employeeCount.get(), RING_SIZE)));
+        return code != null ? code : employeeCodes.get(0);
+    }
+
+    private long randomBookingId(RandomGenerator random) {
+        long id = bookingIds.get(random.nextInt(Math.min(bookingCount.get(), RING_SIZE)));
+        return id != 0 ? id : bookingIds.get(0);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    /** Returns the parsed body of a 2xx response, otherwise {@code null}. */
+    private JsonNode send(HttpRequest request) {
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                return null;
+            }
+            return objectMapper.readTree(response.body());
+        } catch (IOException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static void require(boolean success) {
+        if (!success) {
+            throw new IllegalStateException("Seeding request failed");
+        }
+    }
+}
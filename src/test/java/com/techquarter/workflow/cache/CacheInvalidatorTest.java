@@ -0,0 +1,112 @@
+package com.techquarter.workflow.cache;
+
+import com.techquarter.workflow.config.CacheInvalidationProperties;
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheInvalidatorTest {
+
+    private final InMemoryInvalidationTransport transport = new InMemoryInvalidationTransport();
+    private final CacheManager cachesA = new ConcurrentMapCacheManager(CacheNames.EMPLOYEES, CacheNames.BOOKINGS);
+    private final CacheManager cachesB = new ConcurrentMapCacheManager(CacheNames.EMPLOYEES, CacheNames.BOOKINGS);
+    private final SimpleMeterRegistry metricsB = new SimpleMeterRegistry();
+
+    private CacheInvalidator nodeA;
+    private CacheInvalidator nodeB;
+
+    @BeforeEach
+    void setUp() {
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        properties.setTransport(CacheInvalidationProperties.Transport.IN_MEMORY);
+        // Long intervals so the test drives flush and poll itself
+        properties.setFlushInterval(Duration.ofHours(1));
+        properties.setPollInterval(Duration.ofHours(1));
+        properties.setMaxKeysPerCache(3);
+        nodeA = new CacheInvalidator(cachesA, transport, properties, new SimpleMeterRegistry());
+        nodeB = new CacheInvalidator(cachesB, transport, properties, metricsB);
+        nodeA.start();
+        nodeB.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    void bookingStatusChange_EvictsLocallyAtOnceAndOnOtherNodeAfterPoll() {
+        // Arrange
+        cachesA.getCache(CacheNames.BOOKINGS).put(42L, "stale");
+        cachesB.getCache(CacheNames.BOOKINGS).put(42L, "stale");
+        cachesB.getCache(CacheNames.BOOKINGS).put(43L, "fresh");
+
+        // Act
+        nodeA.onBookingStatusChanged(new BookingStatusChangedEvent(42L, 1L,
+                BookingStatus.CREATED, BookingStatus.CANCELLED));
+
+        // Assert
+        assertNull(cachesA.getCache(CacheNames.BOOKINGS).get(42L));
+        assertNotNull(cachesB.getCache(CacheNames.BOOKINGS).get(42L));
+
+        nodeA.flush();
+        nodeB.poll();
+
+        assertNull(cachesB.getCache(CacheNames.BOOKINGS).get(42L));
+        assertNotNull(cachesB.getCache(CacheNames.BOOKINGS).get(43L));
+        assertEquals(1, metricsB.get("workflow.cache.invalidation.stale-window").timer().count());
+    }
+
+    @Test
+    void employeeUpdate_ClearsBookingsOnOtherNode() {
+        // Arrange
+        cachesB.getCache(CacheNames.EMPLOYEES).put("EMP1", "stale");
+        cachesB.getCache(CacheNames.EMPLOYEES).put("EMP2", "fresh");
+        cachesB.getCache(CacheNames.BOOKINGS).put(7L, "embeds stale name");
+
+        // Act
+        nodeA.onEmployeesChanged(new EmployeesChangedEvent(
+                List.of(Employee.builder().employeeCode("EMP1").build()), false));
+        nodeA.flush();
+        nodeB.poll();
+
+        // Assert
+        assertNull(cachesB.getCache(CacheNames.EMPLOYEES).get("EMP1"));
+        assertNotNull(cachesB.getCache(CacheNames.EMPLOYEES).get("EMP2"));
+        assertNull(cachesB.getCache(CacheNames.BOOKINGS).get(7L));
+    }
+
+    @Test
+    void coalesce_MergesDuplicatesAndCollapsesLargeKeySets() {
+        // Arrange
+        Map<CacheInvalidator.PendingKey, Long> pending = new LinkedHashMap<>();
+        pending.put(new CacheInvalidator.PendingKey(CacheNames.BOOKINGS, "1"), 10L);
+        pending.put(new CacheInvalidator.PendingKey(CacheNames.EMPLOYEES, "A"), 11L);
+        pending.put(new CacheInvalidator.PendingKey(CacheNames.EMPLOYEES, "B"), 12L);
+        pending.put(new CacheInvalidator.PendingKey(CacheNames.EMPLOYEES, "C"), 13L);
+        pending.put(new CacheInvalidator.PendingKey(CacheNames.EMPLOYEES, "D"), 9L);
+
+        // Act
+        List<Invalidation> batch = CacheInvalidator.coalesce(pending, 3);
+
+        // Assert
+        assertEquals(List.of(
+                new Invalidation(CacheNames.EMPLOYEES, null, 9L),
+                new Invalidation(CacheNames.BOOKINGS, "1", 10L)), batch);
+    }
+}
@@ -0,0 +1,71 @@
+package com.techquarter.workflow.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class JdbcInvalidationTransportTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void receive_ReturnsOnlyOtherInstancesInvalidationsOnce() {
+        // Arrange
+        JdbcInvalidationTransport nodeA = newTransport();
+        JdbcInvalidationTransport nodeB = newTransport();
+        nodeA.join(1L);
+        nodeB.join(2L);
+
+        // Act
+        nodeA.publish(1L, List.of(new Invalidation(CacheNames.EMPLOYEES, "EMP1", 100L),
+                new Invalidation(CacheNames.BOOKINGS, null, 101L)));
+        nodeB.publish(2L, List.of(new Invalidation(CacheNames.BOOKINGS, "5", 102L)));
+
+        // Assert
+        assertEquals(List.of(new Invalidation(CacheNames.EMPLOYEES, "EMP1", 100L),
+                new Invalidation(CacheNames.BOOKINGS, null, 101L)), nodeB.receive(2L));
+        assertEquals(List.of(new Invalidation(CacheNames.BOOKINGS, "5", 102L)), nodeA.receive(1L));
+        assertTrue(nodeB.receive(2L).isEmpty());
+    }
+
+    @Test
+    void receive_PicksUpRowsThatCommitBehindTheCursor() {
+        // Arrange: explicit versions well above the identity sequence, so a later version
+        // can become visible before an earlier one
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(version) FROM cache_invalidations", Long.class);
+        long base = (max == null ? 0 : max) + 1_000_000;
+        insert(base, "anchor");
+        JdbcInvalidationTransport reader = newTransport();
+        reader.join(2L);
+        insert(base + 2, "committed-first");
+
+        // Act
+        List<Invalidation> first = reader.receive(2L);
+        insert(base + 1, "committed-late");
+        List<Invalidation> second = reader.receive(2L);
+
+        // Assert
+        assertEquals(List.of("committed-first"), first.stream().map(Invalidation::key).toList());
+        assertEquals(List.of("committed-late"), second.stream().map(Invalidation::key).toList());
+        assertEquals(0, reader.trackedGaps());
+    }
+
+    private JdbcInvalidationTransport newTransport() {
+        return new JdbcInvalidationTransport(jdbcTemplate, 100, Duration.ofSeconds(30), Duration.ofMinutes(10));
+    }
+
+    private void insert(long version, String key) {
+        jdbcTemplate.update("""
+                INSERT INTO cache_invalidations (version, origin_id, cache_name, cache_key, changed_at, published_at)
+                VALUES (?, 1, 'employees', ?, 0, ?)
+                """, version, key, System.currentTimeMillis());
+    }
+}
@@ -4,6 +4,7 @@ import com.techquarter.workflow.domain.model.BookingStatus;
 import com.techquarter.workflow.domain.model.ResourceType;
 import com.techquarter.workflow.dto.BookingResponse;
 import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.service.BookingCreateBatcher;
 import com.techquarter.workflow.service.BookingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,8 @@ class BookingControllerIntegrationTest {
     @Mock
     private BookingService bookingService;
 
+    @Mock
+    private BookingCreateBatcher bookingCreateBatcher;
 
     @InjectMocks
     private BookingController bookingController;
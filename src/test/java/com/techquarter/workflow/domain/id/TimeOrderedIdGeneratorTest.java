@@ -0,0 +1,81 @@
+package com.techquarter.workflow.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+
+    @Test
+    void testNextId_EncodesTimestampAndNode() {
+        // Arrange
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(42, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act
+        long id = generator.nextId();
+
+        // Assert
+        assertEquals(NOW, TimeOrderedIdGenerator.timestampOf(id));
+        assertEquals(42, TimeOrderedIdGenerator.nodeIdOf(id));
+        assertTrue(id >= TimeOrderedIdGenerator.lowerBoundOf(NOW));
+    }
+
+    @Test
+    void testNextId_StrictlyIncreasingWhenSequenceOverflows() {
+        // Arrange: a frozen clock forces more than 4096 ids into the same millisecond
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // Act & Assert
+        long previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous, "ids must be strictly increasing");
+            assertEquals(1, TimeOrderedIdGenerator.nodeIdOf(next));
+            previous = next;
+        }
+    }
+
+    @Test
+    void testNextId_UniqueUnderContention() throws Exception {
+        // Arrange
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7);
+        int threads = 8;
+        int perThread = 50_000;
+
+        // Act
+        long[] all = new long[threads * perThread];
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                int offset = t * perThread;
+                futures[t] = pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        all[offset + i] = generator.nextId();
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Assert
+        assertEquals(all.length, Arrays.stream(all).distinct().count());
+    }
+
+    @Test
+    void testConstructor_RejectsOutOfRangeNode() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1));
+    }
+}
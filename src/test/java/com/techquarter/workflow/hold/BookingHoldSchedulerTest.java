@@ -0,0 +1,149 @@
+package com.techquarter.workflow.hold;
+
+import com.techquarter.workflow.config.BookingHoldProperties;
+import com.techquarter.workflow.domain.event.BookingCreatedEvent;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.repository.BookingHoldView;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.service.BookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingHoldSchedulerTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingService bookingService;
+
+    private BookingHoldProperties properties;
+    private BookingHoldScheduler scheduler;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BookingHoldProperties();
+        properties.setEnabled(true);
+        properties.setTick(Duration.ofMillis(100));
+        properties.setExpireBatchSize(2);
+        properties.setLoadBatchSize(2);
+        now = LocalDateTime.now();
+        scheduler = new BookingHoldScheduler(bookingRepository, bookingService, properties);
+    }
+
+    @Test
+    void reloadsPendingHoldsAndExpiresThemInBatches() {
+        // Arrange
+        when(bookingRepository.findHoldsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(
+                new BookingHoldView(1L, now.minusMinutes(5)), new BookingHoldView(2L, now.plusSeconds(1))));
+        when(bookingRepository.findHoldsAfter(eq(2L), any(Limit.class))).thenReturn(List.of(
+                new BookingHoldView(3L, now.minusSeconds(1))));
+        when(bookingRepository.findHoldsAfter(eq(3L), any(Limit.class))).thenReturn(List.of());
+        when(bookingService.expireHolds(any())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // Act
+        scheduler.afterSingletonsInstantiated();
+
+        // Assert
+        assertEquals(3, scheduler.pendingHolds());
+        assertEquals(2, scheduler.expireDue(millis(now.plusNanos(200_000_000))));
+        verify(bookingService).expireHolds(List.of(1L, 3L));
+        assertEquals(1, scheduler.expireDue(millis(now.plusSeconds(2))));
+        verify(bookingService).expireHolds(List.of(2L));
+        assertEquals(0, scheduler.pendingHolds());
+    }
+
+    @Test
+    void schedulesCommittedHoldsAndRetriesFailedBatches() {
+        // Arrange
+        Booking booking = Booking.builder().id(9L).holdExpiresAt(now.plusSeconds(1)).build();
+        when(bookingService.expireHolds(List.of(9L)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(1);
+
+        // Act
+        scheduler.onBookingCreated(new BookingCreatedEvent(booking));
+        scheduler.onBookingCreated(new BookingCreatedEvent(Booking.builder().id(10L).build()));
+
+        // Assert
+        assertEquals(1, scheduler.pendingHolds());
+        assertEquals(0, scheduler.expireDue(millis(now.plusSeconds(2))));
+        assertEquals(1, scheduler.pendingHolds());
+        assertEquals(1, scheduler.expireDue(millis(now.plusSeconds(3))));
+        assertEquals(0, scheduler.pendingHolds());
+    }
+
+    @Test
+    void failedTransactionKeepsLaterBatchesAndRetriesTheFailedOne() {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            scheduler.onBookingCreated(new BookingCreatedEvent(
+                    Booking.builder().id(id).holdExpiresAt(now.plusSeconds(1)).build()));
+        }
+        when(bookingService.expireHolds(any())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+        when(bookingService.expireHolds(List.of(1L, 2L)))
+                .thenThrow(new CannotCreateTransactionException("database down"))
+                .thenReturn(2);
+
+        // Act & Assert
+        assertEquals(3, scheduler.expireDue(millis(now.plusSeconds(2))));
+        verify(bookingService).expireHolds(List.of(3L, 4L));
+        verify(bookingService).expireHolds(List.of(5L));
+        assertEquals(2, scheduler.pendingHolds());
+        assertEquals(2, scheduler.expireDue(millis(now.plusSeconds(3))));
+        assertEquals(0, scheduler.pendingHolds());
+    }
+
+    @Test
+    void errorReschedulesTheBatchesThatDidNotRun() {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            scheduler.onBookingCreated(new BookingCreatedEvent(
+                    Booking.builder().id(id).holdExpiresAt(now.plusSeconds(1)).build()));
+        }
+        when(bookingService.expireHolds(any())).thenReturn(2);
+        when(bookingService.expireHolds(List.of(3L, 4L))).thenThrow(new StackOverflowError());
+
+        // Act & Assert
+        assertThrows(StackOverflowError.class, () -> scheduler.expireDue(millis(now.plusSeconds(2))));
+        assertEquals(3, scheduler.pendingHolds());
+    }
+
+    @Test
+    void disabledSchedulerDoesNothing() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        scheduler.afterSingletonsInstantiated();
+        scheduler.onBookingCreated(new BookingCreatedEvent(
+                Booking.builder().id(9L).holdExpiresAt(now).build()));
+        scheduler.expireOnSchedule();
+
+        // Assert
+        assertEquals(0, scheduler.pendingHolds());
+        verifyNoInteractions(bookingRepository, bookingService);
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,74 @@
+package com.techquarter.workflow.hold;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HoldTimingWheelTest {
+
+    private static final long START = 1_000_000;
+
+    @Test
+    void expiresEntriesOnlyOnceTheirDeadlineHasPassed() {
+        // Arrange
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 8, START);
+        wheel.schedule(1, START + 250);
+        wheel.schedule(2, START + 300);
+        wheel.schedule(3, START + 299);
+
+        // Act & Assert
+        assertArrayEquals(new long[0], wheel.advance(START + 250));
+        assertArrayEquals(new long[]{1, 3}, wheel.advance(START + 300));
+        assertArrayEquals(new long[]{2}, wheel.advance(START + 400));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void keepsEntriesMoreThanOneRotationAwayInTheirBucket() {
+        // Arrange
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 8, START);
+        wheel.schedule(1, START + 150);
+        wheel.schedule(2, START + 150 + 8 * 100);
+        wheel.schedule(3, START + 150 + 16 * 100);
+
+        // Act & Assert
+        assertArrayEquals(new long[]{1}, wheel.advance(START + 200));
+        assertEquals(2, wheel.size());
+        assertArrayEquals(new long[0], wheel.advance(START + 900));
+        assertArrayEquals(new long[]{2}, wheel.advance(START + 1000));
+        assertArrayEquals(new long[]{3}, wheel.advance(START + 1800));
+    }
+
+    @Test
+    void catchesUpAfterFallingBehindByManyRotations() {
+        // Arrange
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 8, START);
+        for (int i = 0; i < 1000; i++) {
+            wheel.schedule(i, START + i * 10L);
+        }
+
+        // Act
+        long[] expired = wheel.advance(START + 100_000);
+
+        // Assert
+        assertEquals(1000, expired.length);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void pastDeadlinesFireOnTheNextAdvance() {
+        // Arrange
+        HoldTimingWheel wheel = new HoldTimingWheel(100, 8, START);
+        wheel.schedule(7, START - 60_000);
+
+        // Act & Assert
+        assertArrayEquals(new long[0], wheel.advance(START + 50));
+        assertArrayEquals(new long[]{7}, wheel.advance(START + 100));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new HoldTimingWheel(0, 8, START));
+        assertThrows(IllegalArgumentException.class, () -> new HoldTimingWheel(100, 6, START));
+    }
+}
@@ -0,0 +1,146 @@
+package com.techquarter.workflow.importer;
+
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.dto.EmployeeImportResponse;
+import com.techquarter.workflow.dto.EmployeeResponse;
+import com.techquarter.workflow.dto.ImportRowError;
+import com.techquarter.workflow.index.TravelCalendarIndex;
+import com.techquarter.workflow.service.BookingService;
+import com.techquarter.workflow.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EmployeeImportServiceTest {
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private TravelCalendarIndex travelCalendarIndex;
+
+    @Test
+    void importCsv_InsertsValidRowsAndReportsInvalidOnes() throws Exception {
+        // Arrange
+        String csv = """
+                employeeCode,name,email,costCenter
+                IMP_CSV_001,"Doe, Jane",jane@company.com,CC-IMP
+                IMP_CSV_002,John Roe,not-an-email,CC-IMP
+                IMP_CSV_003,"Quoted ""Nick"" Name",nick@company.com,CC-IMP
+                """;
+
+        // Act
+        EmployeeImportResponse response = employeeImportService.importEmployees(stream(csv), EmployeeImportFormat.CSV);
+
+        // Assert
+        assertEquals(3, response.getTotalRows());
+        assertEquals(2, response.getUpserted());
+        assertEquals(1, response.getFailed());
+        ImportRowError error = response.getErrors().getFirst();
+        assertEquals(3, error.getLine());
+        assertEquals("IMP_CSV_002", error.getEmployeeCode());
+        assertTrue(error.getMessage().startsWith("email:"));
+        assertEquals("Doe, Jane", employeeService.getEmployee("IMP_CSV_001").getName());
+        assertEquals("Quoted \"Nick\" Name", employeeService.getEmployee("IMP_CSV_003").getName());
+    }
+
+    @Test
+    void importNdjson_UpdatesExistingEmployeesByCode() throws Exception {
+        // Arrange
+        employeeImportService.importEmployees(stream("""
+                {"employeeCode":"IMP_JSON_001","name":"Old Name","email":"old@company.com","costCenter":"CC-OLD"}
+                """), EmployeeImportFormat.NDJSON);
+        Long originalId = employeeService.getEmployee("IMP_JSON_001").getId();
+
+        // Act
+        EmployeeImportResponse response = employeeImportService.importEmployees(stream("""
+                {"employeeCode":"IMP_JSON_001","name":"New Name","email":"new@company.com","costCenter":"CC-NEW"}
+                {"employeeCode":"IMP_JSON_002",
+                {"employeeCode":"IMP_JSON_003","name":"Other","email":"other@company.com","costCenter":"CC-NEW"}
+                """), EmployeeImportFormat.NDJSON);
+
+        // Assert
+        assertEquals(3, response.getTotalRows());
+        assertEquals(2, response.getUpserted());
+        assertEquals(List.of(2L), response.getErrors().stream().map(ImportRowError::getLine).toList());
+        EmployeeResponse updated = employeeService.getEmployee("IMP_JSON_001");
+        assertEquals(originalId, updated.getId());
+        assertEquals("New Name", updated.getName());
+        assertEquals("CC-NEW", updated.getCostCenter());
+    }
+
+    @Test
+    void importNdjson_CostCenterChangeMovesTravellerInCalendar() throws Exception {
+        // Arrange
+        employeeImportService.importEmployees(stream("""
+                {"employeeCode":"IMP_MOVE_001","name":"Mover","email":"mover@company.com","costCenter":"CC-IMP-FROM"}
+                """), EmployeeImportFormat.NDJSON);
+        LocalDate departure = LocalDate.of(2033, 6, 1);
+        bookingService.createBooking(CreateBookingRequest.builder()
+                .employeeCode("IMP_MOVE_001")
+                .resourceType(ResourceType.HOTEL)
+                .destination("Porto")
+                .departureDate(departure.atTime(8, 0))
+                .returnDate(departure.plusDays(2).atTime(18, 0))
+                .travelerCount(1)
+                .costCenterRef("CC-IMP-FROM")
+                .tripPurpose("Move")
+                .build());
+        assertEquals(List.of("IMP_MOVE_001"), travelCalendarIndex.findTravellers(departure, departure, "CC-IMP-FROM", null));
+
+        // Act
+        employeeImportService.importEmployees(stream("""
+                {"employeeCode":"IMP_MOVE_001","name":"Mover","email":"mover@company.com","costCenter":"CC-IMP-TO"}
+                """), EmployeeImportFormat.NDJSON);
+
+        // Assert
+        assertEquals(List.of(), travelCalendarIndex.findTravellers(departure, departure, "CC-IMP-FROM", null));
+        assertEquals(List.of("IMP_MOVE_001"), travelCalendarIndex.findTravellers(departure, departure, "CC-IMP-TO", null));
+    }
+
+    @Test
+    void importCsv_IsolatesRowsRejectedByTheDatabaseWithoutLosingTheBatch() throws Exception {
+        // Arrange: the second row's name overflows the column and fails the whole JDBC batch
+        String csv = "employeeCode,name,email,costCenter\n"
+                + "IMP_DB_001,First,first@company.com,CC-DB\n"
+                + "IMP_DB_002," + "x".repeat(300) + ",second@company.com,CC-DB\n"
+                + "IMP_DB_003,Third,third@company.com,CC-DB\n";
+
+        // Act
+        EmployeeImportResponse response = employeeImportService.importEmployees(stream(csv), EmployeeImportFormat.CSV);
+
+        // Assert
+        assertEquals(2, response.getUpserted());
+        assertEquals(1, response.getFailed());
+        assertEquals("IMP_DB_002", response.getErrors().getFirst().getEmployeeCode());
+        assertEquals("First", employeeService.getEmployee("IMP_DB_001").getName());
+        assertEquals("Third", employeeService.getEmployee("IMP_DB_003").getName());
+    }
+
+    @Test
+    void fromContentType_ResolvesFormatsAndRejectsOthers() {
+        assertEquals(EmployeeImportFormat.CSV, EmployeeImportFormat.fromContentType("text/csv;charset=UTF-8"));
+        assertEquals(EmployeeImportFormat.NDJSON, EmployeeImportFormat.fromContentType("application/x-ndjson"));
+        assertThrows(IllegalArgumentException.class, () -> EmployeeImportFormat.fromContentType("application/json"));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+package com.techquarter.workflow.index;
+
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.repository.EmployeeDirectoryView;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.dto.EmployeeSuggestionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeDirectoryIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeDirectoryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(employeeRepository.findDirectoryEntries()).thenReturn(List.of(
+                new EmployeeDirectoryView("EMP001", "Maria Lopez", "maria.lopez@company.com", "CC-1"),
+                new EmployeeDirectoryView("EMP002", "Mark Twain", "mtwain@company.com", "CC-1"),
+                new EmployeeDirectoryView("EMP010", "Anna Marsh", "anna@company.com", "CC-2"),
+                new EmployeeDirectoryView("MAR7", "Zoe Smith", "zoe@company.com", "CC-2")));
+
+        index = new EmployeeDirectoryIndex(employeeRepository);
+        index.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void ranksFullNameThenNameWordThenCodeThenEmail() {
+        // Act
+        List<EmployeeSuggestionResponse> results = index.search("mar", 10);
+
+        // Assert
+        assertEquals(List.of("EMP001", "EMP002", "EMP010", "MAR7"), codes(results));
+        assertEquals(DirectoryField.NAME, results.get(0).getMatchedOn());
+        assertEquals(DirectoryField.NAME, results.get(2).getMatchedOn());
+        assertEquals(DirectoryField.EMPLOYEE_CODE, results.get(3).getMatchedOn());
+    }
+
+    @Test
+    void exactCodeMatchComesFirstAndCaseIsIgnored() {
+        // Act
+        List<EmployeeSuggestionResponse> results = index.search("emp010", 10);
+
+        // Assert
+        assertEquals(List.of("EMP010"), codes(results));
+        assertEquals(DirectoryField.EMPLOYEE_CODE, results.getFirst().getMatchedOn());
+        assertEquals(List.of("EMP001", "EMP002", "EMP010"), codes(index.search("  Emp0 ", 10)));
+    }
+
+    @Test
+    void matchesMultiWordNamesAndEmailsAndHonoursLimit() {
+        // Act & Assert
+        assertEquals(List.of("EMP001"), codes(index.search("maria  lo", 10)));
+        assertEquals(List.of("EMP002"), codes(index.search("mtw", 10)));
+        assertEquals(2, index.search("emp", 2).size());
+        assertTrue(index.search("nobody", 10).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.search(" ", 10));
+        assertThrows(IllegalArgumentException.class, () -> index.search("a", EmployeeDirectoryIndex.MAX_LIMIT + 1));
+    }
+
+    @Test
+    void createdAndUpdatedEmployeesAreSearchableBeforeAndAfterCompaction() {
+        // Act
+        index.onEmployeesChanged(new EmployeesChangedEvent(List.of(
+                employee("EMP003", "Marco Polo", "marco@company.com"),
+                employee("EMP002", "Mark Renamed", "mrenamed@company.com")), false));
+
+        // Assert
+        assertEquals(List.of("EMP003", "EMP001", "EMP002", "EMP010", "MAR7"), codes(index.search("mar", 10)));
+        assertTrue(index.search("twain", 10).isEmpty());
+        assertEquals(List.of("EMP002"), codes(index.search("renamed", 10)));
+        assertEquals(5, index.size());
+
+        index.compact();
+        // The slot of the old EMP002 is reclaimed
+        assertEquals(5, index.indexedSize());
+        assertEquals(List.of("EMP003", "EMP001", "EMP002", "EMP010", "MAR7"), codes(index.search("mar", 10)));
+        assertTrue(index.search("mtwain", 10).isEmpty());
+
+        index.onEmployeesChanged(new EmployeesChangedEvent(List.of(Employee.builder().employeeCode("EMP002")
+                .name("Mark Renamed").email("mrenamed@company.com").costCenter("CC-9").build()), false));
+        assertEquals("CC-9", index.search("renamed", 10).getFirst().getCostCenter());
+    }
+
+    @Test
+    void largeDeltaTriggersCompaction() throws InterruptedException {
+        // Arrange
+        List<Employee> hires = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            hires.add(employee("NEW%05d".formatted(i), "Hire " + i, "hire" + i + "@company.com"));
+        }
+
+        // Act
+        index.onEmployeesChanged(new EmployeesChangedEvent(hires, true));
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (index.indexedSize() < 5004 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(5004, index.indexedSize(), "Compaction did not run");
+        assertEquals(5004, index.size());
+        assertEquals(List.of("NEW04999"), codes(index.search("new04999", 5)));
+        assertEquals(List.of("NEW00000", "NEW00001", "NEW00010"), codes(index.search("hire", 3)));
+    }
+
+    private static Employee employee(String code, String name, String email) {
+        return Employee.builder().employeeCode(code).name(name).email(email).costCenter("CC-3").build();
+    }
+
+    private static List<String> codes(List<EmployeeSuggestionResponse> results) {
+        return results.stream().map(EmployeeSuggestionResponse::getEmployeeCode).toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.techquarter.workflow.index;
+
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.BookingStayView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TravelCalendarIndexTest {
+
+    private static final LocalDate DEC_15 = LocalDate.of(2024, 12, 15);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private TravelCalendarIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(bookingRepository.findStaysByStatusNot(BookingStatus.CANCELLED)).thenReturn(List.of(
+                stay(1L, 10L, "EMP_A", "CC-1", ResourceType.FLIGHT, 15, 20),
+                stay(2L, 10L, "EMP_A", "CC-1", ResourceType.FLIGHT, 18, 25),
+                stay(3L, 11L, "EMP_B", "CC-2", ResourceType.HOTEL, 10, 16),
+                stay(4L, 12L, "EMP_C", "CC-1", ResourceType.HOTEL, 28, 30)));
+
+        index = new TravelCalendarIndex(bookingRepository);
+        index.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void testFindTravellers_SingleDay() {
+        assertEquals(List.of("EMP_A", "EMP_B"), index.findTravellers(DEC_15, DEC_15, null, null));
+        assertEquals(List.of(), index.findTravellers(DEC_15.minusDays(10), DEC_15.minusDays(10), null, null));
+    }
+
+    @Test
+    void testFindTravellers_RangeWithFilters() {
+        LocalDate to = DEC_15.plusDays(15);
+
+        assertEquals(List.of("EMP_A", "EMP_B", "EMP_C"), index.findTravellers(DEC_15, to, null, null));
+        assertEquals(List.of("EMP_A", "EMP_C"), index.findTravellers(DEC_15, to, "CC-1", null));
+        assertEquals(List.of("EMP_B", "EMP_C"), index.findTravellers(DEC_15, to, null, ResourceType.HOTEL));
+        assertEquals(List.of("EMP_C"), index.findTravellers(DEC_15, to, "CC-1", ResourceType.HOTEL));
+        assertEquals(List.of(), index.findTravellers(DEC_15, to, "CC-UNKNOWN", null));
+    }
+
+    @Test
+    void testCancel_KeepsDaysCoveredByOtherBookings() {
+        // Act: cancel booking 1 (Dec 15-20); booking 2 (Dec 18-25) still covers Dec 18-20
+        index.onBookingStatusChanged(
+                new BookingStatusChangedEvent(1L, 10L, BookingStatus.CREATED, BookingStatus.CANCELLED));
+
+        // Assert
+        assertEquals(List.of("EMP_B"), index.findTravellers(DEC_15, DEC_15, null, null));
+        assertEquals(List.of("EMP_A"), index.findTravellers(DEC_15.plusDays(3), DEC_15.plusDays(5), null, null));
+    }
+
+    @Test
+    void testImportedCostCenterChange_MovesEmployee() {
+        // Arrange: an import upsert, which carries codes but no ids
+        Employee moved = Employee.builder().employeeCode("EMP_A").name("A").email("a@company.com")
+                .costCenter("CC-2").build();
+        Employee unknown = Employee.builder().employeeCode("EMP_Z").name("Z").email("z@company.com")
+                .costCenter("CC-1").build();
+        LocalDate to = DEC_15.plusDays(15);
+
+        // Act
+        index.onEmployeesChanged(new EmployeesChangedEvent(List.of(moved, unknown), false));
+
+        // Assert
+        assertEquals(List.of("EMP_C"), index.findTravellers(DEC_15, to, "CC-1", null));
+        assertEquals(List.of("EMP_A", "EMP_B"), index.findTravellers(DEC_15, to, "CC-2", null));
+    }
+
+    @Test
+    void testFindTravellers_RejectsInvalidRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> index.findTravellers(DEC_15, DEC_15.minusDays(1), null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.findTravellers(DEC_15, DEC_15.plusYears(2), null, null));
+    }
+
+    private static BookingStayView stay(Long bookingId, Long employeeId, String code, String costCenter,
+                                        ResourceType type, int fromDay, int toDay) {
+        return new BookingStayView(bookingId, employeeId, code, costCenter, type,
+                LocalDateTime.of(2024, 12, fromDay, 9, 0), LocalDateTime.of(2024, 12, toDay, 18, 0));
+    }
+}
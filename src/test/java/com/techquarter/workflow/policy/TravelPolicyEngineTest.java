@@ -0,0 +1,115 @@
+package com.techquarter.workflow.policy;
+
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.model.TravelPolicy;
+import com.techquarter.workflow.domain.repository.TravelPolicyFingerprint;
+import com.techquarter.workflow.domain.repository.TravelPolicyRepository;
+import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.exception.PolicyViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TravelPolicyEngineTest {
+
+    // 2025-03-01
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-01T09:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private TravelPolicyRepository travelPolicyRepository;
+
+    private TravelPolicyEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new TravelPolicyEngine(travelPolicyRepository, CLOCK);
+        when(travelPolicyRepository.fingerprint()).thenReturn(new TravelPolicyFingerprint(2L, 0L, 2L));
+        when(travelPolicyRepository.findAll()).thenReturn(List.of(
+                TravelPolicy.builder()
+                        .id(1L)
+                        .costCenter("CC-SALES")
+                        .maxTripDays(5)
+                        .minAdvanceDays(7)
+                        .maxAdvanceDays(90)
+                        .maxTravelers(2)
+                        .allowedDestinations("London, New York,paris")
+                        .build(),
+                TravelPolicy.builder()
+                        .id(2L)
+                        .costCenter(TravelPolicy.DEFAULT_COST_CENTER)
+                        .maxTravelers(4)
+                        .build()));
+        engine.reloadIfChanged();
+    }
+
+    @Test
+    void check_AcceptsBookingWithinPolicy() {
+        assertDoesNotThrow(() -> engine.check(request("PARIS", 10, 4, 2), "CC-SALES"));
+    }
+
+    @Test
+    void check_ReportsFirstBrokenRule() {
+        assertEquals(PolicyRule.MAX_TRIP_DAYS, violation(request("London", 10, 6, 1), "CC-SALES"));
+        assertEquals(PolicyRule.MIN_ADVANCE_DAYS, violation(request("London", 3, 2, 1), "CC-SALES"));
+        assertEquals(PolicyRule.MAX_ADVANCE_DAYS, violation(request("London", 120, 2, 1), "CC-SALES"));
+        assertEquals(PolicyRule.MAX_TRAVELERS, violation(request("London", 10, 2, 3), "CC-SALES"));
+        assertEquals(PolicyRule.DESTINATION_NOT_ALLOWED, violation(request("Berlin", 10, 2, 1), "CC-SALES"));
+        assertEquals(PolicyRule.DESTINATION_NOT_ALLOWED, violation(request(null, 10, 2, 1), "CC-SALES"));
+    }
+
+    @Test
+    void check_FallsBackToDefaultPolicy() {
+        assertDoesNotThrow(() -> engine.check(request("Berlin", 1, 30, 4), "CC-OTHER"));
+        PolicyViolationException ex = assertThrows(PolicyViolationException.class,
+                () -> engine.check(request("Berlin", 1, 30, 5), "CC-OTHER"));
+        assertEquals(TravelPolicy.DEFAULT_COST_CENTER, ex.getCostCenter());
+        assertEquals("Travel policy of cost center *: 5 travelers exceed the maximum of 4", ex.getMessage());
+    }
+
+    @Test
+    void reloadIfChanged_RecompilesOnlyWhenFingerprintChanges() {
+        // Act
+        engine.reloadIfChanged();
+        when(travelPolicyRepository.fingerprint()).thenReturn(new TravelPolicyFingerprint(1L, 1L, 2L));
+        when(travelPolicyRepository.findAll()).thenReturn(List.of(TravelPolicy.builder()
+                .id(2L)
+                .costCenter(TravelPolicy.DEFAULT_COST_CENTER)
+                .maxTravelers(1)
+                .version(1L)
+                .build()));
+        engine.reloadIfChanged();
+
+        // Assert
+        verify(travelPolicyRepository, times(2)).findAll();
+        assertEquals(1, engine.policyCount());
+        assertEquals(PolicyRule.MAX_TRAVELERS, violation(request("London", 10, 2, 2), "CC-SALES"));
+    }
+
+    private PolicyRule violation(CreateBookingRequest request, String costCenter) {
+        return assertThrows(PolicyViolationException.class, () -> engine.check(request, costCenter)).getRule();
+    }
+
+    private static CreateBookingRequest request(String destination, int daysAhead, int tripDays, int travelers) {
+        LocalDateTime departure = LocalDateTime.of(2025, 3, 1, 8, 0).plusDays(daysAhead);
+        return CreateBookingRequest.builder()
+                .employeeCode("EMP1")
+                .resourceType(ResourceType.FLIGHT)
+                .destination(destination)
+                .departureDate(departure)
+                .returnDate(departure.plusDays(tripDays))
+                .travelerCount(travelers)
+                .build();
+    }
+}
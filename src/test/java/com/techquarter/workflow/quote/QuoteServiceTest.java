@@ -0,0 +1,189 @@
+package com.techquarter.workflow.quote;
+
+import com.techquarter.workflow.config.QuoteProperties;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.dto.ProviderQuote;
+import com.techquarter.workflow.dto.QuoteRequest;
+import com.techquarter.workflow.dto.QuoteResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuoteServiceTest {
+
+    private QuoteProperties properties;
+    private QuoteService quoteService;
+    private QuoteRequest request;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QuoteProperties();
+        properties.setTimeout(Duration.ofMillis(300));
+        properties.setHedgeDelay(Duration.ofMillis(50));
+
+        request = QuoteRequest.builder()
+                .resourceType(ResourceType.FLIGHT)
+                .destination("London")
+                .departureDate(LocalDate.of(2024, 12, 15))
+                .returnDate(LocalDate.of(2024, 12, 20))
+                .travelerCount(2)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (quoteService != null) {
+            quoteService.shutdown();
+        }
+    }
+
+    @Test
+    void testQuote_SlowProviderYieldsPartialResult() {
+        // Arrange
+        quoteService = new QuoteService(List.of(
+                provider("fast", 10, new AtomicInteger()),
+                provider("slow", 5_000, new AtomicInteger())), properties);
+
+        // Act
+        long start = System.nanoTime();
+        QuoteResponse response = quoteService.quote(request);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Assert
+        assertTrue(response.isPartial());
+        assertEquals(List.of("slow"), response.getMissingProviders());
+        assertEquals(1, response.getQuotes().size());
+        ProviderQuote quote = response.getQuotes().get(0);
+        assertEquals("fast", quote.getProvider());
+        assertEquals(new BigDecimal("200"), quote.getTotalPrice());
+        assertTrue(elapsedMillis < 1_000, "must not wait for the slow provider");
+    }
+
+    @Test
+    void testQuote_SecondCallServedFromCache() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        quoteService = new QuoteService(List.of(provider("fast", 10, calls)), properties);
+
+        // Act
+        quoteService.quote(request);
+        QuoteResponse second = quoteService.quote(request);
+
+        // Assert
+        assertEquals(1, calls.get());
+        assertTrue(second.getQuotes().get(0).isCached());
+    }
+
+    @Test
+    void testQuote_HedgedRequestRescuesStalledCall() {
+        // Arrange: the first call stalls past the timeout, the hedge answers quickly
+        AtomicInteger calls = new AtomicInteger();
+        QuoteProvider stallsOnce = new QuoteProvider() {
+            @Override
+            public String name() {
+                return "flaky";
+            }
+
+            @Override
+            public boolean supports(ResourceType resourceType) {
+                return true;
+            }
+
+            @Override
+            public ProviderOffer quote(QuoteRequest ignored) throws InterruptedException {
+                Thread.sleep(calls.getAndIncrement() == 0 ? 5_000 : 10);
+                return new ProviderOffer(BigDecimal.TEN, "EUR", 5);
+            }
+        };
+        quoteService = new QuoteService(List.of(stallsOnce), properties);
+
+        // Act
+        QuoteResponse response = quoteService.quote(request);
+
+        // Assert
+        assertFalse(response.isPartial());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void testQuote_ProviderWithoutOfferOrPriceIsReportedMissing() {
+        // Arrange
+        quoteService = new QuoteService(List.of(
+                answering("empty", null),
+                answering("unpriced", new ProviderOffer(null, "EUR", 10)),
+                provider("fast", 10, new AtomicInteger())), properties);
+
+        // Act
+        QuoteResponse response = quoteService.quote(request);
+
+        // Assert
+        assertTrue(response.isPartial());
+        assertEquals(List.of("empty", "unpriced"), response.getMissingProviders());
+        assertEquals(1, response.getQuotes().size());
+    }
+
+    @Test
+    void testQuote_SkipsProvidersForOtherResourceTypes() {
+        // Arrange
+        QuoteProperties.Stub hotelsOnly = new QuoteProperties.Stub();
+        hotelsOnly.setName("hotels");
+        hotelsOnly.setResourceTypes(EnumSet.of(ResourceType.HOTEL));
+        quoteService = new QuoteService(List.of(new StubQuoteProvider(hotelsOnly)), properties);
+
+        // Act
+        QuoteResponse response = quoteService.quote(request);
+
+        // Assert
+        assertTrue(response.getQuotes().isEmpty());
+        assertFalse(response.isPartial());
+    }
+
+    private static QuoteProvider answering(String name, ProviderOffer offer) {
+        return new QuoteProvider() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public boolean supports(ResourceType resourceType) {
+                return true;
+            }
+
+            @Override
+            public ProviderOffer quote(QuoteRequest ignored) {
+                return offer;
+            }
+        };
+    }
+
+    private static QuoteProvider provider(String name, long latencyMillis, AtomicInteger calls) {
+        return new QuoteProvider() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public boolean supports(ResourceType resourceType) {
+                return true;
+            }
+
+            @Override
+            public ProviderOffer quote(QuoteRequest ignored) throws InterruptedException {
+                calls.incrementAndGet();
+                Thread.sleep(latencyMillis);
+                return new ProviderOffer(BigDecimal.valueOf(100), "EUR", 10);
+            }
+        };
+    }
+}
@@ -0,0 +1,177 @@
+package com.techquarter.workflow.readmodel;
+
+import com.techquarter.workflow.config.BookingReadModelProperties;
+import com.techquarter.workflow.domain.event.BookingCreatedEvent;
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
+import com.techquarter.workflow.domain.event.BookingsArchivedEvent;
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.BookingRowView;
+import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.dto.BookingSearchCriteria;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingReadModelTest {
+
+    private static final LocalDateTime NOV_5 = LocalDateTime.of(2024, 11, 5, 8, 0);
+    private static final LocalDateTime NOV_20 = LocalDateTime.of(2024, 11, 20, 8, 0);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    private BookingReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        BookingReadModelProperties properties = new BookingReadModelProperties();
+        properties.setEnabled(true);
+        properties.setLoadBatchSize(2);
+        when(bookingRepository.findRowsAfter(eq(0L), any(Limit.class))).thenReturn(List.of(
+                row(1, 10, "EMP001", ResourceType.FLIGHT, "NYC", NOV_5, "CC-1", BookingStatus.CREATED),
+                row(2, 20, "EMP002", ResourceType.HOTEL, "Paris", NOV_5, "CC-2", BookingStatus.CONFIRMED)));
+        when(bookingRepository.findRowsAfter(eq(2L), any(Limit.class))).thenReturn(List.of(
+                row(3, 10, "EMP001", ResourceType.HOTEL, "NYC", NOV_20, "CC-1", BookingStatus.CANCELLED)));
+        when(bookingRepository.findRowsAfter(eq(3L), any(Limit.class))).thenReturn(List.of());
+
+        readModel = new BookingReadModel(bookingRepository, properties);
+        readModel.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void loadsAllPagesAndRebuildsBookingResponses() {
+        // Act
+        List<BookingResponse> all = readModel.findAll();
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), ids(all));
+        BookingResponse first = all.getFirst();
+        assertEquals("EMP001", first.getEmployeeCode());
+        assertEquals("Name EMP001", first.getEmployeeName());
+        assertEquals(ResourceType.FLIGHT, first.getResourceType());
+        assertEquals("NYC", first.getDestination());
+        assertEquals(NOV_5, first.getDepartureDate());
+        assertEquals(NOV_5.plusDays(3), first.getReturnDate());
+        assertEquals(1, first.getTravelerCount());
+        assertEquals("CC-1", first.getCostCenterRef());
+        assertNull(first.getTripPurpose());
+        assertEquals(BookingStatus.CREATED, first.getStatus());
+        assertEquals(List.of(1L, 3L), ids(readModel.findByEmployee(10L)));
+        assertEquals(List.of(2L, 3L), ids(readModel.findPage(1L, 5)));
+        assertEquals(List.of(2L), ids(readModel.findPage(1L, 1)));
+    }
+
+    @Test
+    void searchAndCountCombineFilters() {
+        // Act & Assert
+        assertEquals(List.of(1L, 3L), ids(readModel.search(criteria().destination("NYC").build(), 0, 10)));
+        assertEquals(List.of(3L), ids(readModel.search(criteria().destination("NYC").build(), 1, 10)));
+        assertEquals(1, readModel.count(criteria().destination("NYC").resourceType(ResourceType.HOTEL).build()));
+        assertEquals(2, readModel.count(criteria().costCenter("CC-1").build()));
+        assertEquals(1, readModel.count(criteria().costCenter("CC-1").status(BookingStatus.CREATED).build()));
+        assertEquals(2, readModel.count(criteria().departureFrom(LocalDate.of(2024, 11, 5))
+                .departureTo(LocalDate.of(2024, 11, 5)).build()));
+        assertEquals(1, readModel.count(criteria().departureFrom(LocalDate.of(2024, 11, 6)).build()));
+        assertEquals(0, readModel.count(criteria().destination("Tokyo").build()));
+        assertTrue(readModel.search(criteria().costCenter("CC-9").build(), 0, 10).isEmpty());
+        assertEquals(3, readModel.count(new BookingSearchCriteria()));
+    }
+
+    @Test
+    void appliesCommittedWrites() {
+        // Arrange
+        Employee employee = Employee.builder().id(30L).employeeCode("EMP003").name("New Hire").build();
+        Booking created = Booking.builder().id(4L).employee(employee).resourceType(ResourceType.FLIGHT)
+                .destination("Tokyo").departureDate(NOV_20).returnDate(NOV_20.plusDays(1))
+                .travelerCount(2).costCenterRef("CC-3").tripPurpose("Offsite").status(BookingStatus.CREATED)
+                .holdExpiresAt(NOV_5)
+                .build();
+
+        // Act
+        readModel.onBookingCreated(new BookingCreatedEvent(created));
+        readModel.onBookingStatusChanged(new BookingStatusChangedEvent(1L, 10L,
+                BookingStatus.CREATED, BookingStatus.CANCELLED));
+        readModel.onBookingsArchived(new BookingsArchivedEvent(List.of(2L, 3L)));
+        readModel.onEmployeesChanged(new EmployeesChangedEvent(List.of(
+                Employee.builder().employeeCode("EMP001").name("Renamed").build()), false));
+
+        // Assert
+        assertEquals(2, readModel.size());
+        List<BookingResponse> all = readModel.findAll();
+        assertEquals(List.of(1L, 4L), ids(all));
+        assertEquals(BookingStatus.CANCELLED, all.get(0).getStatus());
+        assertEquals("Renamed", all.get(0).getEmployeeName());
+        assertEquals("Offsite", all.get(1).getTripPurpose());
+        assertEquals(List.of(1L), ids(readModel.findByEmployee(10L)));
+        assertTrue(readModel.findByEmployee(20L).isEmpty());
+        assertEquals(List.of(4L), ids(readModel.search(criteria().destination("Tokyo").build(), 0, 10)));
+        assertEquals(NOV_5, all.get(1).getHoldExpiresAt());
+        readModel.onBookingStatusChanged(new BookingStatusChangedEvent(4L, 30L,
+                BookingStatus.CREATED, BookingStatus.CONFIRMED));
+        assertNull(readModel.findAll().get(1).getHoldExpiresAt());
+    }
+
+    @Test
+    void insertsOutOfOrderIdsInPlaceAndIgnoresDuplicates() {
+        // Arrange
+        Employee employee = Employee.builder().id(10L).employeeCode("EMP001").name("Name EMP001").build();
+        Booking late = Booking.builder().id(0L).employee(employee).resourceType(ResourceType.FLIGHT)
+                .destination("Rome").departureDate(NOV_5).returnDate(NOV_20).travelerCount(1)
+                .costCenterRef("CC-1").status(BookingStatus.CREATED).build();
+
+        // Act
+        readModel.onBookingCreated(new BookingCreatedEvent(late));
+        readModel.onBookingCreated(new BookingCreatedEvent(late));
+
+        // Assert
+        assertEquals(List.of(0L, 1L, 2L, 3L), ids(readModel.findAll()));
+        assertEquals(List.of(0L, 1L, 3L), ids(readModel.findByEmployee(10L)));
+    }
+
+    @Test
+    void disabledModelIgnoresEvents() {
+        // Arrange
+        BookingReadModel disabled = new BookingReadModel(bookingRepository, new BookingReadModelProperties());
+
+        // Act
+        disabled.afterSingletonsInstantiated();
+        disabled.onBookingsArchived(new BookingsArchivedEvent(List.of(1L)));
+
+        // Assert
+        assertFalse(disabled.isEnabled());
+        assertEquals(0, disabled.size());
+        verify(bookingRepository, times(3)).findRowsAfter(any(), any(Limit.class));
+    }
+
+    private static BookingSearchCriteria.BookingSearchCriteriaBuilder criteria() {
+        return BookingSearchCriteria.builder();
+    }
+
+    private static BookingRowView row(long id, long employeeId, String code, ResourceType type, String destination,
+                                      LocalDateTime departure, String costCenter, BookingStatus status) {
+        return new BookingRowView(id, employeeId, code, "Name " + code, type, destination, departure,
+                departure.plusDays(3), 1, costCenter, null, status, null);
+    }
+
+    private static List<Long> ids(List<BookingResponse> responses) {
+        return responses.stream().map(BookingResponse::getId).toList();
+    }
+}
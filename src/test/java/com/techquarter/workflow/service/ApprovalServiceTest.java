@@ -0,0 +1,137 @@
+package com.techquarter.workflow.service;
+
+import com.techquarter.workflow.approval.ApprovalWorkflowEngine;
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import com.techquarter.workflow.domain.model.ApprovalTask;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.repository.ApprovalTaskRepository;
+import com.techquarter.workflow.dto.ApprovalDecisionRequest;
+import com.techquarter.workflow.exception.ApprovalForbiddenException;
+import com.techquarter.workflow.exception.BookingConflictException;
+import com.techquarter.workflow.mapper.ApprovalMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalServiceTest {
+
+    @Mock
+    private ApprovalTaskRepository approvalTaskRepository;
+
+    @Mock
+    private ApprovalWorkflowEngine approvalWorkflowEngine;
+
+    @Mock
+    private BookingService bookingService;
+
+    @Spy
+    private ApprovalMapper approvalMapper = new ApprovalMapper();
+
+    @InjectMocks
+    private ApprovalService approvalService;
+
+    private ApprovalTask task;
+    private Booking booking;
+
+    @BeforeEach
+    void setUp() {
+        task = ApprovalTask.builder()
+                .id(5L)
+                .bookingId(1L)
+                .stepOrder(1)
+                .approverCode("MGR")
+                .costCenter("CC-SALES")
+                .status(ApprovalStatus.PENDING)
+                .version(0L)
+                .build();
+        booking = Booking.builder().id(1L).status(BookingStatus.PENDING_APPROVAL).build();
+    }
+
+    @Test
+    void testApprove_OpensNextStep() {
+        // Arrange
+        when(approvalTaskRepository.findById(5L)).thenReturn(Optional.of(task));
+        when(bookingService.lockBooking(1L)).thenReturn(booking);
+        when(approvalWorkflowEngine.openNext(task)).thenReturn(ApprovalTask.builder().stepOrder(2).build());
+
+        // Act
+        approvalService.approve(5L, decision("MGR", 0L));
+
+        // Assert
+        assertEquals(ApprovalStatus.APPROVED, task.getStatus());
+        assertNotNull(task.getDecidedAt());
+        verify(approvalTaskRepository).saveAndFlush(task);
+        verify(bookingService, never()).changeStatus(any(), any());
+    }
+
+    @Test
+    void testApprove_LastStepConfirmsBooking() {
+        // Arrange
+        when(approvalTaskRepository.findById(5L)).thenReturn(Optional.of(task));
+        when(bookingService.lockBooking(1L)).thenReturn(booking);
+
+        // Act
+        approvalService.approve(5L, decision("MGR", null));
+
+        // Assert
+        verify(bookingService).changeStatus(booking, BookingStatus.CONFIRMED);
+    }
+
+    @Test
+    void testReject_CancelsBooking() {
+        // Arrange
+        when(approvalTaskRepository.findById(5L)).thenReturn(Optional.of(task));
+        when(bookingService.lockBooking(1L)).thenReturn(booking);
+
+        // Act
+        approvalService.reject(5L, decision("MGR", 0L));
+
+        // Assert
+        assertEquals(ApprovalStatus.REJECTED, task.getStatus());
+        verify(bookingService).changeStatus(booking, BookingStatus.CANCELLED);
+        verify(approvalWorkflowEngine, never()).openNext(any());
+    }
+
+    @Test
+    void testDecide_RejectsWrongApproverStaleVersionAndDecidedTask() {
+        // Arrange
+        when(approvalTaskRepository.findById(5L)).thenReturn(Optional.of(task));
+
+        // Act & Assert
+        assertThrows(ApprovalForbiddenException.class, () -> approvalService.approve(5L, decision("FIN", 0L)));
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> approvalService.approve(5L, decision("MGR", 3L)));
+        task.setStatus(ApprovalStatus.WITHDRAWN);
+        assertThrows(BookingConflictException.class, () -> approvalService.reject(5L, decision("MGR", null)));
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    void testDecide_BookingNoLongerAwaitingApproval_ThrowsException() {
+        // Arrange
+        booking.setStatus(BookingStatus.CANCELLED);
+        when(approvalTaskRepository.findById(5L)).thenReturn(Optional.of(task));
+        when(bookingService.lockBooking(1L)).thenReturn(booking);
+
+        // Act & Assert
+        assertThrows(BookingConflictException.class, () -> approvalService.approve(5L, decision("MGR", 0L)));
+        assertEquals(ApprovalStatus.PENDING, task.getStatus());
+    }
+
+    private static ApprovalDecisionRequest decision(String approverCode, Long version) {
+        return ApprovalDecisionRequest.builder().approverCode(approverCode).version(version).build();
+    }
+}
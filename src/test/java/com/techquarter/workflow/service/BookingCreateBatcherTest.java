@@ -0,0 +1,194 @@
+package com.techquarter.workflow.service;
+
+import com.techquarter.workflow.config.BookingBatchingProperties;
+import com.techquarter.workflow.domain.model.*;
+import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.exception.ResourceNotFoundException;
+import com.techquarter.workflow.mapper.BookingMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingCreateBatcherTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private BookingMapper bookingMapper;
+
+    private BookingCreateBatcher batcher;
+    private Employee testEmployee;
+    private Booking testBooking;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new BookingCreateBatcher(bookingService, employeeService, bookingMapper,
+                new BookingBatchingProperties());
+
+        testEmployee = Employee.builder()
+                .id(1L)
+                .employeeCode("EMP9876")
+                .name("John Doe")
+                .email("john@example.com")
+                .costCenter("CC-456")
+                .build();
+
+        testBooking = Booking.builder()
+                .id(1L)
+                .employee(testEmployee)
+                .resourceType(ResourceType.FLIGHT)
+                .destination("NYC")
+                .status(BookingStatus.CREATED)
+                .build();
+    }
+
+    @Test
+    void testFlush_CompletesEachCallerWithItsOwnOutcome() {
+        // Arrange
+        BookingCreateBatcher.PendingCreate known = new BookingCreateBatcher.PendingCreate(request("EMP9876"));
+        BookingCreateBatcher.PendingCreate unknown = new BookingCreateBatcher.PendingCreate(request("NONEXISTENT"));
+        BookingResponse response = BookingResponse.builder().id(1L).employeeCode("EMP9876").build();
+
+        when(employeeService.getEmployeeEntities(anyCollection())).thenReturn(Map.of("EMP9876", testEmployee));
+        when(bookingService.newBooking(any(CreateBookingRequest.class), eq(testEmployee))).thenReturn(testBooking);
+        when(bookingService.saveBookings(List.of(testBooking))).thenReturn(List.of(testBooking));
+        when(bookingMapper.toResponse(testBooking)).thenReturn(response);
+
+        // Act
+        batcher.flush(List.of(known, unknown));
+
+        // Assert
+        assertSame(response, known.result().join());
+        CompletionException ex = assertThrows(CompletionException.class, () -> unknown.result().join());
+        assertInstanceOf(ResourceNotFoundException.class, ex.getCause());
+        verify(bookingService, times(1)).saveBookings(anyList());
+    }
+
+    @Test
+    void testFlush_BatchFailure_RetriesIndividually() {
+        // Arrange
+        CreateBookingRequest request = request("EMP9876");
+        BookingCreateBatcher.PendingCreate pending = new BookingCreateBatcher.PendingCreate(request);
+        BookingResponse response = BookingResponse.builder().id(1L).employeeCode("EMP9876").build();
+
+        when(employeeService.getEmployeeEntities(anyCollection())).thenReturn(Map.of("EMP9876", testEmployee));
+        when(bookingService.newBooking(request, testEmployee)).thenReturn(testBooking);
+        when(bookingService.saveBookings(anyList())).thenThrow(new IllegalStateException("deadlock"));
+        when(bookingService.createBooking(request)).thenReturn(response);
+
+        // Act
+        batcher.flush(List.of(pending));
+
+        // Assert
+        assertSame(response, pending.result().join());
+        verify(bookingService, times(1)).createBooking(request);
+    }
+
+    @Test
+    void testCreateBooking_NotStarted_WritesDirectly() {
+        // Arrange
+        CreateBookingRequest request = request("EMP9876");
+        BookingResponse response = BookingResponse.builder().id(1L).build();
+        when(bookingService.createBooking(request)).thenReturn(response);
+
+        // Act
+        BookingResponse result = batcher.createBooking(request);
+
+        // Assert
+        assertSame(response, result);
+        verify(bookingService, times(1)).validate(request);
+    }
+
+    @Test
+    void interruptedWorkerFlushesTheWaitingBatchAndExits() throws Exception {
+        // Arrange
+        BookingBatchingProperties properties = new BookingBatchingProperties();
+        properties.setEnabled(true);
+        properties.setMaxWait(Duration.ofSeconds(10));
+        BookingCreateBatcher started = new BookingCreateBatcher(bookingService, employeeService, bookingMapper, properties);
+        CreateBookingRequest request = request("EMP9876");
+        BookingResponse response = BookingResponse.builder().id(1L).employeeCode("EMP9876").build();
+
+        when(employeeService.getEmployeeEntities(anyCollection())).thenReturn(Map.of("EMP9876", testEmployee));
+        when(bookingService.newBooking(request, testEmployee)).thenReturn(testBooking);
+        when(bookingService.saveBookings(List.of(testBooking))).thenReturn(List.of(testBooking));
+        when(bookingMapper.toResponse(testBooking)).thenReturn(response);
+        started.start();
+
+        // Act
+        CompletableFuture<BookingResponse> caller = CompletableFuture.supplyAsync(() -> started.createBooking(request));
+        Thread.sleep(200);
+        started.worker.interrupt();
+
+        // Assert
+        assertSame(response, caller.get(2, TimeUnit.SECONDS));
+        started.worker.join(2_000);
+        assertFalse(started.worker.isAlive());
+        verify(bookingService, never()).createBooking(any());
+    }
+
+    @Test
+    void callerWaitIsBoundedByCallerTimeout() throws Exception {
+        // Arrange
+        BookingBatchingProperties properties = new BookingBatchingProperties();
+        properties.setEnabled(true);
+        properties.setCallerTimeout(Duration.ofMillis(200));
+        BookingCreateBatcher started = new BookingCreateBatcher(bookingService, employeeService, bookingMapper, properties);
+        CreateBookingRequest request = request("EMP9876");
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(employeeService.getEmployeeEntities(anyCollection())).thenReturn(Map.of("EMP9876", testEmployee));
+        when(bookingService.newBooking(request, testEmployee)).thenReturn(testBooking);
+        when(bookingService.saveBookings(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return List.of(testBooking);
+        });
+        started.start();
+
+        try {
+            // Act
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> started.createBooking(request));
+
+            // Assert
+            assertTrue(ex.getMessage().startsWith("Timed out"));
+        } finally {
+            release.countDown();
+            started.stop();
+        }
+    }
+
+    private CreateBookingRequest request(String employeeCode) {
+        return CreateBookingRequest.builder()
+                .employeeCode(employeeCode)
+                .resourceType(ResourceType.FLIGHT)
+                .destination("NYC")
+                .departureDate(LocalDateTime.of(2024, 11, 5, 8, 0))
+                .returnDate(LocalDateTime.of(2024, 11, 8, 18, 0))
+                .travelerCount(1)
+                .costCenterRef("CC-456")
+                .tripPurpose("Client meeting - Acme Corp")
+                .build();
+    }
+}
@@ -1,22 +1,39 @@
 package com.techquarter.workflow.service;
 
+import com.techquarter.workflow.approval.ApprovalWorkflowEngine;
+import com.techquarter.workflow.archive.ArchivedBooking;
+import com.techquarter.workflow.archive.BookingArchive;
+import com.techquarter.workflow.config.BookingHoldProperties;
+import com.techquarter.workflow.domain.event.BookingStatusChangedEvent;
 import com.techquarter.workflow.domain.model.*;
 import com.techquarter.workflow.domain.repository.BookingRepository;
 import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.dto.BookingSearchCriteria;
 import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.exception.BookingConflictException;
+import com.techquarter.workflow.exception.PolicyViolationException;
 import com.techquarter.workflow.exception.ResourceNotFoundException;
 import com.techquarter.workflow.mapper.BookingMapper;
+import com.techquarter.workflow.policy.PolicyRule;
+import com.techquarter.workflow.policy.TravelPolicyEngine;
+import com.techquarter.workflow.readmodel.BookingReadModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +48,24 @@ class BookingServiceTest {
     @Mock
     private BookingMapper bookingMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TravelPolicyEngine travelPolicyEngine;
+
+    @Mock
+    private BookingArchive bookingArchive;
+
+    @Mock
+    private BookingReadModel bookingReadModel;
+
+    @Mock
+    private ApprovalWorkflowEngine approvalWorkflowEngine;
+
+    @Spy
+    private BookingHoldProperties holdProperties = new BookingHoldProperties();
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -108,6 +143,33 @@ class BookingServiceTest {
         verify(bookingRepository, times(1)).save(any(Booking.class));
     }
 
+    @Test
+    void testCreateBooking_PolicyViolation_IsNotSaved() {
+        // Arrange
+        when(employeeService.getEmployeeEntity("EMP9876")).thenReturn(testEmployee);
+        doThrow(new PolicyViolationException("CC-456", PolicyRule.MAX_TRAVELERS, "Too many travelers"))
+                .when(travelPolicyEngine).check(validRequest, "CC-456");
+
+        // Act & Assert
+        assertThrows(PolicyViolationException.class, () -> bookingService.createBooking(validRequest));
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
+    @Test
+    void testCreateBooking_WithoutCostCenterRef_ChargesEmployeeCostCenter() {
+        // Arrange
+        validRequest.setCostCenterRef(null);
+        when(employeeService.getEmployeeEntity("EMP9876")).thenReturn(testEmployee);
+        when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
+
+        // Act
+        bookingService.createBooking(validRequest);
+
+        // Assert
+        verify(travelPolicyEngine).check(validRequest, "CC-456");
+        verify(bookingRepository).save(argThat(booking -> "CC-456".equals(booking.getCostCenterRef())));
+    }
+
     @Test
     void testCreateBooking_InvalidDates_ThrowsException() {
         // Arrange
@@ -153,4 +215,170 @@ class BookingServiceTest {
                 bookingService.createBooking(requestWithInvalidEmployee),
                 "Should throw exception when employee does not exist");
     }
+
+    @Test
+    void testCancelBooking_PublishesStatusChange() {
+        // Arrange
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act
+        bookingService.cancelBooking(1L);
+
+        // Assert
+        assertEquals(BookingStatus.CANCELLED, testBooking.getStatus());
+        verify(eventPublisher, times(1)).publishEvent(
+                new BookingStatusChangedEvent(1L, 1L, BookingStatus.CREATED, BookingStatus.CANCELLED));
+    }
+
+    @Test
+    void testCreateBooking_WithHoldsEnabled_SetsHoldDeadline() {
+        // Arrange
+        holdProperties.setEnabled(true);
+        when(employeeService.getEmployeeEntity("EMP9876")).thenReturn(testEmployee);
+        when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
+        LocalDateTime before = LocalDateTime.now();
+
+        // Act
+        bookingService.createBooking(validRequest);
+
+        // Assert
+        verify(bookingRepository).save(argThat(booking -> booking.getHoldExpiresAt() != null
+                && !booking.getHoldExpiresAt().isBefore(before.plus(holdProperties.getDuration()))));
+    }
+
+    @Test
+    void testConfirmBooking_ClearsHoldAndPublishesStatusChange() {
+        // Arrange
+        testBooking.setHoldExpiresAt(LocalDateTime.now().plusMinutes(5));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act
+        bookingService.confirmBooking(1L);
+
+        // Assert
+        assertEquals(BookingStatus.CONFIRMED, testBooking.getStatus());
+        assertNull(testBooking.getHoldExpiresAt());
+        verify(eventPublisher).publishEvent(
+                new BookingStatusChangedEvent(1L, 1L, BookingStatus.CREATED, BookingStatus.CONFIRMED));
+    }
+
+    @Test
+    void testConfirmBooking_AfterHoldExpired_ThrowsException() {
+        // Arrange
+        testBooking.setHoldExpiresAt(LocalDateTime.now().minusSeconds(1));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act & Assert
+        assertThrows(BookingConflictException.class, () -> bookingService.confirmBooking(1L));
+        assertEquals(BookingStatus.CREATED, testBooking.getStatus());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testExpireHolds_CancelsOnlyLockedExpiredBookings() {
+        // Arrange
+        when(bookingRepository.lockExpiredHolds(eq(List.of(1L, 2L)), any(LocalDateTime.class)))
+                .thenReturn(List.of(testBooking));
+
+        // Act
+        int expired = bookingService.expireHolds(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(1, expired);
+        verify(bookingRepository).cancelExpiredHolds(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(
+                new BookingStatusChangedEvent(1L, 1L, BookingStatus.CREATED, BookingStatus.CANCELLED));
+    }
+
+    @Test
+    void testCreateBooking_WithApprovalRoute_AwaitsApprovalWithoutHold() {
+        // Arrange
+        holdProperties.setEnabled(true);
+        when(employeeService.getEmployeeEntity("EMP9876")).thenReturn(testEmployee);
+        when(approvalWorkflowEngine.requiresApproval(testEmployee)).thenReturn(true);
+        when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
+
+        // Act
+        bookingService.createBooking(validRequest);
+
+        // Assert
+        verify(bookingRepository).save(argThat(booking -> booking.getStatus() == BookingStatus.PENDING_APPROVAL
+                && booking.getHoldExpiresAt() == null));
+        verify(approvalWorkflowEngine).open(List.of(testBooking));
+    }
+
+    @Test
+    void testConfirmBooking_AwaitingApproval_ThrowsException() {
+        // Arrange
+        testBooking.setStatus(BookingStatus.PENDING_APPROVAL);
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act & Assert
+        assertThrows(BookingConflictException.class, () -> bookingService.confirmBooking(1L));
+        assertEquals(BookingStatus.PENDING_APPROVAL, testBooking.getStatus());
+    }
+
+    @Test
+    void testCancelBooking_AwaitingApproval_WithdrawsPendingStep() {
+        // Arrange
+        testBooking.setStatus(BookingStatus.PENDING_APPROVAL);
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testBooking));
+
+        // Act
+        bookingService.cancelBooking(1L);
+
+        // Assert
+        assertEquals(BookingStatus.CANCELLED, testBooking.getStatus());
+        verify(approvalWorkflowEngine).withdraw(1L);
+    }
+
+    @Test
+    void testGetBooking_FallsBackToArchive() {
+        // Arrange
+        ArchivedBooking archived = new ArchivedBooking(7L, 1L, "EMP9876", "John Doe",
+                ResourceType.HOTEL, "Paris", LocalDateTime.of(2020, 1, 1, 8, 0),
+                LocalDateTime.of(2020, 1, 3, 18, 0), 1, "CC-456", "Offsite", BookingStatus.CONFIRMED);
+        BookingResponse archivedResponse = BookingResponse.builder().id(7L).build();
+        when(bookingRepository.findById(7L)).thenReturn(Optional.empty());
+        when(bookingArchive.findById(7L)).thenReturn(Optional.of(archived));
+        when(bookingMapper.toResponse(archived)).thenReturn(archivedResponse);
+
+        // Act
+        BookingResponse response = bookingService.getBooking(7L);
+
+        // Assert
+        assertSame(archivedResponse, response);
+    }
+
+    @Test
+    void testSearchBookings_UsesReadModelWhenEnabled() {
+        // Arrange
+        BookingSearchCriteria criteria = BookingSearchCriteria.builder().destination("NYC").build();
+        List<BookingResponse> page = List.of(BookingResponse.builder().id(1L).build());
+        when(bookingReadModel.isEnabled()).thenReturn(true);
+        when(bookingReadModel.search(criteria, 0L, BookingService.MAX_PAGE_SIZE)).thenReturn(page);
+
+        // Act
+        List<BookingResponse> result = bookingService.searchBookings(criteria, 0L, 10_000);
+
+        // Assert
+        assertSame(page, result);
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void testCountBookings_WithoutReadModel_QueriesWholeDepartureDays() {
+        // Arrange
+        BookingSearchCriteria criteria = BookingSearchCriteria.builder()
+                .departureFrom(LocalDate.of(2024, 11, 5))
+                .departureTo(LocalDate.of(2024, 11, 8))
+                .build();
+        when(bookingRepository.countMatching(null, null, null, null,
+                LocalDateTime.of(2024, 11, 5, 0, 0), LocalDateTime.of(2024, 11, 9, 0, 0))).thenReturn(3L);
+
+        // Act & Assert
+        assertEquals(3L, bookingService.countBookings(criteria));
+        criteria.setDepartureTo(LocalDate.of(2024, 11, 4));
+        assertThrows(IllegalArgumentException.class, () -> bookingService.countBookings(criteria));
+    }
 }
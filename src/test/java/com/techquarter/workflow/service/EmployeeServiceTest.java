@@ -1,5 +1,6 @@
 package com.techquarter.workflow.service;
 
+import com.techquarter.workflow.domain.event.EmployeesChangedEvent;
 import com.techquarter.workflow.domain.model.Employee;
 import com.techquarter.workflow.domain.repository.EmployeeRepository;
 import com.techquarter.workflow.dto.CreateEmployeeRequest;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +31,9 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeMapper employeeMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -75,6 +81,7 @@ class EmployeeServiceTest {
         assertEquals("John Doe", response.getName());
         assertEquals("john@example.com", response.getEmail());
         verify(employeeRepository, times(1)).save(any(Employee.class));
+        verify(eventPublisher).publishEvent(new EmployeesChangedEvent(List.of(testEmployee), true));
     }
 
     @Test
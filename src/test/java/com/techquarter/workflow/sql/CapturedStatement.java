@@ -0,0 +1,15 @@
+package com.techquarter.workflow.sql;
+
+import java.util.List;
+
+/**
+ * One JDBC round trip: a query, an update, or a whole batch.
+ *
+ * @param parameters the values bound for the (last) execution, by position starting at 1
+ */
+record CapturedStatement(String sql, List<Object> parameters, boolean batch) {
+
+    boolean isSelect() {
+        return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+}
@@ -0,0 +1,247 @@
+package com.techquarter.workflow.sql;
+
+import com.techquarter.workflow.controller.ApprovalController;
+import com.techquarter.workflow.controller.BookingController;
+import com.techquarter.workflow.controller.EmployeeController;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.dto.ApprovalDecisionRequest;
+import com.techquarter.workflow.dto.ApprovalRouteRequest;
+import com.techquarter.workflow.dto.ApprovalStepRequest;
+import com.techquarter.workflow.dto.ApprovalTaskResponse;
+import com.techquarter.workflow.dto.BookingResponse;
+import com.techquarter.workflow.dto.CreateBookingRequest;
+import com.techquarter.workflow.dto.CreateEmployeeRequest;
+import com.techquarter.workflow.service.ApprovalRouteService;
+import com.techquarter.workflow.service.BookingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Maximum number of JDBC round trips per endpoint, measured with cold caches against employees
+ * that each have several bookings. A budget that is exceeded usually means a lazy association
+ * is loaded per row (N+1) or a write stopped being batched.
+ */
+@SpringBootTest
+@Import(SqlCaptureConfig.class)
+class EndpointStatementBudgetTest {
+
+    private static final int EMPLOYEES = 20;
+    private static final int BOOKINGS_PER_EMPLOYEE = 5;
+    private static final AtomicInteger RUN = new AtomicInteger();
+
+    @Autowired
+    private BookingController bookingController;
+
+    @Autowired
+    private EmployeeController employeeController;
+
+    @Autowired
+    private ApprovalController approvalController;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ApprovalRouteService approvalRouteService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private String prefix;
+    private List<Booking> seeded;
+
+    @BeforeEach
+    void seed() {
+        prefix = "BUDGET_" + RUN.incrementAndGet() + "_";
+        seeded = new ArrayList<>();
+        for (int e = 0; e < EMPLOYEES; e++) {
+            Employee employee = employeeRepository.save(Employee.builder()
+                    .employeeCode(prefix + e)
+                    .name("Budget " + e)
+                    .email("budget" + e + "@company.com")
+                    .costCenter("CC-BUDGET")
+                    .build());
+            for (int b = 0; b < BOOKINGS_PER_EMPLOYEE; b++) {
+                seeded.add(bookingRepository.save(Booking.builder()
+                        .employee(employee)
+                        .resourceType(ResourceType.FLIGHT)
+                        .destination("Madrid")
+                        .departureDate(LocalDateTime.of(2030, 1, 1 + b, 8, 0))
+                        .returnDate(LocalDateTime.of(2030, 1, 2 + b, 18, 0))
+                        .travelerCount(1)
+                        .costCenterRef("CC-BUDGET")
+                        .tripPurpose("Budget")
+                        .status(BookingStatus.CREATED)
+                        .build()));
+            }
+        }
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void createBooking() {
+        assertBudget(2, () -> bookingController.createBooking(CreateBookingRequest.builder()
+                .employeeCode(prefix + 0)
+                .resourceType(ResourceType.HOTEL)
+                .destination("Rome")
+                .departureDate(LocalDateTime.of(2030, 2, 1, 8, 0))
+                .returnDate(LocalDateTime.of(2030, 2, 3, 18, 0))
+                .travelerCount(1)
+                .costCenterRef("CC-BUDGET")
+                .tripPurpose("Budget")
+                .build()));
+    }
+
+    @Test
+    void getBooking() {
+        Long id = seeded.getFirst().getId();
+        assertBudget(1, () -> bookingController.getBooking(id));
+        // Served from the cache the second time
+        assertBudget(0, () -> bookingController.getBooking(id));
+    }
+
+    @Test
+    void cancelBooking() {
+        Long id = seeded.getFirst().getId();
+        assertBudget(2, () -> bookingController.cancelBooking(id));
+    }
+
+    @Test
+    void confirmBooking() {
+        Long id = seeded.getFirst().getId();
+        assertBudget(2, () -> bookingController.confirmBooking(id));
+    }
+
+    @Test
+    void expireHolds() {
+        List<Booking> held = seeded.subList(0, 10);
+        held.forEach(booking -> booking.setHoldExpiresAt(LocalDateTime.now().minusMinutes(1)));
+        bookingRepository.saveAll(held);
+        List<Long> ids = held.stream().map(Booking::getId).toList();
+
+        assertBudget(2, () -> bookingService.expireHolds(ids));
+        assertTrue(bookingRepository.findAllById(ids).stream()
+                .allMatch(booking -> booking.getStatus() == BookingStatus.CANCELLED && booking.getHoldExpiresAt() == null));
+        assertBudget(1, () -> bookingService.expireHolds(ids));
+    }
+
+    @Test
+    void getBookingsByEmployee() {
+        assertBudget(2, () -> bookingController.getBookingsByEmployee(prefix + 3));
+    }
+
+    @Test
+    void getAllBookings() {
+        assertBudget(1, () -> bookingController.getAllBookings());
+    }
+
+    @Test
+    void getBookingsPage() {
+        long afterId = seeded.getFirst().getId() - 1;
+        assertBudget(1, () -> bookingController.getBookingsPage(afterId, 100));
+    }
+
+    @Test
+    void approvalInboxAndDecisions() {
+        String costCenter = "CC-" + prefix;
+        employeeRepository.save(Employee.builder()
+                .employeeCode(prefix + "REQ")
+                .name("Requester")
+                .email("requester@company.com")
+                .costCenter(costCenter)
+                .build());
+        approvalRouteService.putRoute(costCenter, ApprovalRouteRequest.builder()
+                .steps(List.of(new ApprovalStepRequest("Manager", prefix + 1), new ApprovalStepRequest("Finance", prefix + 2)))
+                .build());
+        try {
+            BookingResponse booking = bookingService.createBooking(CreateBookingRequest.builder()
+                    .employeeCode(prefix + "REQ")
+                    .resourceType(ResourceType.FLIGHT)
+                    .destination("Vienna")
+                    .departureDate(LocalDateTime.of(2030, 3, 1, 8, 0))
+                    .returnDate(LocalDateTime.of(2030, 3, 2, 18, 0))
+                    .travelerCount(1)
+                    .costCenterRef(costCenter)
+                    .tripPurpose("Budget")
+                    .build());
+
+            assertBudget(1, () -> approvalController.getInbox(prefix + 1, 0, 50));
+            assertBudget(1, () -> approvalController.getBookingApprovals(booking.getId()));
+            ApprovalTaskResponse first = approvalController.getInbox(prefix + 1, 0, 50).getBody().getFirst();
+            // Task, booking lock, task update, next step insert
+            assertBudget(4, () -> approvalController.approve(first.getId(),
+                    new ApprovalDecisionRequest(prefix + 1, first.getVersion(), null)));
+            ApprovalTaskResponse last = approvalController.getInbox(prefix + 2, 0, 50).getBody().getFirst();
+            // Task, booking lock, task update, booking update
+            assertBudget(4, () -> approvalController.approve(last.getId(),
+                    new ApprovalDecisionRequest(prefix + 2, last.getVersion(), null)));
+        } finally {
+            approvalRouteService.deleteRoute(costCenter);
+        }
+    }
+
+    @Test
+    void createEmployee() {
+        assertBudget(1, () -> employeeController.createEmployee(CreateEmployeeRequest.builder()
+                .employeeCode(prefix + "NEW")
+                .name("New Hire")
+                .email("new@company.com")
+                .costCenter("CC-BUDGET")
+                .build()));
+    }
+
+    @Test
+    void getEmployee() {
+        assertBudget(1, () -> employeeController.getEmployee(prefix + 1));
+        assertBudget(0, () -> employeeController.getEmployee(prefix + 1));
+    }
+
+    @Test
+    void importEmployees() {
+        StringBuilder csv = new StringBuilder("employeeCode,name,email,costCenter\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append(prefix).append("IMP").append(i).append(",Imported ").append(i)
+                    .append(",imp").append(i).append("@company.com,CC-BUDGET\n");
+        }
+        byte[] body = csv.toString().getBytes(StandardCharsets.UTF_8);
+        // One batched MERGE per workflow.employee-import.batch-size rows
+        assertBudget(1, () -> {
+            try {
+                return employeeController.importEmployees("text/csv", new ByteArrayInputStream(body));
+            } catch (java.io.IOException ex) {
+                throw new java.io.UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private static void assertBudget(int maxStatements, java.util.function.Supplier<?> request) {
+        List<CapturedStatement> statements = SqlCapture.capture(request).statements();
+        assertTrue(statements.size() <= maxStatements, () -> "Expected at most " + maxStatements
+                + " statements but " + statements.size() + " were executed:\n  "
+                + String.join("\n  ", statements.stream().map(CapturedStatement::sql).toList()));
+    }
+}
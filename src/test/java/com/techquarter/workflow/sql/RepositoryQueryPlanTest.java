@@ -0,0 +1,161 @@
+package com.techquarter.workflow.sql;
+
+import com.techquarter.workflow.domain.model.ApprovalStatus;
+import com.techquarter.workflow.domain.model.Booking;
+import com.techquarter.workflow.domain.model.BookingStatus;
+import com.techquarter.workflow.domain.model.Employee;
+import com.techquarter.workflow.domain.model.ResourceType;
+import com.techquarter.workflow.domain.repository.ApprovalStepRepository;
+import com.techquarter.workflow.domain.repository.ApprovalTaskRepository;
+import com.techquarter.workflow.domain.repository.BookingRepository;
+import com.techquarter.workflow.domain.repository.EmployeeRepository;
+import com.techquarter.workflow.domain.repository.TravelPolicyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs each request-path repository query and checks H2's plan for it, so a dropped index or a
+ * rewritten query that falls back to a full table scan fails the build.
+ * <p>
+ * Queries that scan on purpose are not listed here: {@code findStaysByStatusNot} and
+ * {@code findDirectoryEntries} load every active booking or employee once at startup, the travel
+ * policy and approval step tables are read whole on every reload and are a few rows per cost
+ * center, {@code findAll} on bookings returns the whole table by contract, and
+ * {@code countMatching} counts over arbitrary filter combinations (the booking read model answers
+ * it from memory when enabled).
+ */
+@SpringBootTest
+@Import(SqlCaptureConfig.class)
+class RepositoryQueryPlanTest {
+
+    private static final AtomicInteger RUN = new AtomicInteger();
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TravelPolicyRepository travelPolicyRepository;
+
+    @Autowired
+    private ApprovalStepRepository approvalStepRepository;
+
+    @Autowired
+    private ApprovalTaskRepository approvalTaskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String prefix;
+    private Employee employee;
+    private Booking booking;
+
+    @BeforeEach
+    void seed() {
+        prefix = "PLAN_" + RUN.incrementAndGet() + "_";
+        for (int e = 0; e < 50; e++) {
+            employee = employeeRepository.save(Employee.builder()
+                    .employeeCode(prefix + e)
+                    .name("Plan " + e)
+                    .email("plan" + e + "@company.com")
+                    .costCenter("CC-PLAN")
+                    .build());
+            for (int b = 0; b < 4; b++) {
+                booking = bookingRepository.save(Booking.builder()
+                        .employee(employee)
+                        .resourceType(ResourceType.HOTEL)
+                        .destination("Paris")
+                        .departureDate(LocalDateTime.of(2031, 3, 1 + b, 8, 0))
+                        .returnDate(LocalDateTime.of(2031, 3, 2 + b, 18, 0))
+                        .travelerCount(1)
+                        .costCenterRef("CC-PLAN")
+                        .tripPurpose("Plan")
+                        .status(BookingStatus.CREATED)
+                        .build());
+            }
+        }
+    }
+
+    @Test
+    void employeeLookupsUseIndexes() {
+        assertIndexed(() -> employeeRepository.findByEmployeeCode(prefix + 7));
+        assertIndexed(() -> employeeRepository.findByEmployeeCodeIn(List.of(prefix + 1, prefix + 2)));
+    }
+
+    @Test
+    void bookingLookupsUseIndexes() {
+        assertIndexed(() -> bookingRepository.findById(booking.getId()));
+        assertIndexed(() -> bookingRepository.findByEmployeeId(employee.getId()));
+        assertIndexed(() -> bookingRepository.findByIdGreaterThanOrderByIdAsc(booking.getId() - 100, Limit.of(50)));
+        assertIndexed(() -> bookingRepository.findRowsAfter(booking.getId() - 100, Limit.of(50)));
+        assertIndexed(() -> bookingRepository.search(BookingStatus.CREATED, null, "Paris", null, null, null,
+                booking.getId() - 100, Limit.of(50)));
+        assertIndexed(() -> bookingRepository.findIdsByIdIn(List.of(booking.getId(), booking.getId() - 1)));
+    }
+
+    @Test
+    void archiveQueriesUseIndexes() {
+        assertIndexed(() -> bookingRepository.findArchivable(
+                LocalDateTime.of(2000, 1, 1, 0, 0), 0L, Limit.of(100)));
+        assertIndexed(() -> transactionTemplate.execute(status ->
+                bookingRepository.deleteByIdInAndStatus(BookingStatus.CONFIRMED, List.of(-1L, -2L))));
+    }
+
+    @Test
+    void holdQueriesUseIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = List.of(booking.getId(), booking.getId() - 1);
+        assertIndexed(() -> bookingRepository.findHoldsAfter(booking.getId() - 100, Limit.of(50)));
+        assertIndexed(() -> transactionTemplate.execute(status -> bookingRepository.findByIdForUpdate(booking.getId())));
+        assertIndexed(() -> transactionTemplate.execute(status -> bookingRepository.lockExpiredHolds(ids, now)));
+        assertIndexed(() -> transactionTemplate.execute(status -> bookingRepository.cancelExpiredHolds(ids, now)));
+    }
+
+    @Test
+    void approvalQueriesUseIndexes() {
+        assertIndexed(() -> approvalTaskRepository.findInbox(prefix + 1, ApprovalStatus.PENDING, 0L, Limit.of(50)));
+        // The page must come off the index in order, not from sorting every pending task
+        String inboxPlan = plan(SqlCapture.capture(() -> approvalTaskRepository.findInbox(
+                prefix + 1, ApprovalStatus.PENDING, 0L, Limit.of(50))).statements().getFirst());
+        assertTrue(inboxPlan.contains("index sorted"), () -> "Inbox page is sorted after the scan:\n" + inboxPlan);
+        assertIndexed(() -> approvalTaskRepository.findByBookingIdOrderByIdAsc(booking.getId()));
+        assertIndexed(() -> transactionTemplate.execute(status -> approvalTaskRepository.withdrawPending(booking.getId())));
+        assertIndexed(() -> approvalStepRepository.findByCostCenterOrderByStepOrderAsc("CC-PLAN"));
+    }
+
+    @Test
+    void policyLookupUsesIndex() {
+        assertIndexed(() -> travelPolicyRepository.findByCostCenter("CC-PLAN"));
+    }
+
+    private void assertIndexed(java.util.function.Supplier<?> query) {
+        List<CapturedStatement> statements = SqlCapture.capture(query).statements();
+        assertFalse(statements.isEmpty(), "Query did not reach the database");
+        for (CapturedStatement statement : statements) {
+            String plan = plan(statement);
+            assertFalse(plan.contains("tableScan"), () -> "Full table scan in plan:\n" + plan);
+        }
+    }
+
+    private String plan(CapturedStatement statement) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + statement.sql(), String.class,
+                statement.parameters().toArray());
+    }
+}
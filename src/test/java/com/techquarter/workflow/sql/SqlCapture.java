@@ -0,0 +1,126 @@
+package com.techquarter.workflow.sql;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Records the SQL executed by the current thread.
+ * <p>
+ * {@link #wrap(DataSource)} returns a proxy that reports every {@code execute*} call on
+ * statements it hands out. Only threads inside {@link #capture(Supplier)} record anything, so
+ * background work (cache invalidation polling, policy reloads) never skews a measurement.
+ */
+final class SqlCapture {
+
+    private static final ThreadLocal<List<CapturedStatement>> CURRENT = new ThreadLocal<>();
+
+    private SqlCapture() {
+    }
+
+    static <T> Captured<T> capture(Supplier<T> action) {
+        List<CapturedStatement> statements = new ArrayList<>();
+        List<CapturedStatement> outer = CURRENT.get();
+        CURRENT.set(statements);
+        try {
+            T result = action.get();
+            return new Captured<>(result, List.copyOf(statements));
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    static List<CapturedStatement> capture(Runnable action) {
+        return capture(() -> {
+            action.run();
+            return null;
+        }).statements();
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement) {
+                return result;
+            }
+            if (result instanceof PreparedStatement prepared) {
+                return wrap(PreparedStatement.class, prepared, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return wrap(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private static <S extends Statement> S wrap(Class<S> type, S statement, String preparedSql) {
+        TreeMap<Integer, Object> parameters = new TreeMap<>();
+        boolean[] batched = {false};
+        return proxy(type, statement, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("addBatch")) {
+                batched[0] = true;
+            } else if (name.startsWith("execute")) {
+                List<CapturedStatement> statements = CURRENT.get();
+                if (statements != null) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+                    boolean batch = name.equals("executeBatch") || name.equals("executeLargeBatch");
+                    statements.add(new CapturedStatement(sql, new ArrayList<>(parameters.values()), batch && batched[0]));
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            if (method.getName().equals("unwrap") && args[0] instanceof Class<?> wanted && wanted.isInstance(target)) {
+                return target;
+            }
+            return handler.handle(target, method, args);
+        };
+        return (T) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler<T> {
+        Object handle(T target, Method method, Object[] args) throws Throwable;
+    }
+
+    record Captured<T>(T result, List<CapturedStatement> statements) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.techquarter.workflow.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes the application's {@link DataSource} through {@link SqlCapture}.
+ */
+@TestConfiguration
+class SqlCaptureConfig {
+
+    @Bean
+    static BeanPostProcessor sqlCapturingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? SqlCapture.wrap(dataSource) : bean;
+            }
+        };
+    }
+}